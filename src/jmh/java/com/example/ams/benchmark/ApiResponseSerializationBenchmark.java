@@ -0,0 +1,56 @@
+package com.example.ams.benchmark;
+
+import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of an {@code APIResponse<List<AssetResponseDTO>>} page with the same
+ * ObjectMapper configuration Spring MVC uses, through a plain and a pre-resolved writer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writer;
+    private APIResponse<List<AssetResponseDTO>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructParametricType(APIResponse.class,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, AssetResponseDTO.class)));
+
+        List<AssetResponseDTO> assets = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            assets.add(new AssetResponseDTO(String.valueOf(100_000 + i), "Asset " + i, "EQUIPMENT",
+                    "1249.99", "2024-03-15", "Benchmark Owner", "Equipment"));
+        }
+        response = new APIResponse<>(true, "Assets fetched successfully", assets);
+    }
+
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] typedWriter() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
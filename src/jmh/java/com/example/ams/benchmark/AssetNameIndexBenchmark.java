@@ -0,0 +1,85 @@
+package com.example.ams.benchmark;
+
+import com.example.ams.service.impl.AssetNameIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead latency of {@link AssetNameIndex} over synthetic asset names, reported as a
+ * sampled distribution so p99/p999 can be read off directly. Setup prints the build time and the
+ * heap retained by the index; the write benchmark measures a put into a loaded index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class AssetNameIndexBenchmark {
+
+    private static final String[] BRANDS = {"Dell", "Lenovo", "Apple", "HP", "Asus", "Samsung", "Cisco", "Herman"};
+    private static final String[] MODELS = {"Latitude", "ThinkPad", "MacBook", "EliteBook", "ZenBook", "Galaxy", "Catalyst", "Aeron"};
+    private static final String[] TYPES = {"Laptop", "Phone", "Monitor", "Switch", "Chair", "Tablet"};
+
+    @Param({"1000000"})
+    private int assets;
+
+    @Param({"l", "lat", "dell lat", "thinkpad 4711", "zzz"})
+    private String query;
+
+    private AssetNameIndex index;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        List<AssetNameIndex.Entry> entries = new ArrayList<>(assets);
+        for (int i = 0; i < assets; i++) {
+            entries.add(new AssetNameIndex.Entry(i + 1L, name(i), TYPES[i % TYPES.length]));
+        }
+
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        long start = System.nanoTime();
+        index = new AssetNameIndex(50_000);
+        index.beginRebuild();
+        index.finishRebuild(entries);
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        entries = null;
+        System.gc();
+        long retained = memory.getHeapMemoryUsage().getUsed() - before;
+
+        System.out.printf("%nAssetNameIndex: %d entries built in %d ms, ~%d MB retained (%d bytes/entry)%n",
+                index.size(), buildMillis, retained / (1024 * 1024), retained / Math.max(assets, 1));
+        nextId = assets + 1L;
+    }
+
+    @Benchmark
+    public List<AssetNameIndex.Entry> suggest() {
+        return index.suggest(query, 10);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<AssetNameIndex.Entry> suggestConcurrent() {
+        return index.suggest(query, 10);
+    }
+
+    @Benchmark
+    public void put() {
+        long id;
+        synchronized (this) {
+            id = nextId++;
+        }
+        index.put(id, name((int) id), TYPES[(int) (id % TYPES.length)]);
+    }
+
+    private static String name(int i) {
+        return BRANDS[i % BRANDS.length] + " " + MODELS[(i / BRANDS.length) % MODELS.length] + " " + (i % 10_000);
+    }
+}
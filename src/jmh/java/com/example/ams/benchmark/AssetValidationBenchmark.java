@@ -0,0 +1,64 @@
+package com.example.ams.benchmark;
+
+import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.impl.AssetServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request validation at the top of {@link AssetServiceImpl#saveAsset}: a payload with a missing
+ * field and one with a malformed owner id. Both are rejected before any collaborator is touched,
+ * so the service is built without them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetValidationBenchmark {
+
+    private AssetServiceImpl assetService;
+    private AssetRequestDTO missingField;
+    private AssetRequestDTO malformedOwnerId;
+
+    @Setup
+    public void setUp() {
+        assetService = new AssetServiceImpl(null, null, null, null, null);
+
+        missingField = request("  Laptop  ", "EQUIPMENT", "1249.99", "7", "3");
+        missingField.setType("   ");
+        malformedOwnerId = request("  Laptop  ", "EQUIPMENT", "1249.99", "seven", "3");
+    }
+
+    @Benchmark
+    public void missingField(Blackhole blackhole) {
+        try {
+            assetService.saveAsset(missingField);
+        } catch (InvalidRequest e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void malformedOwnerId(Blackhole blackhole) {
+        try {
+            assetService.saveAsset(malformedOwnerId);
+        } catch (InvalidRequest e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    private static AssetRequestDTO request(String name, String type, String value, String ownerId, String categoryId) {
+        AssetRequestDTO request = new AssetRequestDTO();
+        request.setName(name);
+        request.setType(type);
+        request.setValue(value);
+        request.setOwnerId(ownerId);
+        request.setCategoryId(categoryId);
+        return request;
+    }
+}
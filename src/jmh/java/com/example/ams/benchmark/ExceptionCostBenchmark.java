@@ -0,0 +1,63 @@
+package com.example.ams.benchmark;
+
+import com.example.ams.exceptionhandling.ResourceNotFound;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a "not found" lookup at a given call depth: the old path, which threw a stack-capturing
+ * exception and re-wrapped it in the catch block, against the stackless {@link ResourceNotFound}
+ * the services throw now. Run with the jmh profile's gc profiler to compare allocation per op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionCostBenchmark {
+
+    @Param({"20", "100"})
+    private int depth;
+
+    private final Optional<String> missing = Optional.empty();
+
+    @Benchmark
+    public void wrappedRuntimeException(Blackhole blackhole) {
+        try {
+            legacyLookup(depth);
+        } catch (RuntimeException e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void stacklessResourceNotFound(Blackhole blackhole) {
+        try {
+            lookup(depth);
+        } catch (ResourceNotFound e) {
+            blackhole.consume(e.getMessage());
+        }
+    }
+
+    private String legacyLookup(int remaining) {
+        if (remaining > 0) {
+            return legacyLookup(remaining - 1);
+        }
+        try {
+            return missing.orElseThrow(() -> new RuntimeException("Asset not found"));
+        } catch (Exception e) {
+            throw new IllegalStateException("Error fetching asset: " + e.getMessage(), e);
+        }
+    }
+
+    private String lookup(int remaining) {
+        if (remaining > 0) {
+            return lookup(remaining - 1);
+        }
+        return missing.orElseThrow(() -> new ResourceNotFound("Asset not found"));
+    }
+}
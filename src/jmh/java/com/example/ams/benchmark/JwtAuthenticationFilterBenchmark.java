@@ -0,0 +1,82 @@
+package com.example.ams.benchmark;
+
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.security.JwtAuthenticationFilter;
+import com.example.ams.security.JwtTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link JwtAuthenticationFilter}: a hot token served from the claims
+ * cache, a token that is verified from scratch every time, and a request without a token.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JwtTokenService cachedTokens = new JwtTokenService(objectMapper, SECRET, Duration.ofMinutes(15), 100_000);
+        JwtTokenService uncachedTokens = new JwtTokenService(objectMapper, SECRET, Duration.ofMinutes(15), 0);
+        cachedFilter = new JwtAuthenticationFilter(cachedTokens);
+        uncachedFilter = new JwtAuthenticationFilter(uncachedTokens);
+
+        User user = new User();
+        user.setId(42L);
+        user.setName("Benchmark User");
+        user.setEmail("benchmark@example.com");
+        user.setRole(Role.USER);
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/assets");
+        authenticatedRequest.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + cachedTokens.issue(user));
+        anonymousRequest = new MockHttpServletRequest("GET", "/assets");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void cachedToken(Blackhole blackhole) throws Exception {
+        cachedFilter.doFilter(authenticatedRequest, response, NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void uncachedToken(Blackhole blackhole) throws Exception {
+        uncachedFilter.doFilter(authenticatedRequest, response, NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void anonymousRequest(Blackhole blackhole) throws Exception {
+        cachedFilter.doFilter(anonymousRequest, response, NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
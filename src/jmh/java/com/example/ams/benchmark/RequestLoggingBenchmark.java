@@ -0,0 +1,116 @@
+package com.example.ams.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request throughput under the old logging (eight synchronous INFO lines for a transaction update)
+ * against the async-logging profile (guarded DEBUG lines plus one summary line through a bounded,
+ * non-blocking queue). Events are written to a temp file to stand in for the console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%X{requestId:-}] %t %logger{39} : %m%n";
+
+    @Param({"sync-verbose", "async-summary"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger controllerLogger;
+    private Logger serviceLogger;
+    private Logger summaryLogger;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("ams-logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        Level applicationLevel = Level.INFO;
+        if ("async-summary".equals(mode)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+            applicationLevel = Level.WARN;
+        }
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        context.getLogger("com.example.ams").setLevel(applicationLevel);
+
+        controllerLogger = context.getLogger("com.example.ams.controller.TransactionController");
+        serviceLogger = context.getLogger("com.example.ams.service.impl.TransactionServiceImpl");
+        summaryLogger = context.getLogger("ams.request");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public long updateTransactionRequest() {
+        long startedAt = System.nanoTime();
+        String id = "42";
+        LocalDate today = LocalDate.now();
+
+        if ("sync-verbose".equals(mode)) {
+            controllerLogger.info("Inside updateTransaction.");
+            serviceLogger.info("Starting update for transaction with ID: {}", id);
+            serviceLogger.info("Transaction with ID: {} found.", id);
+            serviceLogger.info("Asset updated for transaction ID: {}. New asset: {}", id, "Laptop");
+            serviceLogger.info("Transaction type updated for transaction ID: {}. New type: {}", id, "PURCHASE");
+            serviceLogger.info("Amount updated for transaction ID: {}. New amount: {}", id, 1250.0);
+            serviceLogger.info("Transaction date updated for transaction ID: {}. New date: {}", id, today);
+            serviceLogger.info("Transaction with ID: {} updated successfully.", id);
+        } else {
+            controllerLogger.debug("Inside updateTransaction.");
+            if (serviceLogger.isDebugEnabled()) {
+                serviceLogger.debug("Transaction {} updated: asset={}, type={}, amount={}, date={}", id,
+                        7L, "PURCHASE", 1250.0, today);
+            }
+            summaryLogger.info("requestId={} method={} path={} status={} durationUs={} rows={}",
+                    "bench", "PUT", "/transactions/42", 200, (System.nanoTime() - startedAt) / 1_000, "-");
+        }
+        return startedAt;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.ams.benchmark;
+
+import com.example.ams.AmsApplication;
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.datamodels.form.request.TransactionRequestDTO;
+import com.example.ams.datamodels.form.response.AssetBalanceDTO;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import com.example.ams.service.AssetBalanceService;
+import com.example.ams.service.AssetImportService;
+import com.example.ams.service.AssetService;
+import com.example.ams.service.TransactionIngestionService;
+import com.example.ams.service.TransactionService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service methods behind the busiest endpoints, running in the full application context on the
+ * in-memory H2 database used by the load tests (MySQL mode). Seeds {@code assets} assets with two
+ * transactions each before measuring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ServiceHotPathBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int SEED_CHUNK = 1_000;
+
+    @Param({"10000"})
+    private int assets;
+
+    private ConfigurableApplicationContext context;
+    private AssetService assetService;
+    private AssetBalanceService assetBalanceService;
+    private TransactionService transactionService;
+    private long minAssetId;
+    private long maxAssetId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AmsApplication.class)
+                .profiles("loadtest")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:ams-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1");
+        assetService = context.getBean(AssetService.class);
+        assetBalanceService = context.getBean(AssetBalanceService.class);
+        transactionService = context.getBean(TransactionService.class);
+        seed();
+
+        Object[] idRange = context.getBean(AssetRepository.class).findIdRange().get(0);
+        minAssetId = ((Number) idRange[0]).longValue();
+        maxAssetId = ((Number) idRange[1]).longValue();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AssetResponseDTO getAssetById() {
+        return assetService.getAssetById(String.valueOf(randomAssetId()));
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<AssetResponseDTO> getAssetsPage() {
+        return assetService.getAssets(randomAssetId(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<TransactionResponseDTO> getTransactionsPage() {
+        return transactionService.getTransactionsAfter(null, null, null, null, randomAssetId(), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public AssetBalanceDTO getBalance() {
+        return assetBalanceService.getBalance(String.valueOf(randomAssetId()));
+    }
+
+    @Benchmark
+    public TransactionResponseDTO createAndDeleteTransaction() {
+        TransactionResponseDTO created = transactionService.saveTransaction(
+                transaction(randomAssetId(), "PURCHASE", "125.00"));
+        transactionService.deleteTransaction(created.getId());
+        return created;
+    }
+
+    private long randomAssetId() {
+        return ThreadLocalRandom.current().nextLong(minAssetId, maxAssetId + 1);
+    }
+
+    private void seed() {
+        Category category = new Category();
+        category.setName("Benchmark");
+        category.setDescription("Seeded by ServiceHotPathBenchmark");
+        category = context.getBean(CategoryRepository.class).save(category);
+        String ownerId = context.getBean(UserRepository.class).findAll().get(0).getId().toString();
+
+        AssetImportService assetImportService = context.getBean(AssetImportService.class);
+        for (int from = 0; from < assets; from += SEED_CHUNK) {
+            List<AssetRequestDTO> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = from; i < Math.min(from + SEED_CHUNK, assets); i++) {
+                AssetRequestDTO asset = new AssetRequestDTO();
+                asset.setName("Asset " + i);
+                asset.setType("EQUIPMENT");
+                asset.setValue(String.valueOf(1_000 + i));
+                asset.setOwnerId(ownerId);
+                asset.setCategoryId(category.getId().toString());
+                chunk.add(asset);
+            }
+            assetImportService.importAssets(chunk.iterator());
+        }
+
+        Object[] idRange = context.getBean(AssetRepository.class).findIdRange().get(0);
+        long firstId = ((Number) idRange[0]).longValue();
+        long lastId = ((Number) idRange[1]).longValue();
+        TransactionIngestionService ingestionService = context.getBean(TransactionIngestionService.class);
+        List<TransactionRequestDTO> chunk = new ArrayList<>(SEED_CHUNK);
+        for (long assetId = firstId; assetId <= lastId; assetId++) {
+            chunk.add(transaction(assetId, "PURCHASE", "1000.00"));
+            chunk.add(transaction(assetId, "SALE", "50.00"));
+            if (chunk.size() >= SEED_CHUNK) {
+                ingestionService.saveTransactions(chunk);
+                chunk = new ArrayList<>(SEED_CHUNK);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            ingestionService.saveTransactions(chunk);
+        }
+    }
+
+    private static TransactionRequestDTO transaction(long assetId, String type, String amount) {
+        TransactionRequestDTO transaction = new TransactionRequestDTO();
+        transaction.setAssetId(String.valueOf(assetId));
+        transaction.setTransactionType(type);
+        transaction.setAmount(amount);
+        return transaction;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.datamodels.form.request.AssetV2RequestDTO;
+import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.AssetV2ResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * v1 (all-String) against v2 (typed) asset contract for a full list response: entity-to-DTO
+ * mapping plus JSON serialization per list, and request parsing plus numeric conversion per
+ * create body. Run with {@code -prof gc} for allocation per operation; divide by {@code rows}
+ * for the per-row figure. Lives in the service package so it maps through the package-private
+ * {@link AssetServiceImpl#mapToDTO} and {@link AssetServiceImpl#mapToV2DTO} the endpoints use.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetContractBenchmark {
+
+    private static final String V1_REQUEST =
+            "{\"name\":\"Laptop\",\"type\":\"EQUIPMENT\",\"value\":\"1249.99\",\"ownerId\":\"7\",\"categoryId\":\"3\"}";
+    private static final String V2_REQUEST =
+            "{\"name\":\"Laptop\",\"type\":\"EQUIPMENT\",\"value\":1249.99,\"ownerId\":7,\"categoryId\":3}";
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private List<Asset> assets;
+    private ObjectWriter v1Writer;
+    private ObjectWriter v2Writer;
+    private ObjectReader v1Reader;
+    private ObjectReader v2Reader;
+    private byte[] v1Request;
+    private byte[] v2Request;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        v1Writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructParametricType(APIResponse.class,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, AssetResponseDTO.class)));
+        v2Writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructParametricType(APIResponse.class,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, AssetV2ResponseDTO.class)));
+        v1Reader = objectMapper.readerFor(AssetRequestDTO.class);
+        v2Reader = objectMapper.readerFor(AssetV2RequestDTO.class);
+        v1Request = V1_REQUEST.getBytes(StandardCharsets.UTF_8);
+        v2Request = V2_REQUEST.getBytes(StandardCharsets.UTF_8);
+
+        User owner = new User();
+        owner.setId(7L);
+        owner.setName("Benchmark Owner");
+
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Equipment");
+
+        assets = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Asset asset = new Asset();
+            asset.setId(100_000L + i);
+            asset.setName("Asset " + i);
+            asset.setType("EQUIPMENT");
+            asset.setValue(new BigDecimal("1249.99").add(BigDecimal.valueOf(i)));
+            asset.setPurchaseDate(LocalDate.of(2024, 3, 15).plusDays(i % 365));
+            asset.setOwner(owner);
+            asset.setCategory(category);
+            assets.add(asset);
+        }
+    }
+
+    @Benchmark
+    public byte[] v1List() throws Exception {
+        List<AssetResponseDTO> items = new ArrayList<>(rows);
+        for (Asset asset : assets) {
+            items.add(AssetServiceImpl.mapToDTO(asset));
+        }
+        return v1Writer.writeValueAsBytes(new APIResponse<>(true, "Assets fetched successfully", items));
+    }
+
+    @Benchmark
+    public byte[] v2List() throws Exception {
+        List<AssetV2ResponseDTO> items = new ArrayList<>(rows);
+        for (Asset asset : assets) {
+            items.add(AssetServiceImpl.mapToV2DTO(asset));
+        }
+        return v2Writer.writeValueAsBytes(new APIResponse<>(true, "Assets fetched successfully", items));
+    }
+
+    @Benchmark
+    public void v1Request(Blackhole blackhole) throws Exception {
+        AssetRequestDTO request = v1Reader.readValue(v1Request);
+        blackhole.consume(new BigDecimal(request.getValue().trim()));
+        blackhole.consume(Long.valueOf(request.getOwnerId().trim()));
+        blackhole.consume(Long.valueOf(request.getCategoryId().trim()));
+    }
+
+    @Benchmark
+    public void v2Request(Blackhole blackhole) throws Exception {
+        AssetV2RequestDTO request = v2Reader.readValue(v2Request);
+        blackhole.consume(request.getValue());
+        blackhole.consume(request.getOwnerId());
+        blackhole.consume(request.getCategoryId());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.AssetV2ResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionV2ResponseDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The services' own entity-to-DTO mappers. The v1 DTOs render every field, including the
+ * {@link LocalDate} and numeric values, to a String up front; the v2 DTOs keep them typed. The
+ * conversions are also measured on their own so the cost of the stringification can be told apart
+ * from the object construction. Lives in the services' package to reach the package-private mappers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private Asset asset;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        User owner = new User();
+        owner.setId(7L);
+        owner.setName("Benchmark Owner");
+
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Equipment");
+
+        asset = new Asset();
+        asset.setId(123_456L);
+        asset.setName("Laptop");
+        asset.setType("EQUIPMENT");
+        asset.setValue(new BigDecimal("1249.99"));
+        asset.setPurchaseDate(LocalDate.of(2024, 3, 15));
+        asset.setOwner(owner);
+        asset.setCategory(category);
+
+        transaction = new Transaction();
+        transaction.setId(987_654L);
+        transaction.setAsset(asset);
+        transaction.setTransactionType(TransactionType.PURCHASE);
+        transaction.setAmount(1249.99);
+        transaction.setTransactionDate(LocalDate.of(2024, 3, 16));
+    }
+
+    @Benchmark
+    public AssetResponseDTO assetToDto() {
+        return AssetServiceImpl.mapToDTO(asset);
+    }
+
+    @Benchmark
+    public AssetV2ResponseDTO assetToV2Dto() {
+        return AssetServiceImpl.mapToV2DTO(asset);
+    }
+
+    @Benchmark
+    public TransactionResponseDTO transactionToDto() {
+        return TransactionServiceImpl.mapToDTO(transaction);
+    }
+
+    @Benchmark
+    public TransactionV2ResponseDTO transactionToV2Dto() {
+        return TransactionServiceImpl.mapToV2DTO(transaction);
+    }
+
+    @Benchmark
+    public String doubleToString() {
+        return transaction.getAmount().toString();
+    }
+
+    @Benchmark
+    public String localDateToString() {
+        return transaction.getTransactionDate().toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.ams.config;
+
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates the first ADMIN account from configuration when the users table is empty, since
+ * every user endpoint requires an admin token.
+ */
+@Component
+public class AdminBootstrapInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminBootstrapInitializer.class);
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final String email;
+    private final String password;
+
+    public AdminBootstrapInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                     @Value("${ams.security.bootstrap-admin.email:}") String email,
+                                     @Value("${ams.security.bootstrap-admin.password:}") String password) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.email = email;
+        this.password = password;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!StringUtils.hasText(email) || !StringUtils.hasText(password) || userRepository.count() > 0) {
+            return;
+        }
+
+        User admin = new User();
+        admin.setName("Administrator");
+        admin.setEmail(email);
+        admin.setPassword(passwordEncoder.encode(password));
+        admin.setRole(Role.ADMIN);
+        userRepository.save(admin);
+        logger.info("Created bootstrap admin user: {}", email);
+    }
+}
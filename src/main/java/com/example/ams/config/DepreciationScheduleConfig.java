@@ -0,0 +1,36 @@
+package com.example.ams.config;
+
+import com.example.ams.exceptionhandling.ResourceConflict;
+import com.example.ams.service.DepreciationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDate;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "ams.depreciation.schedule.enabled", havingValue = "true")
+public class DepreciationScheduleConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepreciationScheduleConfig.class);
+    private final DepreciationService depreciationService;
+
+    public DepreciationScheduleConfig(DepreciationService depreciationService) {
+        this.depreciationService = depreciationService;
+    }
+
+    @Scheduled(cron = "${ams.depreciation.schedule.cron:0 0 2 1 * *}")
+    public void runScheduledDepreciation() {
+        try {
+            depreciationService.run(LocalDate.now(), false);
+        } catch (ResourceConflict e) {
+            logger.warn("Skipping scheduled depreciation: {}", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Scheduled depreciation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.ams.config;
+
+import com.example.ams.datamodels.constants.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Seeds the table-generator rows from the current maximum id, and raises rows that are behind
+ * it, so tables that were filled while ids came from AUTO_INCREMENT keep receiving unused ids.
+ * Runs once all singletons exist, which is after the schema update and before the web server
+ * starts accepting requests.
+ */
+@Component
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorInitializer.class);
+    private static final List<String> TABLES = List.of("assets", "transactions");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String table : TABLES) {
+            // The aggregate sits in a derived table: on its own it yields a row even when the
+            // NOT EXISTS filter removes everything, which would re-insert an existing key.
+            int seeded = jdbcTemplate.update(
+                    "insert into " + Constants.ID_GENERATOR_TABLE + " (entity, next_id) " +
+                            "select ?, m.next_id from (select coalesce(max(id), 0) + ? as next_id from " + table + ") m " +
+                            "where not exists (select 1 from " + Constants.ID_GENERATOR_TABLE + " where entity = ?)",
+                    table, Constants.ID_ALLOCATION_SIZE, table);
+            // A row that already exists may still be behind the table: Hibernate's schema update
+            // inserts every segment at its initial value when it creates id_generators, even
+            // when the table it numbers is already populated.
+            jdbcTemplate.update(
+                    "update " + Constants.ID_GENERATOR_TABLE + " set next_id = greatest(next_id, " +
+                            "(select coalesce(max(id), 0) + ? from " + table + ")) where entity = ?",
+                    Constants.ID_ALLOCATION_SIZE, table);
+            if (seeded > 0) {
+                logger.info("Seeded id generator for table: {}", table);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.ams.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes one structured line per request (id, route, status, duration, rows returned) to the
+ * {@code ams.request} logger, so handlers don't need their own INFO breadcrumbs. The id is taken
+ * from {@code X-Request-Id} when the caller sends one and is exposed to other log lines via MDC.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "ams.logging.request-summary.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestSummaryFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+    private static final String ROWS_ATTRIBUTE = RequestSummaryFilter.class.getName() + ".rows";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+    private static final Logger summaryLogger = LoggerFactory.getLogger("ams.request");
+
+    public static void recordRows(ServletRequest request, int rows) {
+        request.setAttribute(ROWS_ATTRIBUTE, rows);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = requestId(request);
+        long startedAt = System.nanoTime();
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            MDC.remove(REQUEST_ID_MDC_KEY);
+            if (failure == null && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new SummaryOnCompletion(requestId, startedAt));
+            } else {
+                logSummary(requestId, request, status(response, failure), startedAt, failure);
+            }
+        }
+    }
+
+    /** Ids end up in response headers and log lines, so only plain tokens are echoed back. */
+    private String requestId(HttpServletRequest request) {
+        String supplied = request.getHeader(REQUEST_ID_HEADER);
+        if (supplied != null && !supplied.isEmpty() && supplied.length() <= MAX_REQUEST_ID_LENGTH
+                && supplied.chars().allMatch(RequestSummaryFilter::isRequestIdChar)) {
+            return supplied;
+        }
+        return UUID.randomUUID().toString();
+    }
+
+    private static boolean isRequestIdChar(int c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '_' || c == '-';
+    }
+
+    /**
+     * An exception that escapes the chain has not been written to the response yet; the container
+     * turns it into a 500 after this filter returns, so that is the status to report.
+     */
+    private static int status(HttpServletResponse response, Throwable failure) {
+        if (failure != null && response.getStatus() < HttpServletResponse.SC_BAD_REQUEST) {
+            return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        }
+        return response.getStatus();
+    }
+
+    private static void logSummary(String requestId, HttpServletRequest request, int status, long startedAt, Throwable failure) {
+        if (!summaryLogger.isInfoEnabled()) {
+            return;
+        }
+        Object rows = request.getAttribute(ROWS_ATTRIBUTE);
+        summaryLogger.info("requestId={} method={} path={} status={} durationUs={} rows={} error={}",
+                requestId, request.getMethod(), request.getRequestURI(), status,
+                (System.nanoTime() - startedAt) / 1_000, rows == null ? "-" : rows,
+                failure == null ? "-" : failure.getClass().getSimpleName());
+    }
+
+    /**
+     * Logs once, when the async request completes. A timeout or error is remembered so the line
+     * reports it even if the error dispatch left a success status on the response.
+     */
+    private static final class SummaryOnCompletion implements AsyncListener {
+
+        private final String requestId;
+        private final long startedAt;
+        private volatile Throwable failure;
+        private volatile boolean timedOut;
+
+        private SummaryOnCompletion(String requestId, long startedAt) {
+            this.requestId = requestId;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            int status = response.getStatus();
+            if (timedOut && status < HttpServletResponse.SC_BAD_REQUEST) {
+                status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+            } else {
+                status = status(response, failure);
+            }
+            logSummary(requestId, (HttpServletRequest) event.getSuppliedRequest(), status, startedAt, failure);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            timedOut = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failure = event.getThrowable();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.ams.config;
+
+import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.datamodels.form.response.PageResponseDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Collection;
+
+/**
+ * Feeds the number of rows in an {@link APIResponse} payload into the request summary line.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "ams.logging.request-summary.enabled", havingValue = "true", matchIfMissing = true)
+public class RowCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof APIResponse<?> apiResponse && request instanceof ServletServerHttpRequest servletRequest) {
+            int rows = rowCount(apiResponse.getData());
+            if (rows >= 0) {
+                RequestSummaryFilter.recordRows(servletRequest.getServletRequest(), rows);
+            }
+        }
+        return body;
+    }
+
+    private int rowCount(Object data) {
+        if (data instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (data instanceof PageResponseDTO<?> page) {
+            return page.getItems().size();
+        }
+        if (data instanceof CursorPageResponseDTO<?> page) {
+            return page.getItems().size();
+        }
+        return data == null ? 0 : -1;
+    }
+}
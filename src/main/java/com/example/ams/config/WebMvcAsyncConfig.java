@@ -0,0 +1,31 @@
+package com.example.ams.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Writes streamed responses (Flux, StreamingResponseBody) from virtual threads, so a client
+ * that reads slowly parks a virtual thread instead of holding a pooled platform thread. At most
+ * {@code ams.web.async.concurrency-limit} of them run at once; further async dispatches wait
+ * for a slot rather than spawning without bound.
+ */
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    private final int concurrencyLimit;
+
+    public WebMvcAsyncConfig(@Value("${ams.web.async.concurrency-limit:200}") int concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        configurer.setTaskExecutor(executor);
+    }
+}
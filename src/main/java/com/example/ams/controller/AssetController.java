@@ -1,16 +1,44 @@
 package com.example.ams.controller;
 
+import com.example.ams.datamodels.constants.Constants;
 import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.datamodels.form.request.AssetSearchRequestDTO;
 import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.AssetBalanceDTO;
+import com.example.ams.datamodels.form.response.AssetImportJobDTO;
 import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.AssetSuggestionDTO;
+import com.example.ams.datamodels.form.response.AssetSummaryDTO;
+import com.example.ams.datamodels.form.response.BalanceRebuildDTO;
+import com.example.ams.datamodels.form.response.BulkImportResponseDTO;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.AssetBalanceService;
+import com.example.ams.service.AssetCsvImportService;
+import com.example.ams.service.AssetImportService;
 import com.example.ams.service.AssetService;
+import com.example.ams.service.AssetSuggestService;
+import com.example.ams.service.AssetSummaryService;
+import com.example.ams.service.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.ObjectUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -18,84 +46,246 @@ import java.util.List;
 public class AssetController {
     private static final Logger logger = LoggerFactory.getLogger(AssetController.class);
     private final AssetService assetService;
+    private final AssetImportService assetImportService;
+    private final AssetCsvImportService assetCsvImportService;
+    private final AssetSummaryService assetSummaryService;
+    private final AssetBalanceService assetBalanceService;
+    private final AssetSuggestService assetSuggestService;
+    private final ExportService exportService;
+    private final ObjectMapper objectMapper;
 
-    public AssetController(AssetService assetService) {
+    public AssetController(AssetService assetService, AssetImportService assetImportService,
+                           AssetCsvImportService assetCsvImportService, AssetSummaryService assetSummaryService, AssetBalanceService assetBalanceService,
+                           AssetSuggestService assetSuggestService, ExportService exportService,
+                           ObjectMapper objectMapper) {
         this.assetService = assetService;
+        this.assetImportService = assetImportService;
+        this.assetCsvImportService = assetCsvImportService;
+        this.assetSummaryService = assetSummaryService;
+        this.assetBalanceService = assetBalanceService;
+        this.assetSuggestService = assetSuggestService;
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     public ResponseEntity<APIResponse<AssetResponseDTO>> createAsset(@RequestBody AssetRequestDTO request) {
-        logger.info("Inside createAsset in AssetController.");
-        try {
-            if (ObjectUtils.isEmpty(request) || ObjectUtils.isEmpty(request.getName()) || ObjectUtils.isEmpty(request.getType())) {
-                logger.error("Invalid request: Asset name and type cannot be null");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(new APIResponse<>(false, "Invalid request: Asset name and type cannot be null", null));
+        logger.debug("Inside createAsset in AssetController.");
+        if (ObjectUtils.isEmpty(request) || ObjectUtils.isEmpty(request.getName()) || ObjectUtils.isEmpty(request.getType())) {
+            logger.debug("Invalid request: Asset name and type cannot be null");
+            throw new InvalidRequest("Asset name and type cannot be null");
+        }
+        AssetResponseDTO asset = assetService.saveAsset(request);
+        logger.debug("Asset created successfully.");
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset created successfully", asset));
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<APIResponse<BulkImportResponseDTO>> createAssetsBulk(InputStream body) {
+        logger.debug("Inside createAssetsBulk in AssetController.");
+        BulkImportResponseDTO result;
+        try (MappingIterator<AssetRequestDTO> iterator = objectMapper.readerFor(AssetRequestDTO.class).readValues(body)) {
+            result = assetImportService.importAssets(iterator);
+        } catch (IOException | RuntimeJsonMappingException e) {
+            logger.debug("Invalid bulk asset payload: {}", e.getMessage());
+            throw new InvalidRequest(e.getMessage());
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException cause) {
+                // MappingIterator wraps read errors it hits while the service is iterating.
+                logger.debug("Invalid bulk asset payload: {}", cause.getMessage());
+                throw new InvalidRequest(cause.getMessage());
             }
-            AssetResponseDTO asset = assetService.saveAsset(request);
-            logger.info("Asset created successfully.");
-            return ResponseEntity.ok(new APIResponse<>(true, "Asset created successfully", asset));
-        } catch (Exception e) {
-            logger.error("Error creating asset: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error creating asset: " + e.getMessage(), null));
+            throw e;
         }
+
+        logger.debug("Bulk asset import finished.");
+        return ResponseEntity.ok(new APIResponse<>(result.getFailed() == 0,
+                "Imported " + result.getInserted() + " of " + result.getReceived() + " assets", result));
+    }
+
+    @PostMapping(value = "/import", params = "!path", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<APIResponse<AssetImportJobDTO>> importAssetsCsv(InputStream body) {
+        logger.debug("Inside importAssetsCsv in AssetController.");
+        return accepted(assetCsvImportService.importUpload(body));
+    }
+
+    @PostMapping(value = "/import", params = "path")
+    public ResponseEntity<APIResponse<AssetImportJobDTO>> importAssetsCsvFile(
+            @RequestParam("path") String path,
+            @RequestParam(value = "offset", defaultValue = "0") long offset) {
+        logger.debug("Inside importAssetsCsvFile in AssetController.");
+        return accepted(assetCsvImportService.importFile(path, offset));
+    }
+
+    @PostMapping("/import/{jobId}/resume")
+    public ResponseEntity<APIResponse<AssetImportJobDTO>> resumeAssetImport(@PathVariable("jobId") Long jobId) {
+        logger.debug("Inside resumeAssetImport in AssetController.");
+        return accepted(assetCsvImportService.resume(jobId));
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<APIResponse<AssetImportJobDTO>> getAssetImport(@PathVariable("jobId") Long jobId) {
+        logger.debug("Inside getAssetImport in AssetController.");
+        AssetImportJobDTO job = assetCsvImportService.getStatus(jobId);
+        return ResponseEntity.ok(new APIResponse<>(true, "Import status fetched successfully", job));
+    }
+
+    private static ResponseEntity<APIResponse<AssetImportJobDTO>> accepted(AssetImportJobDTO job) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/assets/import/" + job.getJobId()))
+                .body(new APIResponse<>(true, "Asset import queued", job));
     }
 
     @GetMapping
-    public ResponseEntity<APIResponse<List<AssetResponseDTO>>> getAllAssets() {
-        logger.info("Inside getAllAssets in AssetController.");
-        try {
-            List<AssetResponseDTO> assets = assetService.getAllAssets();
-            if (assets == null || assets.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                        .body(new APIResponse<>(true, "No assets found", null));
-            }
-            return ResponseEntity.ok(new APIResponse<>(true, "Assets fetched successfully", assets));
-        } catch (Exception e) {
-            logger.error("Error fetching assets: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error fetching assets: " + e.getMessage(), null));
+    public ResponseEntity<APIResponse<CursorPageResponseDTO<AssetResponseDTO>>> getAllAssets(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", defaultValue = "" + Constants.DEFAULT_PAGE_LIMIT) int limit) {
+        logger.debug("Inside getAllAssets in AssetController.");
+        CursorPageResponseDTO<AssetResponseDTO> page = assetService.getAssets(after, limit);
+        if (page.getItems().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                    .body(new APIResponse<>(true, "No assets found", null));
         }
+        return ResponseEntity.ok(new APIResponse<>(true, "Assets fetched successfully", page));
     }
 
-    @DeleteMapping("/{id}")
-    public ResponseEntity<APIResponse<Void>> deleteAsset(@PathVariable String id) {
-        logger.info("Inside deleteAsset in AssetController.");
-        try {
-            if (ObjectUtils.isEmpty(id)) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(new APIResponse<>(false, "Asset ID cannot be null", null));
+    @GetMapping("/search")
+    public ResponseEntity<APIResponse<CursorPageResponseDTO<AssetResponseDTO>>> searchAssets(
+            AssetSearchRequestDTO criteria,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", defaultValue = "" + Constants.DEFAULT_PAGE_LIMIT) int limit) {
+        logger.debug("Inside searchAssets in AssetController.");
+        CursorPageResponseDTO<AssetResponseDTO> page = assetService.searchAssets(criteria, after, limit);
+        if (page.getItems().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                    .body(new APIResponse<>(true, "No assets found", null));
+        }
+        return ResponseEntity.ok(new APIResponse<>(true, "Assets fetched successfully", page));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<APIResponse<List<AssetSuggestionDTO>>> suggestAssets(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "" + Constants.DEFAULT_SUGGEST_LIMIT) int limit) {
+        logger.debug("Inside suggestAssets in AssetController.");
+        List<AssetSuggestionDTO> suggestions = assetSuggestService.suggest(query, limit);
+        if (suggestions.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                    .body(new APIResponse<>(true, "No assets found", null));
+        }
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset suggestions fetched successfully", suggestions));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<APIResponse<List<AssetSummaryDTO>>> getAssetSummary(
+            @RequestParam(value = "groupBy", defaultValue = "category") String groupBy) {
+        logger.debug("Inside getAssetSummary in AssetController.");
+        List<AssetSummaryDTO> summary = assetSummaryService.getSummary(groupBy);
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset summary fetched successfully", summary));
+    }
+
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<APIResponse<AssetBalanceDTO>> getAssetBalance(@PathVariable("id") String id) {
+        logger.debug("Inside getAssetBalance in AssetController.");
+        AssetBalanceDTO balance = assetBalanceService.getBalance(id);
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset balance fetched successfully", balance));
+    }
+
+    @GetMapping("/balances")
+    public ResponseEntity<APIResponse<List<AssetBalanceDTO>>> getAssetBalances(@RequestParam("ids") List<Long> ids) {
+        logger.debug("Inside getAssetBalances in AssetController.");
+        List<AssetBalanceDTO> balances = assetBalanceService.getBalances(ids);
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset balances fetched successfully", balances));
+    }
+
+    @PostMapping("/balances/rebuild")
+    public ResponseEntity<APIResponse<BalanceRebuildDTO>> rebuildAssetBalances() {
+        logger.debug("Inside rebuildAssetBalances in AssetController.");
+        BalanceRebuildDTO result = assetBalanceService.rebuild();
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset balances rebuilt successfully", result));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAssets() {
+        logger.debug("Inside streamAllAssets in AssetController.");
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                assetService.streamAllAssets(asset -> {
+                    try {
+                        generator.writeObject(asset);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
             }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 
-            assetService.deleteAsset(id);
-            logger.info("Asset deleted successfully.");
-            return ResponseEntity.ok(new APIResponse<>(true, "Asset deleted successfully", null));
-        } catch (Exception e) {
-            logger.error("Error deleting asset: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error deleting asset: " + e.getMessage(), null));
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAssets(
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            HttpServletRequest request) {
+        logger.debug("Inside exportAssets in AssetController.");
+        return ExportResponses.stream("assets", format, request, exportService::exportAssets);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<APIResponse<AssetResponseDTO>> getAssetById(@PathVariable("id") String id) {
+        logger.debug("Inside getAssetById in AssetController.");
+        AssetResponseDTO asset = assetService.getAssetById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(asset.getVersion()))
+                .body(new APIResponse<>(true, "Asset fetched successfully", asset));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<APIResponse<Void>> deleteAsset(@PathVariable String id) {
+        logger.debug("Inside deleteAsset in AssetController.");
+        if (ObjectUtils.isEmpty(id)) {
+            throw new InvalidRequest("Asset ID cannot be null");
         }
+
+        assetService.deleteAsset(id);
+        logger.debug("Asset deleted successfully.");
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset deleted successfully", null));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<APIResponse<AssetResponseDTO>> updateAsset(
             @PathVariable("id") String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody AssetRequestDTO assetRequestDTO) {
-        logger.info("Inside updateAsset in AssetController.");
-        try {
-            if (ObjectUtils.isEmpty(assetRequestDTO)) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(new APIResponse<>(false, "Invalid request body", null));
-            }
+        logger.debug("Inside updateAsset in AssetController.");
+        if (ObjectUtils.isEmpty(assetRequestDTO)) {
+            throw new InvalidRequest("Invalid request body");
+        }
 
-            AssetResponseDTO updatedAsset = assetService.updateAsset(id, assetRequestDTO);
-            logger.info("Asset updated successfully.");
-            return ResponseEntity.ok(new APIResponse<>(true, "Asset updated successfully", updatedAsset));
-        } catch (Exception e) {
-            logger.error("Error updating asset: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error updating asset: " + e.getMessage(), null));
+        AssetResponseDTO updatedAsset = assetService.updateAsset(id, assetRequestDTO, ETags.parseIfMatch(ifMatch));
+        logger.debug("Asset updated successfully.");
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updatedAsset.getVersion()))
+                .body(new APIResponse<>(true, "Asset updated successfully", updatedAsset));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<APIResponse<AssetResponseDTO>> patchAsset(
+            @PathVariable("id") String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody AssetRequestDTO assetRequestDTO) {
+        logger.debug("Inside patchAsset in AssetController.");
+        if (ObjectUtils.isEmpty(assetRequestDTO)) {
+            throw new InvalidRequest("Invalid request body");
         }
+
+        AssetResponseDTO patchedAsset = assetService.patchAsset(id, assetRequestDTO, ETags.requireIfMatch(ifMatch));
+        logger.debug("Asset patched successfully.");
+        return ResponseEntity.ok()
+                .eTag(ETags.of(patchedAsset.getVersion()))
+                .body(new APIResponse<>(true, "Asset updated successfully", patchedAsset));
     }
 }
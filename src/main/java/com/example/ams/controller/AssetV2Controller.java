@@ -0,0 +1,62 @@
+package com.example.ams.controller;
+
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.form.request.AssetV2RequestDTO;
+import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.AssetV2ResponseDTO;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.AssetService;
+import org.apache.commons.lang3.ObjectUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Typed variant of {@link AssetController}: ids, values and dates travel as JSON numbers and
+ * ISO dates instead of strings, so neither side has to parse or format them per request.
+ * Covers create, cursor listing and lookup; updates and deletes, with their If-Match handling,
+ * stay on the v1 routes.
+ */
+@RestController
+@RequestMapping("/v2/assets")
+public class AssetV2Controller {
+    private static final Logger logger = LoggerFactory.getLogger(AssetV2Controller.class);
+    private final AssetService assetService;
+
+    public AssetV2Controller(AssetService assetService) {
+        this.assetService = assetService;
+    }
+
+    @PostMapping
+    public ResponseEntity<APIResponse<AssetV2ResponseDTO>> createAsset(@RequestBody AssetV2RequestDTO request) {
+        logger.debug("Inside createAsset in AssetV2Controller.");
+        if (ObjectUtils.isEmpty(request) || ObjectUtils.isEmpty(request.getName()) || ObjectUtils.isEmpty(request.getType())) {
+            throw new InvalidRequest("Asset name and type cannot be null");
+        }
+        AssetV2ResponseDTO asset = assetService.saveAssetV2(request);
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset created successfully", asset));
+    }
+
+    @GetMapping
+    public ResponseEntity<APIResponse<CursorPageResponseDTO<AssetV2ResponseDTO>>> getAllAssets(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "limit", defaultValue = "" + Constants.DEFAULT_PAGE_LIMIT) int limit) {
+        logger.debug("Inside getAllAssets in AssetV2Controller.");
+        CursorPageResponseDTO<AssetV2ResponseDTO> page = assetService.getAssetsV2(after, limit);
+        if (page.getItems().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                    .body(new APIResponse<>(true, "No assets found", null));
+        }
+        return ResponseEntity.ok(new APIResponse<>(true, "Assets fetched successfully", page));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<APIResponse<AssetV2ResponseDTO>> getAssetById(@PathVariable("id") long id) {
+        logger.debug("Inside getAssetById in AssetV2Controller.");
+        AssetV2ResponseDTO asset = assetService.getAssetByIdV2(id);
+        return ResponseEntity.ok(new APIResponse<>(true, "Asset fetched successfully", asset));
+    }
+}
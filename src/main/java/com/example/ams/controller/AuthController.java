@@ -0,0 +1,49 @@
+package com.example.ams.controller;
+
+import com.example.ams.datamodels.form.request.LoginRequestDTO;
+import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.LoginResponseDTO;
+import com.example.ams.datamodels.form.response.UserResponseDTO;
+import com.example.ams.service.AuthService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/auth")
+public class AuthController {
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+    private static final String BEARER_PREFIX = "Bearer ";
+    private final AuthService authService;
+
+    public AuthController(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<APIResponse<LoginResponseDTO>>> login(@RequestBody LoginRequestDTO request) {
+        logger.debug("Inside login in AuthController.");
+        return authService.login(request)
+                .thenApply(login -> ResponseEntity.ok(new APIResponse<>(true, "Login successful", login)));
+    }
+
+    @GetMapping("/verify")
+    public ResponseEntity<APIResponse<UserResponseDTO>> verify(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String token = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+        Optional<UserResponseDTO> user = authService.verify(token);
+        if (user.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new APIResponse<>(false, "Invalid or expired token", null));
+        }
+        return ResponseEntity.ok(new APIResponse<>(true, "Token is valid", user.get()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.ams.controller;
+
+import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.DepreciationRunDTO;
+import com.example.ams.service.DepreciationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/depreciation")
+public class DepreciationController {
+    private static final Logger logger = LoggerFactory.getLogger(DepreciationController.class);
+    private final DepreciationService depreciationService;
+
+    public DepreciationController(DepreciationService depreciationService) {
+        this.depreciationService = depreciationService;
+    }
+
+    @PostMapping("/runs")
+    public ResponseEntity<APIResponse<DepreciationRunDTO>> runDepreciation(
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(value = "dryRun", defaultValue = "false") boolean dryRun) {
+        logger.debug("Inside runDepreciation in DepreciationController.");
+        DepreciationRunDTO result = depreciationService.run(asOf == null ? LocalDate.now() : asOf, dryRun);
+        return ResponseEntity.ok(new APIResponse<>(true,
+                dryRun ? "Depreciation dry run finished" : "Depreciation run finished", result));
+    }
+
+    @GetMapping("/runs/{id}")
+    public ResponseEntity<APIResponse<DepreciationRunDTO>> getDepreciationRun(@PathVariable("id") String id) {
+        logger.debug("Inside getDepreciationRun in DepreciationController.");
+        DepreciationRunDTO run = depreciationService.getRun(id);
+        return ResponseEntity.ok(new APIResponse<>(true, "Depreciation run fetched successfully", run));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.ams.controller;
+
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.PreconditionRequired;
+
+/**
+ * Maps entity versions to strong ETags and back from {@code If-Match}. Only a single tag is
+ * accepted, since an update is checked against exactly one version. A weak tag is read as its
+ * strong form, because compressing proxies weaken ETags on the way out.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /** @return the expected version, or {@code null} when the header is absent or {@code *} */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequest("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
+    /** @return the expected version, or {@code null} for {@code *}, which matches any current version */
+    static Long requireIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PreconditionRequired("If-Match header with the current ETag is required");
+        }
+        return parseIfMatch(ifMatch);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ams.controller;
+
+import com.example.ams.config.RequestSummaryFilter;
+import com.example.ams.datamodels.constants.ExportFormat;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Shared plumbing for the export endpoints: format and gzip negotiation plus the streaming
+ * response. No Content-Length is set, so the container sends the body chunked.
+ */
+final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    @FunctionalInterface
+    interface Export {
+        long writeTo(ExportFormat format, boolean gzip, OutputStream out) throws IOException;
+    }
+
+    static ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequest("Invalid export format: " + format);
+        }
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip: {@code gzip} or {@code x-gzip} with a non-zero
+     * q-value, or {@code *} with a non-zero q-value when gzip is not listed on its own.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean gzip = null;
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = (gzip != null && gzip) || quality(parts) > 0;
+            } else if (name.equals("*")) {
+                wildcard = quality(parts) > 0;
+            }
+        }
+        return gzip != null ? gzip : wildcard;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && Character.toLowerCase(parameter.charAt(0)) == 'q' && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    static ResponseEntity<StreamingResponseBody> stream(String name, String format, HttpServletRequest request, Export export) {
+        ExportFormat exportFormat = parseFormat(format);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        StreamingResponseBody body = out -> {
+            long rows = export.writeTo(exportFormat, gzip, out);
+            RequestSummaryFilter.recordRows(request, (int) Math.min(rows, Integer.MAX_VALUE));
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ams.controller;
+
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import com.example.ams.service.ReactiveReadService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/reactive")
+public class ReactiveController {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveController.class);
+    private final ReactiveReadService reactiveReadService;
+
+    public ReactiveController(ReactiveReadService reactiveReadService) {
+        this.reactiveReadService = reactiveReadService;
+    }
+
+    @GetMapping(value = "/assets", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<AssetResponseDTO> streamAssets(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "pageSize", defaultValue = "" + Constants.DEFAULT_PAGE_LIMIT) int pageSize) {
+        logger.debug("Inside streamAssets in ReactiveController.");
+        return reactiveReadService.streamAssets(after, pageSize)
+                .doOnError(e -> logger.error("Error streaming assets: {}", e.getMessage()));
+    }
+
+    @GetMapping(value = "/transactions", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<TransactionResponseDTO> streamTransactions(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "assetId", required = false) Long assetId,
+            @RequestParam(value = "pageSize", defaultValue = "" + Constants.DEFAULT_PAGE_LIMIT) int pageSize) {
+        logger.debug("Inside streamTransactions in ReactiveController.");
+        return reactiveReadService.streamTransactions(after, from, to, type, assetId, pageSize)
+                .doOnError(e -> logger.error("Error streaming transactions: {}", e.getMessage()));
+    }
+}
@@ -3,15 +3,27 @@ package com.example.ams.controller;
 import com.example.ams.datamodels.constants.Constants;
 import com.example.ams.datamodels.form.request.TransactionRequestDTO;
 import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.BulkImportResponseDTO;
+import com.example.ams.datamodels.form.response.IngestionStatusDTO;
+import com.example.ams.datamodels.form.response.PageResponseDTO;
 import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.ExportService;
+import com.example.ams.service.TransactionIngestionService;
 import com.example.ams.service.TransactionService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.ObjectUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,100 +31,128 @@ import java.util.List;
 public class TransactionController {
     private static final Logger logger = LoggerFactory.getLogger(TransactionController.class);
     private final TransactionService transactionService;
-    private final Constants constants;
+    private final TransactionIngestionService transactionIngestionService;
+    private final ExportService exportService;
 
-    public TransactionController(TransactionService transactionService, Constants constants) {
+    public TransactionController(TransactionService transactionService, TransactionIngestionService transactionIngestionService,
+                                 ExportService exportService) {
         this.transactionService = transactionService;
-        this.constants = constants;
+        this.transactionIngestionService = transactionIngestionService;
+        this.exportService = exportService;
     }
 
     @PostMapping
     public ResponseEntity<APIResponse<TransactionResponseDTO>> createTransaction(@RequestBody TransactionRequestDTO request) {
-        logger.info("Inside createTransaction.");
-        try {
-            if (ObjectUtils.isEmpty(request) ||
-                    ObjectUtils.isEmpty(request.getTransactionType()) ||
-                    ObjectUtils.isEmpty(request.getAmount())) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(new APIResponse<>(false, "Invalid request: Transaction type and amount cannot be null", null));
-            }
-
-            TransactionResponseDTO transaction = transactionService.saveTransaction(request);
-            return ResponseEntity.ok(new APIResponse<>(true, "Transaction created successfully", transaction));
-        } catch (Exception e) {
-            logger.error("Error creating transaction: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error creating transaction: " + e.getMessage(), null));
+        logger.debug("Inside createTransaction.");
+        if (ObjectUtils.isEmpty(request) ||
+                ObjectUtils.isEmpty(request.getTransactionType()) ||
+                ObjectUtils.isEmpty(request.getAmount())) {
+            throw new InvalidRequest("Transaction type and amount cannot be null");
         }
+
+        TransactionResponseDTO transaction = transactionService.saveTransaction(request);
+        return ResponseEntity.ok(new APIResponse<>(true, "Transaction created successfully", transaction));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<APIResponse<BulkImportResponseDTO>> createTransactionsBatch(@RequestBody List<TransactionRequestDTO> requests) {
+        logger.debug("Inside createTransactionsBatch.");
+        if (ObjectUtils.isEmpty(requests)) {
+            throw new InvalidRequest("No transactions supplied");
+        }
+
+        BulkImportResponseDTO result = transactionIngestionService.saveTransactions(requests);
+        return ResponseEntity.ok(new APIResponse<>(result.getFailed() == 0,
+                "Saved " + result.getInserted() + " of " + result.getReceived() + " transactions", result));
+    }
+
+    @PostMapping(value = "/batch", params = "async=true")
+    public ResponseEntity<APIResponse<IngestionStatusDTO>> submitTransactionsBatch(@RequestBody List<TransactionRequestDTO> requests) {
+        logger.debug("Inside submitTransactionsBatch.");
+        if (ObjectUtils.isEmpty(requests)) {
+            throw new InvalidRequest("No transactions supplied");
+        }
+
+        IngestionStatusDTO status = transactionIngestionService.submit(requests);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/transactions/batch/" + status.getIngestionId()))
+                .body(new APIResponse<>(true, "Transactions queued for ingestion", status));
+    }
+
+    @GetMapping("/batch/{ingestionId}")
+    public ResponseEntity<APIResponse<IngestionStatusDTO>> getIngestionStatus(@PathVariable("ingestionId") String ingestionId) {
+        logger.debug("Inside getIngestionStatus.");
+        return transactionIngestionService.getStatus(ingestionId)
+                .map(status -> ResponseEntity.ok(new APIResponse<>(true, "Ingestion status fetched successfully", status)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new APIResponse<>(false, "Ingestion not found: " + ingestionId, null)));
     }
 
     @GetMapping
-    public ResponseEntity<APIResponse<List<TransactionResponseDTO>>> getAllTransactions() {
-        logger.info("Inside getAllTransactions.");
-        try {
-            List<TransactionResponseDTO> transactions = transactionService.getAllTransactions();
-            if (transactions == null || transactions.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                        .body(new APIResponse<>(true, "No transactions found", null));
-            }
-            return ResponseEntity.ok(new APIResponse<>(true, "Transactions fetched successfully", transactions));
-        } catch (Exception e) {
-            logger.error("Error fetching transactions: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error fetching transactions: " + e.getMessage(), null));
+    public ResponseEntity<APIResponse<PageResponseDTO<TransactionResponseDTO>>> getAllTransactions(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "assetId", required = false) Long assetId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + Constants.DEFAULT_PAGE_LIMIT) int size) {
+        logger.debug("Inside getAllTransactions.");
+        PageResponseDTO<TransactionResponseDTO> transactions = transactionService.getTransactions(from, to, type, assetId, page, size);
+        if (transactions.getItems().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                    .body(new APIResponse<>(true, "No transactions found", null));
         }
+        return ResponseEntity.ok(new APIResponse<>(true, "Transactions fetched successfully", transactions));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            HttpServletRequest request) {
+        logger.debug("Inside exportTransactions.");
+        return ExportResponses.stream("transactions", format, request,
+                (exportFormat, gzip, out) -> exportService.exportTransactions(from, to, exportFormat, gzip, out));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<APIResponse<TransactionResponseDTO>> getTransactionById(@PathVariable("id") String id) {
-        logger.info("Inside getTransactionById.");
-        try {
-            TransactionResponseDTO transaction = transactionService.getTransactionById(id);
-            return ResponseEntity.ok(new APIResponse<>(true, "Transaction fetched successfully", transaction));
-        } catch (RuntimeException e) {
-            logger.error(constants.TNX_NOT_FOUND, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new APIResponse<>(false, constants.TNX_NOT_FOUND + e.getMessage(), null));
-        } catch (Exception e) {
-            logger.error("Error fetching transaction: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error fetching transaction: " + e.getMessage(), null));
-        }
+        logger.debug("Inside getTransactionById.");
+        TransactionResponseDTO transaction = transactionService.getTransactionById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(transaction.getVersion()))
+                .body(new APIResponse<>(true, "Transaction fetched successfully", transaction));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<APIResponse<TransactionResponseDTO>> updateTransaction(
             @PathVariable("id") String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody TransactionRequestDTO request) {
-        logger.info("Inside updateTransaction.");
-        try {
-            TransactionResponseDTO updatedTransaction = transactionService.updateTransaction(id, request);
-            return ResponseEntity.ok(new APIResponse<>(true, "Transaction updated successfully", updatedTransaction));
-        } catch (RuntimeException e) {
-            logger.error(constants.TNX_NOT_FOUND, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new APIResponse<>(false, constants.TNX_NOT_FOUND + e.getMessage(), null));
-        } catch (Exception e) {
-            logger.error("Error updating transaction: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error updating transaction: " + e.getMessage(), null));
-        }
+        logger.debug("Inside updateTransaction.");
+        TransactionResponseDTO updatedTransaction = transactionService.updateTransaction(id, request, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(updatedTransaction.getVersion()))
+                .body(new APIResponse<>(true, "Transaction updated successfully", updatedTransaction));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<APIResponse<TransactionResponseDTO>> patchTransaction(
+            @PathVariable("id") String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody TransactionRequestDTO request) {
+        logger.debug("Inside patchTransaction.");
+        TransactionResponseDTO patchedTransaction = transactionService.patchTransaction(id, request, ETags.requireIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(patchedTransaction.getVersion()))
+                .body(new APIResponse<>(true, "Transaction updated successfully", patchedTransaction));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<APIResponse<Void>> deleteTransaction(@PathVariable("id") String id) {
-        logger.info("Inside deleteTransaction.");
-        try {
-            transactionService.deleteTransaction(id);
-            return ResponseEntity.ok(new APIResponse<>(true, "Transaction deleted successfully", null));
-        } catch (RuntimeException e) {
-            logger.error(constants.TNX_NOT_FOUND, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new APIResponse<>(false, constants.TNX_NOT_FOUND + e.getMessage(), null));
-        } catch (Exception e) {
-            logger.error("Error deleting transaction: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error deleting transaction: " + e.getMessage(), null));
-        }
+        logger.debug("Inside deleteTransaction.");
+        transactionService.deleteTransaction(id);
+        return ResponseEntity.ok(new APIResponse<>(true, "Transaction deleted successfully", null));
     }
 }
@@ -0,0 +1,71 @@
+package com.example.ams.controller;
+
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.form.request.TransactionV2RequestDTO;
+import com.example.ams.datamodels.form.response.APIResponse;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionV2ResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.TransactionService;
+import org.apache.commons.lang3.ObjectUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * Typed variant of {@link TransactionController}; see {@link AssetV2Controller}.
+ */
+@RestController
+@RequestMapping("/v2/transactions")
+public class TransactionV2Controller {
+    private static final Logger logger = LoggerFactory.getLogger(TransactionV2Controller.class);
+    private final TransactionService transactionService;
+
+    public TransactionV2Controller(TransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<APIResponse<TransactionV2ResponseDTO>> createTransaction(@RequestBody TransactionV2RequestDTO request) {
+        logger.debug("Inside createTransaction in TransactionV2Controller.");
+        if (ObjectUtils.isEmpty(request) ||
+                request.getTransactionType() == null ||
+                request.getAmount() == null) {
+            throw new InvalidRequest("Transaction type and amount cannot be null");
+        }
+
+        TransactionV2ResponseDTO transaction = transactionService.saveTransactionV2(request);
+        return ResponseEntity.ok(new APIResponse<>(true, "Transaction created successfully", transaction));
+    }
+
+    @GetMapping
+    public ResponseEntity<APIResponse<CursorPageResponseDTO<TransactionV2ResponseDTO>>> getAllTransactions(
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "type", required = false) TransactionType type,
+            @RequestParam(value = "assetId", required = false) Long assetId,
+            @RequestParam(value = "limit", defaultValue = "" + Constants.DEFAULT_PAGE_LIMIT) int limit) {
+        logger.debug("Inside getAllTransactions in TransactionV2Controller.");
+        CursorPageResponseDTO<TransactionV2ResponseDTO> transactions =
+                transactionService.getTransactionsAfterV2(after, from, to, type, assetId, limit);
+        if (transactions.getItems().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                    .body(new APIResponse<>(true, "No transactions found", null));
+        }
+        return ResponseEntity.ok(new APIResponse<>(true, "Transactions fetched successfully", transactions));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<APIResponse<TransactionV2ResponseDTO>> getTransactionById(@PathVariable("id") long id) {
+        logger.debug("Inside getTransactionById in TransactionV2Controller.");
+        TransactionV2ResponseDTO transaction = transactionService.getTransactionByIdV2(id);
+        return ResponseEntity.ok(new APIResponse<>(true, "Transaction fetched successfully", transaction));
+    }
+}
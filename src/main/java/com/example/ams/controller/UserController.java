@@ -3,6 +3,7 @@ package com.example.ams.controller;
 import com.example.ams.datamodels.form.response.APIResponse;
 import com.example.ams.datamodels.form.request.UserRequestDTO;
 import com.example.ams.datamodels.form.response.UserResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
 import com.example.ams.service.UserService;
 import org.apache.commons.lang3.ObjectUtils;
 import org.slf4j.Logger;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/users")
@@ -25,81 +27,50 @@ public class UserController {
     }
 
     @PostMapping
-    public ResponseEntity<APIResponse<UserResponseDTO>> createUser(@RequestBody UserRequestDTO request) {
-        logger.info("Inside createUser");
-        try {
-            if (!ObjectUtils.isEmpty(request) || !ObjectUtils.isEmpty(request.getName()) || !ObjectUtils.isEmpty(request.getEmail())
-                    || !ObjectUtils.isEmpty(request.getPassword())) {
-                logger.error("Invalid request: Name, Email, and Password cannot be null");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(new APIResponse<>(false, "Invalid request: Name, Email, and Password cannot be null", null));
-            }
+    public CompletableFuture<ResponseEntity<APIResponse<UserResponseDTO>>> createUser(@RequestBody UserRequestDTO request) {
+        logger.debug("Inside createUser");
+        if (ObjectUtils.isEmpty(request) || ObjectUtils.isEmpty(request.getName()) || ObjectUtils.isEmpty(request.getEmail())
+                || ObjectUtils.isEmpty(request.getPassword())) {
+            logger.debug("Invalid request: Name, Email, and Password cannot be null");
+            throw new InvalidRequest("Name, Email, and Password cannot be null");
+        }
 
-            UserResponseDTO user = userService.saveUser(request);
-            logger.info("User created successfully");
+        return userService.saveUser(request).thenApply(user -> {
+            logger.debug("User created successfully");
             return ResponseEntity.ok(new APIResponse<>(true, "User created successfully", user));
-        } catch (Exception e) {
-            logger.error("Error creating user: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error creating user: " + e.getMessage(), null));
-        }
+        });
     }
 
     @GetMapping
     public ResponseEntity<APIResponse<List<UserResponseDTO>>> getAllUsers() {
-        try {
-            List<UserResponseDTO> users = userService.getAllUsers();
-            if (!ObjectUtils.isEmpty(users) || users.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                        .body(new APIResponse<>(true, "No users found", null));
-            }
-            return ResponseEntity.ok(new APIResponse<>(true, "Users fetched successfully", users));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error fetching users: " + e.getMessage(), null));
+        List<UserResponseDTO> users = userService.getAllUsers();
+        if (users.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT)
+                    .body(new APIResponse<>(true, "No users found", null));
         }
+        return ResponseEntity.ok(new APIResponse<>(true, "Users fetched successfully", users));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<APIResponse<UserResponseDTO>> getUserById(@PathVariable("id") String id) {
-        try {
-            UserResponseDTO user = userService.getUserById(id);
-            if (!ObjectUtils.isEmpty(user)) {
-                return ResponseEntity.status(HttpStatus.NO_CONTENT)
-                        .body(new APIResponse<>(true, "No user found", null));
-            }
-            return ResponseEntity.ok(new APIResponse<>(true, "User fetched successfully", user));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error fetching user: " + e.getMessage(), null));
-        }
+        UserResponseDTO user = userService.getUserById(id);
+        return ResponseEntity.ok(new APIResponse<>(true, "User fetched successfully", user));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<APIResponse<Void>> deleteUser(@PathVariable("id") String id) {
-        try {
-            userService.deleteUser(id);
-            return ResponseEntity.ok(new APIResponse<>(true, "User deleted successfully", null));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error deleting user: " + e.getMessage(), null));
-        }
+        userService.deleteUser(id);
+        return ResponseEntity.ok(new APIResponse<>(true, "User deleted successfully", null));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<APIResponse<UserResponseDTO>> updateUser(@PathVariable("id") String id, @RequestBody UserRequestDTO userRequestDTO) {
-        try {
-            if (!ObjectUtils.isEmpty(userRequestDTO) || !ObjectUtils.isEmpty(userRequestDTO.getName()) || !ObjectUtils.isEmpty(userRequestDTO.getEmail())
-                    || !ObjectUtils.isEmpty(userRequestDTO.getPassword()) || !ObjectUtils.isEmpty(userRequestDTO.getRole())) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(new APIResponse<>(false, "Invalid request: Name, Email, Password, and Role cannot be null", null));
-            }
-
-            UserResponseDTO updatedUser = userService.updateUser(id, userRequestDTO);
-            return ResponseEntity.ok(new APIResponse<>(true, "User updated successfully", updatedUser));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new APIResponse<>(false, "Error updating user: " + e.getMessage(), null));
+    public CompletableFuture<ResponseEntity<APIResponse<UserResponseDTO>>> updateUser(@PathVariable("id") String id, @RequestBody UserRequestDTO userRequestDTO) {
+        if (ObjectUtils.isEmpty(userRequestDTO) || ObjectUtils.isEmpty(userRequestDTO.getName()) || ObjectUtils.isEmpty(userRequestDTO.getEmail())
+                || ObjectUtils.isEmpty(userRequestDTO.getPassword()) || ObjectUtils.isEmpty(userRequestDTO.getRole())) {
+            throw new InvalidRequest("Name, Email, Password, and Role cannot be null");
         }
+
+        return userService.updateUser(id, userRequestDTO)
+                .thenApply(updatedUser -> ResponseEntity.ok(new APIResponse<>(true, "User updated successfully", updatedUser)));
     }
 }
@@ -0,0 +1,37 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.AssetBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface AssetBalanceRepository extends JpaRepository<AssetBalance, Long> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into asset_balances (asset_id, balance, transaction_count) " +
+            "values (:assetId, :balanceDelta, :countDelta) " +
+            "on duplicate key update balance = balance + :balanceDelta, transaction_count = transaction_count + :countDelta")
+    void applyDelta(@Param("assetId") Long assetId,
+                    @Param("balanceDelta") BigDecimal balanceDelta,
+                    @Param("countDelta") long countDelta);
+
+    /**
+     * Difference between the ledger and the stored balances for a range of assets, read in a single
+     * statement so both sides come from the same snapshot. Rows are {@code [assetId, balanceDrift, countDrift]}.
+     * Each amount is rounded to the balance scale before it is summed, as the incremental deltas are.
+     */
+    @Query(nativeQuery = true, value = "select d.asset_id, sum(d.balance), sum(d.transaction_count) from (" +
+            "select asset_id, sum(cast(case when transaction_type = 'PURCHASE' then amount else -amount end " +
+            "as decimal(19,2))) as balance, count(*) as transaction_count " +
+            "from transactions where asset_id between :fromId and :toId group by asset_id " +
+            "union all " +
+            "select asset_id, -balance, -transaction_count from asset_balances where asset_id between :fromId and :toId" +
+            ") d group by d.asset_id having sum(d.balance) <> 0 or sum(d.transaction_count) <> 0")
+    List<Object[]> findDrift(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
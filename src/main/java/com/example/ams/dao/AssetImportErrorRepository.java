@@ -0,0 +1,15 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.AssetImportError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AssetImportErrorRepository extends JpaRepository<AssetImportError, Long> {
+    List<AssetImportError> findByJobIdOrderByLine(Long jobId, Pageable pageable);
+
+    long countByJobId(Long jobId);
+}
@@ -0,0 +1,13 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.AssetImportJob;
+import com.example.ams.datamodels.entities.AssetImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AssetImportJobRepository extends JpaRepository<AssetImportJob, Long> {
+    List<AssetImportJob> findByStatus(AssetImportStatus status);
+}
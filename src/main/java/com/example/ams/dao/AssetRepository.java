@@ -1,12 +1,95 @@
 package com.example.ams.dao;
 
 import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.DepreciationMethod;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.AssetSummaryDTO;
+import com.example.ams.datamodels.form.response.AssetV2ResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface AssetRepository extends JpaRepository<Asset, Long> {
-    Optional<Asset> findByNameAndTypeAndValue(String trim, String trim1, double v);
+public interface AssetRepository extends JpaRepository<Asset, Long>, AssetSearchRepository, VersionedUpdateRepository {
+    @Override
+    @EntityGraph(attributePaths = {"owner", "category"})
+    Optional<Asset> findById(Long id);
+
+    @Query("select new com.example.ams.datamodels.form.response.AssetResponseDTO(" +
+            "a.id, a.name, a.type, a.value, a.purchaseDate, o.name, c.name) " +
+            "from Asset a join a.owner o join a.category c " +
+            "where a.id > :after order by a.id")
+    List<AssetResponseDTO> findViewPageAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select new com.example.ams.datamodels.form.response.AssetResponseDTO(" +
+            "a.id, a.name, a.type, a.value, a.purchaseDate, o.name, c.name, a.version) " +
+            "from Asset a join a.owner o join a.category c " +
+            "where a.id = :id")
+    Optional<AssetResponseDTO> findViewById(@Param("id") Long id);
+
+    @Query("select a.version from Asset a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select a.owner.id, a.category.id, a.type, a.value from Asset a where a.id = :id and a.version = :version")
+    List<Object[]> findSummaryKeyAtVersion(@Param("id") Long id, @Param("version") long version);
+
+    @Query("select new com.example.ams.datamodels.form.response.AssetV2ResponseDTO(" +
+            "a.id, a.name, a.type, a.value, a.purchaseDate, o.name, c.name) " +
+            "from Asset a join a.owner o join a.category c " +
+            "where a.id > :after order by a.id")
+    List<AssetV2ResponseDTO> findV2ViewPageAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select new com.example.ams.datamodels.form.response.AssetV2ResponseDTO(" +
+            "a.id, a.name, a.type, a.value, a.purchaseDate, o.name, c.name) " +
+            "from Asset a join a.owner o join a.category c " +
+            "where a.id = :id")
+    Optional<AssetV2ResponseDTO> findV2ViewById(@Param("id") Long id);
+
+    @Query("select min(a.id), max(a.id) from Asset a")
+    List<Object[]> findIdRange();
+
+    @Query("select a.id, a.value, a.purchaseDate, c.depreciationMethod, c.usefulLifeYears, c.decliningRate " +
+            "from Asset a join a.category c " +
+            "where a.id between :fromId and :toId and c.depreciationMethod in :methods and a.purchaseDate is not null " +
+            "order by a.id")
+    List<Object[]> findDepreciableInRange(@Param("fromId") Long fromId,
+                                          @Param("toId") Long toId,
+                                          @Param("methods") Collection<DepreciationMethod> methods);
+
+    @Query("select a.id, a.name, a.type from Asset a where a.id between :fromId and :toId")
+    List<Object[]> findNamesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select a.id from Asset a where a.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select a.normalizedName, a.type, a.value from Asset a where a.normalizedName in :normalizedNames")
+    List<Object[]> findNaturalKeysByNormalizedNameIn(@Param("normalizedNames") Collection<String> normalizedNames);
+
+    @Query("select new com.example.ams.datamodels.form.response.AssetSummaryDTO(o.id, o.name, count(a), sum(a.value)) " +
+            "from Asset a join a.owner o group by o.id, o.name order by o.name, o.id")
+    List<AssetSummaryDTO> summarizeByOwner();
+
+    @Query("select new com.example.ams.datamodels.form.response.AssetSummaryDTO(c.id, c.name, count(a), sum(a.value)) " +
+            "from Asset a join a.category c group by c.id, c.name order by c.name, c.id")
+    List<AssetSummaryDTO> summarizeByCategory();
+
+    @Query("select new com.example.ams.datamodels.form.response.AssetSummaryDTO(a.type, count(a), sum(a.value)) " +
+            "from Asset a where a.type is not null group by a.type order by a.type")
+    List<AssetSummaryDTO> summarizeByType();
+
+    @EntityGraph(attributePaths = {"owner", "category"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select a from Asset a order by a.id")
+    Stream<Asset> streamAllOrderById();
 }
@@ -0,0 +1,11 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface AssetSearchRepository {
+    List<AssetResponseDTO> searchViews(Specification<Asset> specification, int limit);
+}
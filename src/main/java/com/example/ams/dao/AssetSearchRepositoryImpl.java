@@ -0,0 +1,51 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Applies a {@link Specification} to the same constructor projection as
+ * {@link AssetRepository#findViewPageAfter}, ordered by id and capped at {@code limit} rows, so
+ * a search page is one statement with no count query and no entity hydration.
+ */
+public class AssetSearchRepositoryImpl implements AssetSearchRepository {
+
+    private final EntityManager entityManager;
+
+    public AssetSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<AssetResponseDTO> searchViews(Specification<Asset> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AssetResponseDTO> query = cb.createQuery(AssetResponseDTO.class);
+        Root<Asset> asset = query.from(Asset.class);
+        Join<Asset, User> owner = asset.join("owner");
+        Join<Asset, Category> category = asset.join("category");
+
+        query.select(cb.construct(AssetResponseDTO.class,
+                asset.get("id"), asset.get("name"), asset.get("type"), asset.get("value"),
+                asset.get("purchaseDate"), owner.get("name"), category.get("name")));
+        Predicate predicate = specification.toPredicate(asset, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(asset.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
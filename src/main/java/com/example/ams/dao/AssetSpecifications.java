@@ -0,0 +1,104 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.form.request.AssetSearchRequestDTO;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Composable filters for {@link AssetSearchRepository#searchViews}. Each one maps onto a leading
+ * column of an index on {@code assets}: the natural key for name prefixes, and the composite
+ * indexes declared on {@link Asset} for owner, category, type, value and purchase date.
+ */
+public final class AssetSpecifications {
+
+    private AssetSpecifications() {
+    }
+
+    public static Specification<Asset> matching(AssetSearchRequestDTO criteria) {
+        Specification<Asset> specification = Specification.where(null);
+        if (StringUtils.hasText(criteria.getName())) {
+            specification = specification.and(nameStartsWith(criteria.getName()));
+        }
+        if (StringUtils.hasText(criteria.getType())) {
+            specification = specification.and(hasType(criteria.getType()));
+        }
+        if (criteria.getOwnerId() != null) {
+            specification = specification.and(ownedBy(criteria.getOwnerId()));
+        }
+        if (criteria.getCategoryId() != null) {
+            specification = specification.and(inCategory(criteria.getCategoryId()));
+        }
+        if (criteria.getMinValue() != null || criteria.getMaxValue() != null) {
+            specification = specification.and(valueBetween(criteria.getMinValue(), criteria.getMaxValue()));
+        }
+        if (criteria.getPurchasedFrom() != null || criteria.getPurchasedTo() != null) {
+            specification = specification.and(purchasedBetween(criteria.getPurchasedFrom(), criteria.getPurchasedTo()));
+        }
+        return specification;
+    }
+
+    public static Specification<Asset> nameStartsWith(String prefix) {
+        String pattern = escapeLike(Asset.normalizeName(prefix)) + "%";
+        return (asset, query, cb) -> cb.like(asset.get("normalizedName"), pattern, '\\');
+    }
+
+    /**
+     * Name or type contains {@code term} anywhere, ignoring case. Not index-backed; callers narrow
+     * the result to whole-token matches themselves.
+     */
+    public static Specification<Asset> nameOrTypeContains(String term) {
+        String pattern = "%" + escapeLike(term.toLowerCase(Locale.ROOT)) + "%";
+        return (asset, query, cb) -> cb.or(
+                cb.like(asset.get("normalizedName"), pattern, '\\'),
+                cb.like(cb.lower(asset.get("type")), pattern, '\\'));
+    }
+
+    public static Specification<Asset> hasType(String type) {
+        return (asset, query, cb) -> cb.equal(asset.get("type"), type.trim());
+    }
+
+    public static Specification<Asset> ownedBy(Long ownerId) {
+        return (asset, query, cb) -> cb.equal(asset.get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<Asset> inCategory(Long categoryId) {
+        return (asset, query, cb) -> cb.equal(asset.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Asset> valueBetween(BigDecimal min, BigDecimal max) {
+        return (asset, query, cb) -> {
+            if (min == null) {
+                return cb.lessThanOrEqualTo(asset.get("value"), max);
+            }
+            if (max == null) {
+                return cb.greaterThanOrEqualTo(asset.get("value"), min);
+            }
+            return cb.between(asset.get("value"), min, max);
+        };
+    }
+
+    public static Specification<Asset> purchasedBetween(LocalDate from, LocalDate to) {
+        return (asset, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(asset.get("purchaseDate"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(asset.get("purchaseDate"), from);
+            }
+            return cb.between(asset.get("purchaseDate"), from, to);
+        };
+    }
+
+    public static Specification<Asset> idAfter(Long after) {
+        return (asset, query, cb) -> cb.greaterThan(asset.get("id"), after);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.AssetSummaryDimension;
+import com.example.ams.datamodels.entities.AssetValueSummary;
+import com.example.ams.datamodels.entities.AssetValueSummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface AssetValueSummaryRepository extends JpaRepository<AssetValueSummary, AssetValueSummaryId> {
+
+    List<AssetValueSummary> findByIdDimensionAndAssetCountGreaterThanOrderByIdGroupKey(AssetSummaryDimension dimension, long assetCount);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into asset_value_summaries (dimension, group_key, asset_count, total_value) " +
+            "values (:dimension, :groupKey, :countDelta, :valueDelta) " +
+            "on duplicate key update asset_count = asset_count + :countDelta, total_value = total_value + :valueDelta")
+    void applyDelta(@Param("dimension") String dimension,
+                    @Param("groupKey") String groupKey,
+                    @Param("countDelta") long countDelta,
+                    @Param("valueDelta") BigDecimal valueDelta);
+
+    @Modifying
+    @Query(nativeQuery = true, value = "delete from asset_value_summaries")
+    void deleteAllRows();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into asset_value_summaries (dimension, group_key, asset_count, total_value) " +
+            "select 'OWNER', cast(owner_id as char), count(*), coalesce(sum(value), 0) from assets group by owner_id")
+    void rebuildOwners();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into asset_value_summaries (dimension, group_key, asset_count, total_value) " +
+            "select 'CATEGORY', cast(category_id as char), count(*), coalesce(sum(value), 0) from assets group by category_id")
+    void rebuildCategories();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "insert into asset_value_summaries (dimension, group_key, asset_count, total_value) " +
+            "select 'TYPE', type, count(*), coalesce(sum(value), 0) from assets where type is not null group by type")
+    void rebuildTypes();
+}
@@ -0,0 +1,8 @@
+package com.example.ams.dao;
+
+/**
+ * What {@link ReferenceDataCache} keeps per category: its id and name, immutable, so a cached
+ * value can never be changed in place or attached to a persistence context.
+ */
+public record CategoryReference(Long id, String name) {
+}
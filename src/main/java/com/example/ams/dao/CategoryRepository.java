@@ -2,11 +2,24 @@ package com.example.ams.dao;
 
 import com.example.ams.datamodels.entities.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
+
+    @Query("select new com.example.ams.dao.CategoryReference(c.id, c.name) from Category c where c.id = :id")
+    Optional<CategoryReference> findReferenceById(@Param("id") Long id);
+
+    @Query("select new com.example.ams.dao.CategoryReference(c.id, c.name) from Category c where c.name = :name")
+    Optional<CategoryReference> findReferenceByName(@Param("name") String name);
+
+    @Query("select c.id from Category c where c.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
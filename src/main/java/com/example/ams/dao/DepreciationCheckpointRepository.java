@@ -0,0 +1,12 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.DepreciationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DepreciationCheckpointRepository extends JpaRepository<DepreciationCheckpoint, Long> {
+    List<DepreciationCheckpoint> findByRunId(Long runId);
+}
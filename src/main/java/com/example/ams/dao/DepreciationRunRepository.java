@@ -0,0 +1,14 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.DepreciationRun;
+import com.example.ams.datamodels.entities.DepreciationRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface DepreciationRunRepository extends JpaRepository<DepreciationRun, Long> {
+    Optional<DepreciationRun> findFirstByAsOfDateAndStatusNotOrderByIdDesc(LocalDate asOfDate, DepreciationRunStatus status);
+}
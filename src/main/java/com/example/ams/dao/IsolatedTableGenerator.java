@@ -0,0 +1,124 @@
+package com.example.ams.dao;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link TableGenerator} that fetches id blocks on a small pool of its own instead of borrowing
+ * a second connection from the application pool. Every thread waiting for an id already holds
+ * an application connection, so when they exhaust the pool the thread fetching the next block
+ * can never get one and all of them stall until the pool times out.
+ * <p>
+ * The dedicated pool copies the application's Hikari settings. Any other data source falls
+ * back to Hibernate's isolated-work path.
+ */
+public class IsolatedTableGenerator extends TableGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(IsolatedTableGenerator.class);
+    private static final int POOL_SIZE = 2;
+    private static final Map<DataSource, HikariDataSource> POOLS = new ConcurrentHashMap<>();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        DataSource allocator = allocator(session);
+        if (allocator == null) {
+            return super.generate(session, object);
+        }
+        return getOptimizer().generate(new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                return fetchBlock(allocator);
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return session.getTenantIdentifier();
+            }
+        });
+    }
+
+    /** Same contract as the table access in {@link TableGenerator}: advance the row and return the new value. */
+    private IntegralDataTypeHolder fetchBlock(DataSource allocator) {
+        String select = "select " + getValueColumnName() + " from " + getTableName()
+                + " where " + getSegmentColumnName() + " = ? for update";
+        String update = "update " + getTableName() + " set " + getValueColumnName() + " = ?"
+                + " where " + getSegmentColumnName() + " = ?";
+        try (Connection connection = allocator.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long value;
+                try (PreparedStatement statement = connection.prepareStatement(select)) {
+                    statement.setString(1, getSegmentValue());
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (!resultSet.next()) {
+                            throw new HibernateException("No " + getTableName() + " row for " + getSegmentValue());
+                        }
+                        value = resultSet.getLong(1) + getIncrementSize();
+                    }
+                }
+                try (PreparedStatement statement = connection.prepareStatement(update)) {
+                    statement.setLong(1, value);
+                    statement.setString(2, getSegmentValue());
+                    statement.executeUpdate();
+                }
+                connection.commit();
+
+                IntegralDataTypeHolder holder = IdentifierGeneratorHelper.getIntegralDataTypeHolder(
+                        getIdentifierType().getReturnedClass());
+                holder.initialize(value);
+                return holder;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new HibernateException("Unable to allocate ids for " + getSegmentValue(), e);
+        }
+    }
+
+    private static DataSource allocator(SharedSessionContractImplementor session) {
+        ConnectionProvider provider = session.getFactory().getServiceRegistry().getService(ConnectionProvider.class);
+        if (provider == null || !provider.isUnwrappableAs(DataSource.class)
+                || !(provider.unwrap(DataSource.class) instanceof HikariDataSource application)) {
+            return null;
+        }
+        return POOLS.computeIfAbsent(application, key -> {
+            HikariConfig config = new HikariConfig();
+            application.copyStateTo(config);
+            config.setPoolName(application.getPoolName() + "-ids");
+            config.setMaximumPoolSize(POOL_SIZE);
+            config.setMinimumIdle(0);
+            HikariDataSource pool = new HikariDataSource(config);
+            session.getFactory().addObserver(new SessionFactoryObserver() {
+                @Override
+                public void sessionFactoryClosed(SessionFactory factory) {
+                    HikariDataSource closed = POOLS.remove(application);
+                    if (closed != null) {
+                        closed.close();
+                    }
+                }
+            });
+            logger.info("Allocating table-generator ids on pool {}", config.getPoolName());
+            return pool;
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.constants.Constants;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Read-through cache in front of {@link CategoryRepository} and {@link UserRepository}. Categories
+ * and users are cached as {@link CategoryReference} and {@link UserReference} projections, never
+ * as entities.
+ * Misses are not cached; callers that change or remove a category or user must evict it.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    public ReferenceDataCache(CategoryRepository categoryRepository, UserRepository userRepository, CacheManager cacheManager) {
+        this.categoryRepository = categoryRepository;
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    @Cacheable(cacheNames = Constants.CATEGORIES_BY_ID_CACHE, unless = "#result == null")
+    public Optional<CategoryReference> findCategoryById(Long id) {
+        return categoryRepository.findReferenceById(id);
+    }
+
+    @Cacheable(cacheNames = Constants.CATEGORIES_BY_NAME_CACHE, unless = "#result == null")
+    public Optional<CategoryReference> findCategoryByName(String name) {
+        return categoryRepository.findReferenceByName(name);
+    }
+
+    @Cacheable(cacheNames = Constants.USERS_BY_ID_CACHE, unless = "#result == null")
+    public Optional<UserReference> findUserById(Long id) {
+        return userRepository.findReferenceById(id);
+    }
+
+    @Cacheable(cacheNames = Constants.USERS_BY_EMAIL_CACHE, unless = "#result == null")
+    public Optional<UserReference> findUserByEmail(String email) {
+        return userRepository.findReferenceByEmail(email);
+    }
+
+    public void evictCategory(Long id, String name) {
+        evict(Constants.CATEGORIES_BY_ID_CACHE, id);
+        evict(Constants.CATEGORIES_BY_NAME_CACHE, name);
+    }
+
+    public void evictUser(Long id, String email) {
+        evict(Constants.USERS_BY_ID_CACHE, id);
+        evict(Constants.USERS_BY_EMAIL_CACHE, email);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
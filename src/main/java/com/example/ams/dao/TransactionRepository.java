@@ -1,9 +1,47 @@
 package com.example.ams.dao;
 
 import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionV2ResponseDTO;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionSearchRepository,
+        VersionedUpdateRepository {
+    String SELECT_V2_VIEW = "select new com.example.ams.datamodels.form.response.TransactionV2ResponseDTO(" +
+            "t.id, a.name, t.transactionType, t.amount, t.transactionDate) " +
+            "from Transaction t join t.asset a ";
+
+    @Override
+    @EntityGraph(attributePaths = "asset")
+    Optional<Transaction> findById(Long id);
+
+    @Query("select new com.example.ams.datamodels.form.response.TransactionResponseDTO(" +
+            "t.id, a.name, t.transactionType, t.amount, t.transactionDate, t.version) " +
+            "from Transaction t join t.asset a where t.id = :id")
+    Optional<TransactionResponseDTO> findViewById(@Param("id") Long id);
+
+    @Query("select t.version from Transaction t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select t.asset.id, t.transactionType, t.amount from Transaction t where t.id = :id and t.version = :version")
+    List<Object[]> findLedgerKeyAtVersion(@Param("id") Long id, @Param("version") long version);
+
+    @Query(SELECT_V2_VIEW + "where t.id = :id")
+    Optional<TransactionV2ResponseDTO> findV2ViewById(@Param("id") Long id);
+
+    @Query("select t.asset.id, sum(t.amount) from Transaction t " +
+            "where t.transactionType = :type and t.asset.id between :fromId and :toId " +
+            "group by t.asset.id")
+    List<Object[]> sumAmountsByAssetInRange(@Param("type") TransactionType type,
+                                            @Param("fromId") Long fromId,
+                                            @Param("toId") Long toId);
 }
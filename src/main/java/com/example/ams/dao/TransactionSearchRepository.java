@@ -0,0 +1,11 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Transaction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TransactionSearchRepository {
+    <T> List<T> searchViews(Class<T> view, Specification<Transaction> specification, Sort sort, long offset, int limit);
+}
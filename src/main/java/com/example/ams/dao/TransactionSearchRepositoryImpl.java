@@ -0,0 +1,52 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Projects transactions straight into a view DTO with only the filters that were actually
+ * given in the WHERE clause, so the planner sees plain {@code asset_id = ?} and date-range
+ * predicates it can match against {@code idx_transactions_asset_date}. {@code view} must have a
+ * {@code (id, assetName, transactionType, amount, transactionDate)} constructor.
+ */
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+
+    private final EntityManager entityManager;
+
+    public TransactionSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public <T> List<T> searchViews(Class<T> view, Specification<Transaction> specification, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(view);
+        Root<Transaction> transaction = query.from(Transaction.class);
+        Join<Transaction, Asset> asset = transaction.join("asset");
+
+        query.select(cb.construct(view,
+                transaction.get("id"), asset.get("name"), transaction.get("transactionType"),
+                transaction.get("amount"), transaction.get("transactionDate")));
+        Predicate predicate = specification.toPredicate(transaction, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, transaction, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
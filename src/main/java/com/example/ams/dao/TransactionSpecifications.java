@@ -0,0 +1,55 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Filters for {@link TransactionSearchRepository#searchViews}. Absent criteria add no predicate
+ * at all instead of an {@code (:x is null or ...)} guard, which MySQL cannot use an index for.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static Specification<Transaction> matching(Long assetId, TransactionType type, LocalDate from, LocalDate to) {
+        Specification<Transaction> specification = Specification.where(null);
+        if (assetId != null) {
+            specification = specification.and(forAsset(assetId));
+        }
+        if (type != null) {
+            specification = specification.and(hasType(type));
+        }
+        if (from != null || to != null) {
+            specification = specification.and(datedBetween(from, to));
+        }
+        return specification;
+    }
+
+    public static Specification<Transaction> forAsset(Long assetId) {
+        return (transaction, query, cb) -> cb.equal(transaction.get("asset").get("id"), assetId);
+    }
+
+    public static Specification<Transaction> hasType(TransactionType type) {
+        return (transaction, query, cb) -> cb.equal(transaction.get("transactionType"), type);
+    }
+
+    public static Specification<Transaction> datedBetween(LocalDate from, LocalDate to) {
+        return (transaction, query, cb) -> {
+            if (from == null) {
+                return cb.lessThanOrEqualTo(transaction.get("transactionDate"), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(transaction.get("transactionDate"), from);
+            }
+            return cb.between(transaction.get("transactionDate"), from, to);
+        };
+    }
+
+    public static Specification<Transaction> idAfter(Long after) {
+        return (transaction, query, cb) -> cb.greaterThan(transaction.get("id"), after);
+    }
+}
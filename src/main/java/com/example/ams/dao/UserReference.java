@@ -0,0 +1,10 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Role;
+
+/**
+ * What {@link ReferenceDataCache} keeps per user: enough to resolve an owner and show its
+ * name, and nothing that must not sit in a shared cache such as the password hash.
+ */
+public record UserReference(Long id, String name, Role role) {
+}
@@ -2,11 +2,24 @@ package com.example.ams.dao;
 
 import com.example.ams.datamodels.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("select new com.example.ams.dao.UserReference(u.id, u.name, u.role) from User u where u.id = :id")
+    Optional<UserReference> findReferenceById(@Param("id") Long id);
+
+    @Query("select new com.example.ams.dao.UserReference(u.id, u.name, u.role) from User u where u.email = :email")
+    Optional<UserReference> findReferenceByEmail(@Param("email") String email);
+
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
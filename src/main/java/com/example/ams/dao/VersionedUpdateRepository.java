@@ -0,0 +1,7 @@
+package com.example.ams.dao;
+
+import java.util.Map;
+
+public interface VersionedUpdateRepository {
+    int updateIfVersion(Class<?> entityType, Long id, long expectedVersion, Map<String, Object> changes);
+}
@@ -0,0 +1,38 @@
+package com.example.ams.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Map;
+
+/**
+ * Writes the given attributes with a single {@code UPDATE ... WHERE id = ? AND version = ?} that
+ * also bumps the version, without loading the entity. Returns the number of rows updated, so 0
+ * means the row is gone or was changed since {@code expectedVersion} was read. Entity callbacks
+ * do not run, so callers pass already-normalized values.
+ */
+public class VersionedUpdateRepositoryImpl implements VersionedUpdateRepository {
+
+    private final EntityManager entityManager;
+
+    public VersionedUpdateRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int updateIfVersion(Class<?> entityType, Long id, long expectedVersion, Map<String, Object> changes) {
+        return update(entityType, id, expectedVersion, changes);
+    }
+
+    private <T> int update(Class<T> entityType, Long id, long expectedVersion, Map<String, Object> changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityType);
+        Root<T> root = update.from(entityType);
+        changes.forEach((attribute, value) -> update.set(root.get(attribute), value));
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(cb.equal(root.get("id"), id), cb.equal(root.get("version"), expectedVersion));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
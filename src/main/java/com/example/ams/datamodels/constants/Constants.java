@@ -3,6 +3,21 @@ package com.example.ams.datamodels.constants;
 public class Constants {
     public static final String ID_CANNOT_BE_NULL = "Id cannot be null";
     public static final String TNX_NOT_FOUND = "Transaction not found";
+    public static final String STALE_VERSION = "The resource was modified by another request, reload it and retry";
+    public static final int DEFAULT_PAGE_LIMIT = 100;
+    public static final int MAX_PAGE_LIMIT = 1000;
+    public static final int DEFAULT_SUGGEST_LIMIT = 10;
+    public static final int MAX_SUGGEST_LIMIT = 50;
+    public static final String ID_GENERATOR_TABLE = "id_generators";
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String ID_ALLOCATION_SIZE_PARAM = "" + ID_ALLOCATION_SIZE;
+    public static final int VALUE_SCALE = 2;
+    public static final String ASSET_NATURAL_KEY = "uk_assets_natural_key";
+    public static final String ASSET_ALREADY_EXISTS = "Asset with same name, type, and value already exists.";
+    public static final String CATEGORIES_BY_ID_CACHE = "categoriesById";
+    public static final String CATEGORIES_BY_NAME_CACHE = "categoriesByName";
+    public static final String USERS_BY_ID_CACHE = "usersById";
+    public static final String USERS_BY_EMAIL_CACHE = "usersByEmail";
 
     private Constants() {
         throw new UnsupportedOperationException("Constants class cannot be instantiated");
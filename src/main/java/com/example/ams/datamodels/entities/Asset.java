@@ -1,29 +1,61 @@
 package com.example.ams.datamodels.entities;
 
+import com.example.ams.dao.IsolatedTableGenerator;
+import com.example.ams.datamodels.constants.Constants;
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.Locale;
 
 @Entity
-@Table(name = "assets")
+@Table(name = "assets", uniqueConstraints = {
+        @UniqueConstraint(name = Constants.ASSET_NATURAL_KEY, columnNames = {"normalized_name", "type", "value"})
+}, indexes = {
+        @Index(name = "idx_assets_category_type_value", columnList = "category_id, type, value"),
+        @Index(name = "idx_assets_owner_purchase_date", columnList = "owner_id, purchase_date"),
+        @Index(name = "idx_assets_type_purchase_date", columnList = "type, purchase_date")
+})
 public class Asset {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "asset_id_generator")
+    @GenericGenerator(name = "asset_id_generator", type = IsolatedTableGenerator.class, parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = Constants.ID_GENERATOR_TABLE),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = "entity"),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = "next_id"),
+            @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "assets"),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = Constants.ID_ALLOCATION_SIZE_PARAM)
+    })
     private Long id;
 
     private String name;
+
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+
     private String type;
-    private Double value;
+
+    @Column(precision = 19, scale = Constants.VALUE_SCALE)
+    private BigDecimal value;
+
     private LocalDate purchaseDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public Long getId() {
         return id;
     }
@@ -32,6 +64,10 @@ public class Asset {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public String getName() {
         return name;
     }
@@ -48,11 +84,15 @@ public class Asset {
         this.type = type;
     }
 
-    public Double getValue() {
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public BigDecimal getValue() {
         return value;
     }
 
-    public void setValue(Double value) {
+    public void setValue(BigDecimal value) {
         this.value = value;
     }
 
@@ -79,4 +119,19 @@ public class Asset {
     public void setCategory(Category category) {
         this.category = category;
     }
+
+    @PrePersist
+    @PreUpdate
+    void normalizeNaturalKey() {
+        normalizedName = normalizeName(name);
+        value = normalizeValue(value);
+    }
+
+    public static String normalizeName(String name) {
+        return name == null ? null : name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public static BigDecimal normalizeValue(BigDecimal value) {
+        return value == null ? null : value.setScale(Constants.VALUE_SCALE, RoundingMode.HALF_UP);
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.ams.datamodels.entities;
+
+import com.example.ams.datamodels.constants.Constants;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "asset_balances")
+public class AssetBalance {
+    @Id
+    @Column(name = "asset_id")
+    private Long assetId;
+
+    @Column(nullable = false, precision = 19, scale = Constants.VALUE_SCALE)
+    private BigDecimal balance;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    public Long getAssetId() {
+        return assetId;
+    }
+
+    public void setAssetId(Long assetId) {
+        this.assetId = assetId;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.ams.datamodels.entities;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "asset_import_errors",
+        indexes = @Index(name = "idx_asset_import_errors_job_line", columnList = "job_id, line"))
+public class AssetImportError {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long line;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
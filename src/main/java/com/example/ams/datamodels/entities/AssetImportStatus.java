@@ -0,0 +1,5 @@
+package com.example.ams.datamodels.entities;
+
+public enum AssetImportStatus {
+    RUNNING, INTERRUPTED, COMPLETED, FAILED
+}
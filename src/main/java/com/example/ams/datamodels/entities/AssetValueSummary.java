@@ -0,0 +1,43 @@
+package com.example.ams.datamodels.entities;
+
+import com.example.ams.datamodels.constants.Constants;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "asset_value_summaries")
+public class AssetValueSummary {
+    @EmbeddedId
+    private AssetValueSummaryId id;
+
+    @Column(name = "asset_count", nullable = false)
+    private long assetCount;
+
+    @Column(name = "total_value", nullable = false, precision = 19, scale = Constants.VALUE_SCALE)
+    private BigDecimal totalValue;
+
+    public AssetValueSummaryId getId() {
+        return id;
+    }
+
+    public void setId(AssetValueSummaryId id) {
+        this.id = id;
+    }
+
+    public long getAssetCount() {
+        return assetCount;
+    }
+
+    public void setAssetCount(long assetCount) {
+        this.assetCount = assetCount;
+    }
+
+    public BigDecimal getTotalValue() {
+        return totalValue;
+    }
+
+    public void setTotalValue(BigDecimal totalValue) {
+        this.totalValue = totalValue;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.ams.datamodels.entities;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class AssetValueSummaryId implements Serializable {
+    @Enumerated(EnumType.STRING)
+    private AssetSummaryDimension dimension;
+
+    @Column(name = "group_key")
+    private String groupKey;
+
+    public AssetValueSummaryId() {
+    }
+
+    public AssetValueSummaryId(AssetSummaryDimension dimension, String groupKey) {
+        this.dimension = dimension;
+        this.groupKey = groupKey;
+    }
+
+    public AssetSummaryDimension getDimension() {
+        return dimension;
+    }
+
+    public String getGroupKey() {
+        return groupKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AssetValueSummaryId that)) {
+            return false;
+        }
+        return dimension == that.dimension && Objects.equals(groupKey, that.groupKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dimension, groupKey);
+    }
+}
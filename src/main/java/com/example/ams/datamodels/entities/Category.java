@@ -2,6 +2,8 @@ package com.example.ams.datamodels.entities;
 
 import jakarta.persistence.*;
 
+import java.math.BigDecimal;
+
 @Entity
 @Table(name = "categories")
 public class Category {
@@ -12,6 +14,16 @@ public class Category {
     private String name;
     private String description;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "depreciation_method")
+    private DepreciationMethod depreciationMethod;
+
+    @Column(name = "useful_life_years")
+    private Integer usefulLifeYears;
+
+    @Column(name = "declining_rate", precision = 5, scale = 4)
+    private BigDecimal decliningRate;
+
     public Long getId() {
         return id;
     }
@@ -35,4 +47,28 @@ public class Category {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public DepreciationMethod getDepreciationMethod() {
+        return depreciationMethod;
+    }
+
+    public void setDepreciationMethod(DepreciationMethod depreciationMethod) {
+        this.depreciationMethod = depreciationMethod;
+    }
+
+    public Integer getUsefulLifeYears() {
+        return usefulLifeYears;
+    }
+
+    public void setUsefulLifeYears(Integer usefulLifeYears) {
+        this.usefulLifeYears = usefulLifeYears;
+    }
+
+    public BigDecimal getDecliningRate() {
+        return decliningRate;
+    }
+
+    public void setDecliningRate(BigDecimal decliningRate) {
+        this.decliningRate = decliningRate;
+    }
 }
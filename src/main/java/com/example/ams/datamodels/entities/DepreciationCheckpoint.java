@@ -0,0 +1,97 @@
+package com.example.ams.datamodels.entities;
+
+import com.example.ams.datamodels.constants.Constants;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "depreciation_checkpoints",
+        uniqueConstraints = @UniqueConstraint(name = "uk_depreciation_checkpoints_partition", columnNames = {"run_id", "from_asset_id"}))
+public class DepreciationCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "from_asset_id", nullable = false)
+    private Long fromAssetId;
+
+    @Column(name = "to_asset_id", nullable = false)
+    private Long toAssetId;
+
+    @Column(name = "assets_scanned", nullable = false)
+    private long assetsScanned;
+
+    @Column(name = "entries_posted", nullable = false)
+    private long entriesPosted;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = Constants.VALUE_SCALE)
+    private BigDecimal totalAmount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public void setRunId(Long runId) {
+        this.runId = runId;
+    }
+
+    public Long getFromAssetId() {
+        return fromAssetId;
+    }
+
+    public void setFromAssetId(Long fromAssetId) {
+        this.fromAssetId = fromAssetId;
+    }
+
+    public Long getToAssetId() {
+        return toAssetId;
+    }
+
+    public void setToAssetId(Long toAssetId) {
+        this.toAssetId = toAssetId;
+    }
+
+    public long getAssetsScanned() {
+        return assetsScanned;
+    }
+
+    public void setAssetsScanned(long assetsScanned) {
+        this.assetsScanned = assetsScanned;
+    }
+
+    public long getEntriesPosted() {
+        return entriesPosted;
+    }
+
+    public void setEntriesPosted(long entriesPosted) {
+        this.entriesPosted = entriesPosted;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.ams.datamodels.entities;
+
+public enum DepreciationMethod {
+    NONE, STRAIGHT_LINE, DECLINING_BALANCE
+}
@@ -0,0 +1,98 @@
+package com.example.ams.datamodels.entities;
+
+import com.example.ams.datamodels.constants.Constants;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "depreciation_runs")
+public class DepreciationRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "as_of_date", nullable = false)
+    private LocalDate asOfDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DepreciationRunStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "assets_scanned", nullable = false)
+    private long assetsScanned;
+
+    @Column(name = "entries_posted", nullable = false)
+    private long entriesPosted;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = Constants.VALUE_SCALE)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getAsOfDate() {
+        return asOfDate;
+    }
+
+    public void setAsOfDate(LocalDate asOfDate) {
+        this.asOfDate = asOfDate;
+    }
+
+    public DepreciationRunStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DepreciationRunStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public long getAssetsScanned() {
+        return assetsScanned;
+    }
+
+    public void setAssetsScanned(long assetsScanned) {
+        this.assetsScanned = assetsScanned;
+    }
+
+    public long getEntriesPosted() {
+        return entriesPosted;
+    }
+
+    public void setEntriesPosted(long entriesPosted) {
+        this.entriesPosted = entriesPosted;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+}
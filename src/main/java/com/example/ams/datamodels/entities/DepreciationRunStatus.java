@@ -0,0 +1,5 @@
+package com.example.ams.datamodels.entities;
+
+public enum DepreciationRunStatus {
+    RUNNING, COMPLETED, FAILED
+}
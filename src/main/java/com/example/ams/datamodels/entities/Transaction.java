@@ -1,17 +1,31 @@
 package com.example.ams.datamodels.entities;
 
+import com.example.ams.dao.IsolatedTableGenerator;
+import com.example.ams.datamodels.constants.Constants;
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_asset_date", columnList = "asset_id, transaction_date")
+})
 public class Transaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "transaction_id_generator")
+    @GenericGenerator(name = "transaction_id_generator", type = IsolatedTableGenerator.class, parameters = {
+            @Parameter(name = TableGenerator.TABLE_PARAM, value = Constants.ID_GENERATOR_TABLE),
+            @Parameter(name = TableGenerator.SEGMENT_COLUMN_PARAM, value = "entity"),
+            @Parameter(name = TableGenerator.VALUE_COLUMN_PARAM, value = "next_id"),
+            @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "transactions"),
+            @Parameter(name = TableGenerator.INCREMENT_PARAM, value = Constants.ID_ALLOCATION_SIZE_PARAM)
+    })
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "asset_id", nullable = false)
     private Asset asset;
 
@@ -21,6 +35,10 @@ public class Transaction {
     private Double amount;
     private LocalDate transactionDate;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public Long getId() {
         return id;
     }
@@ -29,6 +47,10 @@ public class Transaction {
         this.id = id;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Asset getAsset() {
         return asset;
     }
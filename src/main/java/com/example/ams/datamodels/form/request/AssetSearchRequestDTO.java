@@ -0,0 +1,83 @@
+package com.example.ams.datamodels.form.request;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class AssetSearchRequestDTO {
+    private String name;
+    private String type;
+    private Long ownerId;
+    private Long categoryId;
+    private BigDecimal minValue;
+    private BigDecimal maxValue;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate purchasedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate purchasedTo;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public BigDecimal getMinValue() {
+        return minValue;
+    }
+
+    public void setMinValue(BigDecimal minValue) {
+        this.minValue = minValue;
+    }
+
+    public BigDecimal getMaxValue() {
+        return maxValue;
+    }
+
+    public void setMaxValue(BigDecimal maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    public LocalDate getPurchasedFrom() {
+        return purchasedFrom;
+    }
+
+    public void setPurchasedFrom(LocalDate purchasedFrom) {
+        this.purchasedFrom = purchasedFrom;
+    }
+
+    public LocalDate getPurchasedTo() {
+        return purchasedTo;
+    }
+
+    public void setPurchasedTo(LocalDate purchasedTo) {
+        this.purchasedTo = purchasedTo;
+    }
+}
@@ -4,6 +4,9 @@ package com.example.ams.datamodels.form.request;
 public class CategoryRequestDTO {
     private String name;
     private String description;
+    private String depreciationMethod;
+    private String usefulLifeYears;
+    private String decliningRate;
 
     public String getName() {
         return name;
@@ -20,4 +23,28 @@ public class CategoryRequestDTO {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public String getDepreciationMethod() {
+        return depreciationMethod;
+    }
+
+    public void setDepreciationMethod(String depreciationMethod) {
+        this.depreciationMethod = depreciationMethod;
+    }
+
+    public String getUsefulLifeYears() {
+        return usefulLifeYears;
+    }
+
+    public void setUsefulLifeYears(String usefulLifeYears) {
+        this.usefulLifeYears = usefulLifeYears;
+    }
+
+    public String getDecliningRate() {
+        return decliningRate;
+    }
+
+    public void setDecliningRate(String decliningRate) {
+        this.decliningRate = decliningRate;
+    }
 }
@@ -0,0 +1,39 @@
+package com.example.ams.datamodels.form.request;
+
+import com.example.ams.datamodels.entities.TransactionType;
+
+import java.math.BigDecimal;
+
+public class TransactionV2RequestDTO {
+    private Long assetId;
+    private TransactionType transactionType;
+    /**
+     * Typed for the contract only: transactions still store the amount as a double, so at most two
+     * decimals and 13 digits before the point are accepted, the range a double holds exactly.
+     */
+    private BigDecimal amount;
+
+    public Long getAssetId() {
+        return assetId;
+    }
+
+    public void setAssetId(Long assetId) {
+        this.assetId = assetId;
+    }
+
+    public TransactionType getTransactionType() {
+        return transactionType;
+    }
+
+    public void setTransactionType(TransactionType transactionType) {
+        this.transactionType = transactionType;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+}
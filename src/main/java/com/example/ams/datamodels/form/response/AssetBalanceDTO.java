@@ -0,0 +1,39 @@
+package com.example.ams.datamodels.form.response;
+
+import java.math.BigDecimal;
+
+public class AssetBalanceDTO {
+    private String assetId;
+    private BigDecimal balance;
+    private long transactionCount;
+
+    public String getAssetId() {
+        return assetId;
+    }
+
+    public void setAssetId(String assetId) {
+        this.assetId = assetId;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(long transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+
+    public AssetBalanceDTO(String assetId, BigDecimal balance, long transactionCount) {
+        this.assetId = assetId;
+        this.balance = balance;
+        this.transactionCount = transactionCount;
+    }
+}
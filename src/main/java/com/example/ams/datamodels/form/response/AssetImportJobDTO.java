@@ -0,0 +1,121 @@
+package com.example.ams.datamodels.form.response;
+
+import java.util.List;
+
+public class AssetImportJobDTO {
+    private String jobId;
+    private String status;
+    private String file;
+    private long bytesTotal;
+    private long bytesCommitted;
+    private double percentComplete;
+    private long linesProcessed;
+    private long inserted;
+    private long failed;
+    private String lastError;
+    private List<BulkRowErrorDTO> errors;
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public long getBytesTotal() {
+        return bytesTotal;
+    }
+
+    public void setBytesTotal(long bytesTotal) {
+        this.bytesTotal = bytesTotal;
+    }
+
+    public long getBytesCommitted() {
+        return bytesCommitted;
+    }
+
+    public void setBytesCommitted(long bytesCommitted) {
+        this.bytesCommitted = bytesCommitted;
+    }
+
+    public double getPercentComplete() {
+        return percentComplete;
+    }
+
+    public void setPercentComplete(double percentComplete) {
+        this.percentComplete = percentComplete;
+    }
+
+    public long getLinesProcessed() {
+        return linesProcessed;
+    }
+
+    public void setLinesProcessed(long linesProcessed) {
+        this.linesProcessed = linesProcessed;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(long inserted) {
+        this.inserted = inserted;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public List<BulkRowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<BulkRowErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public AssetImportJobDTO(String jobId, String status, String file, long bytesTotal, long bytesCommitted,
+                             double percentComplete, long linesProcessed, long inserted, long failed, String lastError,
+                             List<BulkRowErrorDTO> errors) {
+        this.jobId = jobId;
+        this.status = status;
+        this.file = file;
+        this.bytesTotal = bytesTotal;
+        this.bytesCommitted = bytesCommitted;
+        this.percentComplete = percentComplete;
+        this.linesProcessed = linesProcessed;
+        this.inserted = inserted;
+        this.failed = failed;
+        this.lastError = lastError;
+        this.errors = errors;
+    }
+}
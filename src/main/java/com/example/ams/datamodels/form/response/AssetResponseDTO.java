@@ -1,5 +1,10 @@
 package com.example.ams.datamodels.form.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 public class AssetResponseDTO {
     private String id;
     private String name;
@@ -9,6 +14,10 @@ public class AssetResponseDTO {
     private String ownerName;
     private String categoryName;
 
+    /** Sent as the ETag rather than in the body. */
+    @JsonIgnore
+    private Long version;
+
     public String getId() {
         return id;
     }
@@ -65,6 +74,14 @@ public class AssetResponseDTO {
         this.categoryName = categoryName;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public AssetResponseDTO(String id, String name, String type, String value, String purchaseDate, String ownerName, String categoryName) {
         this.id = id;
         this.name = name;
@@ -74,4 +91,14 @@ public class AssetResponseDTO {
         this.ownerName = ownerName;
         this.categoryName = categoryName;
     }
+
+    public AssetResponseDTO(Long id, String name, String type, BigDecimal value, LocalDate purchaseDate, String ownerName, String categoryName) {
+        this(id.toString(), name, type, value.toPlainString(), purchaseDate.toString(), ownerName, categoryName);
+    }
+
+    public AssetResponseDTO(Long id, String name, String type, BigDecimal value, LocalDate purchaseDate, String ownerName, String categoryName,
+                            Long version) {
+        this(id, name, type, value, purchaseDate, ownerName, categoryName);
+        this.version = version;
+    }
 }
@@ -0,0 +1,72 @@
+package com.example.ams.datamodels.form.response;
+
+import com.example.ams.datamodels.constants.Constants;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class AssetSummaryDTO {
+    private String groupKey;
+    private String groupName;
+    private long assetCount;
+    private BigDecimal totalValue;
+    private BigDecimal averageValue;
+
+    public String getGroupKey() {
+        return groupKey;
+    }
+
+    public void setGroupKey(String groupKey) {
+        this.groupKey = groupKey;
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    public void setGroupName(String groupName) {
+        this.groupName = groupName;
+    }
+
+    public long getAssetCount() {
+        return assetCount;
+    }
+
+    public void setAssetCount(long assetCount) {
+        this.assetCount = assetCount;
+    }
+
+    public BigDecimal getTotalValue() {
+        return totalValue;
+    }
+
+    public void setTotalValue(BigDecimal totalValue) {
+        this.totalValue = totalValue;
+    }
+
+    public BigDecimal getAverageValue() {
+        return averageValue;
+    }
+
+    public void setAverageValue(BigDecimal averageValue) {
+        this.averageValue = averageValue;
+    }
+
+    public AssetSummaryDTO(String groupKey, String groupName, long assetCount, BigDecimal totalValue) {
+        this.groupKey = groupKey;
+        this.groupName = groupName;
+        this.assetCount = assetCount;
+        this.totalValue = totalValue == null ? BigDecimal.ZERO : totalValue;
+        this.averageValue = assetCount == 0
+                ? BigDecimal.ZERO
+                : this.totalValue.divide(BigDecimal.valueOf(assetCount), Constants.VALUE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public AssetSummaryDTO(Long groupId, String groupName, Long assetCount, BigDecimal totalValue) {
+        this(groupId.toString(), groupName, assetCount, totalValue);
+    }
+
+    public AssetSummaryDTO(String type, Long assetCount, BigDecimal totalValue) {
+        this(type, type, assetCount, totalValue);
+    }
+}
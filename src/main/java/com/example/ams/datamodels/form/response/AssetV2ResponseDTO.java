@@ -0,0 +1,80 @@
+package com.example.ams.datamodels.form.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class AssetV2ResponseDTO {
+    private long id;
+    private String name;
+    private String type;
+    private BigDecimal value;
+    private LocalDate purchaseDate;
+    private String ownerName;
+    private String categoryName;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    public void setValue(BigDecimal value) {
+        this.value = value;
+    }
+
+    public LocalDate getPurchaseDate() {
+        return purchaseDate;
+    }
+
+    public void setPurchaseDate(LocalDate purchaseDate) {
+        this.purchaseDate = purchaseDate;
+    }
+
+    public String getOwnerName() {
+        return ownerName;
+    }
+
+    public void setOwnerName(String ownerName) {
+        this.ownerName = ownerName;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    public AssetV2ResponseDTO(long id, String name, String type, BigDecimal value, LocalDate purchaseDate, String ownerName, String categoryName) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.value = value;
+        this.purchaseDate = purchaseDate;
+        this.ownerName = ownerName;
+        this.categoryName = categoryName;
+    }
+}
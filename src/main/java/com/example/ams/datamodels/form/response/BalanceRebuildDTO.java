@@ -0,0 +1,37 @@
+package com.example.ams.datamodels.form.response;
+
+public class BalanceRebuildDTO {
+    private int partitions;
+    private long correctedBalances;
+    private long elapsedMillis;
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public long getCorrectedBalances() {
+        return correctedBalances;
+    }
+
+    public void setCorrectedBalances(long correctedBalances) {
+        this.correctedBalances = correctedBalances;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public BalanceRebuildDTO(int partitions, long correctedBalances, long elapsedMillis) {
+        this.partitions = partitions;
+        this.correctedBalances = correctedBalances;
+        this.elapsedMillis = elapsedMillis;
+    }
+}
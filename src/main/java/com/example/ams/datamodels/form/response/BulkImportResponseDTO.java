@@ -0,0 +1,69 @@
+package com.example.ams.datamodels.form.response;
+
+import java.util.List;
+
+public class BulkImportResponseDTO {
+    private int received;
+    private int inserted;
+    private int failed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<BulkRowErrorDTO> errors;
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public List<BulkRowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<BulkRowErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public BulkImportResponseDTO(int received, int inserted, long elapsedMillis, List<BulkRowErrorDTO> errors) {
+        this.received = received;
+        this.inserted = inserted;
+        this.failed = errors.size();
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = elapsedMillis > 0 ? inserted * 1000.0 / elapsedMillis : inserted;
+        this.errors = errors;
+    }
+}
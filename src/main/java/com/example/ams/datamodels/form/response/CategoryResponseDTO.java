@@ -5,6 +5,9 @@ public class CategoryResponseDTO {
     private String id;
     private String name;
     private String description;
+    private String depreciationMethod;
+    private String usefulLifeYears;
+    private String decliningRate;
 
     public String getId() {
         return id;
@@ -30,9 +33,37 @@ public class CategoryResponseDTO {
         this.description = description;
     }
 
-    public CategoryResponseDTO(String id, String name, String description) {
+    public String getDepreciationMethod() {
+        return depreciationMethod;
+    }
+
+    public void setDepreciationMethod(String depreciationMethod) {
+        this.depreciationMethod = depreciationMethod;
+    }
+
+    public String getUsefulLifeYears() {
+        return usefulLifeYears;
+    }
+
+    public void setUsefulLifeYears(String usefulLifeYears) {
+        this.usefulLifeYears = usefulLifeYears;
+    }
+
+    public String getDecliningRate() {
+        return decliningRate;
+    }
+
+    public void setDecliningRate(String decliningRate) {
+        this.decliningRate = decliningRate;
+    }
+
+    public CategoryResponseDTO(String id, String name, String description,
+                               String depreciationMethod, String usefulLifeYears, String decliningRate) {
         this.id = id;
         this.name = name;
         this.description = description;
+        this.depreciationMethod = depreciationMethod;
+        this.usefulLifeYears = usefulLifeYears;
+        this.decliningRate = decliningRate;
     }
 }
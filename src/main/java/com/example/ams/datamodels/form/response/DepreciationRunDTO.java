@@ -0,0 +1,131 @@
+package com.example.ams.datamodels.form.response;
+
+import java.math.BigDecimal;
+
+public class DepreciationRunDTO {
+    private String runId;
+    private String asOfDate;
+    private boolean dryRun;
+    private String status;
+    private int partitions;
+    private int partitionsResumed;
+    private long assetsScanned;
+    private long entriesPosted;
+    private BigDecimal totalAmount;
+    private long elapsedMillis;
+    private double assetsPerSecond;
+    private double entriesPerSecond;
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public String getAsOfDate() {
+        return asOfDate;
+    }
+
+    public void setAsOfDate(String asOfDate) {
+        this.asOfDate = asOfDate;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public void setPartitions(int partitions) {
+        this.partitions = partitions;
+    }
+
+    public int getPartitionsResumed() {
+        return partitionsResumed;
+    }
+
+    public void setPartitionsResumed(int partitionsResumed) {
+        this.partitionsResumed = partitionsResumed;
+    }
+
+    public long getAssetsScanned() {
+        return assetsScanned;
+    }
+
+    public void setAssetsScanned(long assetsScanned) {
+        this.assetsScanned = assetsScanned;
+    }
+
+    public long getEntriesPosted() {
+        return entriesPosted;
+    }
+
+    public void setEntriesPosted(long entriesPosted) {
+        this.entriesPosted = entriesPosted;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getAssetsPerSecond() {
+        return assetsPerSecond;
+    }
+
+    public void setAssetsPerSecond(double assetsPerSecond) {
+        this.assetsPerSecond = assetsPerSecond;
+    }
+
+    public double getEntriesPerSecond() {
+        return entriesPerSecond;
+    }
+
+    public void setEntriesPerSecond(double entriesPerSecond) {
+        this.entriesPerSecond = entriesPerSecond;
+    }
+
+    public DepreciationRunDTO(String runId, String asOfDate, boolean dryRun, String status, int partitions, int partitionsResumed,
+                              long assetsScanned, long entriesPosted, BigDecimal totalAmount, long elapsedMillis) {
+        this.runId = runId;
+        this.asOfDate = asOfDate;
+        this.dryRun = dryRun;
+        this.status = status;
+        this.partitions = partitions;
+        this.partitionsResumed = partitionsResumed;
+        this.assetsScanned = assetsScanned;
+        this.entriesPosted = entriesPosted;
+        this.totalAmount = totalAmount;
+        this.elapsedMillis = elapsedMillis;
+        double seconds = Math.max(elapsedMillis, 1) / 1000.0;
+        this.assetsPerSecond = assetsScanned / seconds;
+        this.entriesPerSecond = entriesPosted / seconds;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.ams.datamodels.form.response;
+
+import java.util.List;
+
+public class IngestionStatusDTO {
+    private String ingestionId;
+    private String state;
+    private int received;
+    private int persisted;
+    private int failed;
+    private List<BulkRowErrorDTO> errors;
+
+    public String getIngestionId() {
+        return ingestionId;
+    }
+
+    public void setIngestionId(String ingestionId) {
+        this.ingestionId = ingestionId;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getPersisted() {
+        return persisted;
+    }
+
+    public void setPersisted(int persisted) {
+        this.persisted = persisted;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkRowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<BulkRowErrorDTO> errors) {
+        this.errors = errors;
+    }
+
+    public IngestionStatusDTO(String ingestionId, String state, int received, int persisted, int failed, List<BulkRowErrorDTO> errors) {
+        this.ingestionId = ingestionId;
+        this.state = state;
+        this.received = received;
+        this.persisted = persisted;
+        this.failed = failed;
+        this.errors = errors;
+    }
+}
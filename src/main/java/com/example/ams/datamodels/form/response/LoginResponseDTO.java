@@ -0,0 +1,47 @@
+package com.example.ams.datamodels.form.response;
+
+public class LoginResponseDTO {
+    private String token;
+    private String tokenType;
+    private long expiresInSeconds;
+    private UserResponseDTO user;
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getTokenType() {
+        return tokenType;
+    }
+
+    public void setTokenType(String tokenType) {
+        this.tokenType = tokenType;
+    }
+
+    public long getExpiresInSeconds() {
+        return expiresInSeconds;
+    }
+
+    public void setExpiresInSeconds(long expiresInSeconds) {
+        this.expiresInSeconds = expiresInSeconds;
+    }
+
+    public UserResponseDTO getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponseDTO user) {
+        this.user = user;
+    }
+
+    public LoginResponseDTO(String token, String tokenType, long expiresInSeconds, UserResponseDTO user) {
+        this.token = token;
+        this.tokenType = tokenType;
+        this.expiresInSeconds = expiresInSeconds;
+        this.user = user;
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.ams.datamodels.form.response;
 
+import com.example.ams.datamodels.entities.TransactionType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
 
 public class TransactionResponseDTO {
     private String id;
@@ -8,6 +12,10 @@ public class TransactionResponseDTO {
     private String amount;
     private String transactionDate;
 
+    /** Sent as the ETag rather than in the body. */
+    @JsonIgnore
+    private Long version;
+
     public String getId() {
         return id;
     }
@@ -48,6 +56,14 @@ public class TransactionResponseDTO {
         this.transactionDate = transactionDate;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public TransactionResponseDTO(String id, String assetName, String transactionType, String amount, String transactionDate) {
         this.id = id;
         this.assetName = assetName;
@@ -55,4 +71,14 @@ public class TransactionResponseDTO {
         this.amount = amount;
         this.transactionDate = transactionDate;
     }
+
+    public TransactionResponseDTO(Long id, String assetName, TransactionType transactionType, Double amount, LocalDate transactionDate) {
+        this(id.toString(), assetName, transactionType.toString(), amount.toString(), transactionDate.toString());
+    }
+
+    public TransactionResponseDTO(Long id, String assetName, TransactionType transactionType, Double amount, LocalDate transactionDate,
+                                  Long version) {
+        this(id, assetName, transactionType, amount, transactionDate);
+        this.version = version;
+    }
 }
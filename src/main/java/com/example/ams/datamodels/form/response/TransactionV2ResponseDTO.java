@@ -0,0 +1,66 @@
+package com.example.ams.datamodels.form.response;
+
+import com.example.ams.datamodels.entities.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class TransactionV2ResponseDTO {
+    private long id;
+    private String assetName;
+    private TransactionType transactionType;
+    /**
+     * Read back from the stored double, so the scale is not kept: 12.50 is returned as 12.5. Rows
+     * written before amounts were limited to two decimals may show more.
+     */
+    private BigDecimal amount;
+    private LocalDate transactionDate;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getAssetName() {
+        return assetName;
+    }
+
+    public void setAssetName(String assetName) {
+        this.assetName = assetName;
+    }
+
+    public TransactionType getTransactionType() {
+        return transactionType;
+    }
+
+    public void setTransactionType(TransactionType transactionType) {
+        this.transactionType = transactionType;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+
+    public void setTransactionDate(LocalDate transactionDate) {
+        this.transactionDate = transactionDate;
+    }
+
+    public TransactionV2ResponseDTO(long id, String assetName, TransactionType transactionType, double amount, LocalDate transactionDate) {
+        this.id = id;
+        this.assetName = assetName;
+        this.transactionType = transactionType;
+        this.amount = BigDecimal.valueOf(amount);
+        this.transactionDate = transactionDate;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.ams.exceptionhandling;
+
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.form.response.APIResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(ResourceNotFound.class)
+    public ResponseEntity<APIResponse<Void>> handleNotFound(ResourceNotFound e) {
+        return error(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler({InvalidRequest.class, MethodArgumentTypeMismatchException.class,
+            MissingServletRequestParameterException.class})
+    public ResponseEntity<APIResponse<Void>> handleInvalidRequest(Exception e) {
+        return error(HttpStatus.BAD_REQUEST, "Invalid request: " + e.getMessage());
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<APIResponse<Void>> handleUnreadableBody(HttpMessageNotReadableException e) {
+        return error(HttpStatus.BAD_REQUEST, "Invalid request: malformed request body");
+    }
+
+    @ExceptionHandler(ResourceConflict.class)
+    public ResponseEntity<APIResponse<Void>> handleConflict(ResourceConflict e) {
+        return error(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<APIResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return error(HttpStatus.CONFLICT, Constants.STALE_VERSION);
+    }
+
+    @ExceptionHandler(PreconditionRequired.class)
+    public ResponseEntity<APIResponse<Void>> handlePreconditionRequired(PreconditionRequired e) {
+        return error(HttpStatus.PRECONDITION_REQUIRED, e.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCredentials.class)
+    public ResponseEntity<APIResponse<Void>> handleInvalidCredentials(InvalidCredentials e) {
+        return error(HttpStatus.UNAUTHORIZED, e.getMessage());
+    }
+
+    @ExceptionHandler(IngestionRejected.class)
+    public ResponseEntity<APIResponse<Void>> handleIngestionRejected(IngestionRejected e) {
+        return ResponseEntity.status(e.isUnavailable() ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new APIResponse<>(false, e.getMessage(), null));
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<APIResponse<Void>> handleRejectedExecution(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new APIResponse<>(false, "Server is busy, retry later", null));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<APIResponse<Void>> handleUnexpected(Exception e) {
+        if (e instanceof ErrorResponse errorResponse) {
+            return ResponseEntity.status(errorResponse.getStatusCode())
+                    .headers(errorResponse.getHeaders())
+                    .body(new APIResponse<>(false, e.getMessage(), null));
+        }
+        logger.error("Unexpected error", e);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error");
+    }
+
+    private ResponseEntity<APIResponse<Void>> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new APIResponse<>(false, message, null));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ams.exceptionhandling;
+
+public class IngestionRejected extends StacklessException {
+    private final boolean unavailable;
+
+    public IngestionRejected(String message, boolean unavailable) {
+        super(message);
+        this.unavailable = unavailable;
+    }
+
+    public boolean isUnavailable() {
+        return unavailable;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.ams.exceptionhandling;
+
+public class InvalidCredentials extends StacklessException {
+    public InvalidCredentials(String message) {
+        super(message);
+    }
+}
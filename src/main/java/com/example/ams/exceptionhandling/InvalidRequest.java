@@ -0,0 +1,7 @@
+package com.example.ams.exceptionhandling;
+
+public class InvalidRequest extends StacklessException {
+    public InvalidRequest(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.ams.exceptionhandling;
+
+public class PreconditionRequired extends StacklessException {
+    public PreconditionRequired(String message) {
+        super(message);
+    }
+}
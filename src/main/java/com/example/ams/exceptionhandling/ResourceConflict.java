@@ -0,0 +1,7 @@
+package com.example.ams.exceptionhandling;
+
+public class ResourceConflict extends StacklessException {
+    public ResourceConflict(String message) {
+        super(message);
+    }
+}
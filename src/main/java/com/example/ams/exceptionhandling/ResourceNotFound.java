@@ -1,6 +1,6 @@
 package com.example.ams.exceptionhandling;
 
-public class ResourceNotFound extends RuntimeException{
+public class ResourceNotFound extends StacklessException {
     public ResourceNotFound(String message) {
         super(message);
     }
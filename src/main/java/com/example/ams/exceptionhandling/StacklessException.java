@@ -0,0 +1,11 @@
+package com.example.ams.exceptionhandling;
+
+/**
+ * Base for expected failures (missing resources, bad input, conflicts). These are part of normal
+ * control flow and are mapped straight to a status code, so no stack trace is captured.
+ */
+public abstract class StacklessException extends RuntimeException {
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ams.security;
+
+import com.example.ams.datamodels.entities.Role;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+public record JwtPrincipal(Long userId, String name, String email, Role role, long issuedAt, long expiresAt) {
+
+    public Authentication toAuthentication() {
+        return UsernamePasswordAuthenticationToken.authenticated(
+                this, null, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.ams.security;
+
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues and verifies HS256 JSON Web Tokens. The Authentication built from verified claims is
+ * kept in a bounded cache keyed by the raw token and evicted when the token expires, so a hot
+ * token costs one map lookup instead of a base64 decode, an HMAC and a JSON parse.
+ */
+@Component
+public class JwtTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenService.class);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final Duration tokenTtl;
+    private final Cache<String, Authentication> claims;
+    private final Cache<Long, Long> revokedBefore;
+    private final boolean cacheClaims;
+
+    public JwtTokenService(ObjectMapper objectMapper,
+                           @Value("${ams.security.jwt.secret:}") String secret,
+                           @Value("${ams.security.token.ttl:15m}") Duration tokenTtl,
+                           @Value("${ams.security.token.max-entries:100000}") long maxEntries) {
+        this.objectMapper = objectMapper;
+        this.tokenTtl = tokenTtl;
+        this.key = new SecretKeySpec(secretBytes(secret), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.cacheClaims = maxEntries > 0;
+        this.claims = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxEntries, 0))
+                .expireAfter(new Expiry<String, Authentication>() {
+                    @Override
+                    public long expireAfterCreate(String token, Authentication authentication, long currentTime) {
+                        long expiresAt = ((JwtPrincipal) authentication.getPrincipal()).expiresAt();
+                        return TimeUnit.SECONDS.toNanos(Math.max(expiresAt - Instant.now().getEpochSecond(), 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Authentication authentication, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Authentication authentication, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(tokenTtl)
+                .build();
+    }
+
+    public String issue(User user) {
+        // iat has one-second resolution and tokens issued in the revocation second are rejected,
+        // so a token issued right after a revocation is dated into the next second.
+        long issuedAt = Instant.now().getEpochSecond();
+        Long revokedAt = revokedBefore.getIfPresent(user.getId());
+        if (revokedAt != null && issuedAt <= revokedAt) {
+            issuedAt = revokedAt + 1;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("sub", user.getId().toString());
+        payload.put("name", user.getName());
+        payload.put("email", user.getEmail());
+        payload.put("role", user.getRole().name());
+        payload.put("iat", issuedAt);
+        payload.put("exp", issuedAt + tokenTtl.toSeconds());
+
+        try {
+            String unsigned = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+            return unsigned + "." + ENCODER.encodeToString(sign(unsigned));
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to issue token: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the authentication for a valid, unexpired and unrevoked token, or null otherwise.
+     */
+    public Authentication authenticate(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        Authentication authentication = claims.getIfPresent(token);
+        if (authentication == null) {
+            JwtPrincipal verified = verify(token);
+            if (verified == null) {
+                return null;
+            }
+            authentication = verified.toAuthentication();
+            if (cacheClaims) {
+                claims.put(token, authentication);
+            }
+        }
+
+        JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+        Long revokedAt = revokedBefore.getIfPresent(principal.userId());
+        if (revokedAt != null && principal.issuedAt() <= revokedAt) {
+            claims.invalidate(token);
+            return null;
+        }
+        return authentication;
+    }
+
+    public void revokeUser(Long userId) {
+        revokedBefore.put(userId, Instant.now().getEpochSecond());
+        claims.asMap().values().removeIf(authentication -> userId.equals(((JwtPrincipal) authentication.getPrincipal()).userId()));
+    }
+
+    public Duration getTokenTtl() {
+        return tokenTtl;
+    }
+
+    private JwtPrincipal verify(String token) {
+        int payloadStart = token.indexOf('.');
+        int signatureStart = token.lastIndexOf('.');
+        if (payloadStart != HEADER.length() || signatureStart <= payloadStart || !token.startsWith(HEADER)) {
+            return null;
+        }
+
+        try {
+            byte[] expected = sign(token.substring(0, signatureStart));
+            byte[] actual = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+
+            JsonNode payload = objectMapper.readTree(DECODER.decode(token.substring(payloadStart + 1, signatureStart)));
+            long expiresAt = payload.path("exp").asLong();
+            if (expiresAt <= Instant.now().getEpochSecond()) {
+                return null;
+            }
+            return new JwtPrincipal(
+                    Long.valueOf(payload.path("sub").asText()),
+                    payload.path("name").asText(null),
+                    payload.path("email").asText(),
+                    Role.valueOf(payload.path("role").asText()),
+                    payload.path("iat").asLong(),
+                    expiresAt);
+        } catch (Exception e) {
+            logger.debug("Rejected malformed token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] sign(String unsigned) {
+        return macs.get().doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] secretBytes(String secret) {
+        if (StringUtils.hasText(secret)) {
+            return Base64.getDecoder().decode(secret.trim());
+        }
+        logger.warn("ams.security.jwt.secret is not set; using a random key, tokens will not survive a restart");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
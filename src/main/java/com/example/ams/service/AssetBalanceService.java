@@ -0,0 +1,16 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.form.response.AssetBalanceDTO;
+import com.example.ams.datamodels.form.response.BalanceRebuildDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AssetBalanceService {
+    AssetBalanceDTO getBalance(String assetId);
+    List<AssetBalanceDTO> getBalances(List<Long> assetIds);
+    void transactionsAdded(Collection<Transaction> transactions);
+    void transactionsRemoved(Collection<Transaction> transactions);
+    BalanceRebuildDTO rebuild();
+}
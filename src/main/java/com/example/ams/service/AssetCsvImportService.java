@@ -0,0 +1,12 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.form.response.AssetImportJobDTO;
+
+import java.io.InputStream;
+
+public interface AssetCsvImportService {
+    AssetImportJobDTO importFile(String path, long offset);
+    AssetImportJobDTO importUpload(InputStream body);
+    AssetImportJobDTO resume(Long jobId);
+    AssetImportJobDTO getStatus(Long jobId);
+}
@@ -0,0 +1,10 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.datamodels.form.response.BulkImportResponseDTO;
+
+import java.util.Iterator;
+
+public interface AssetImportService {
+    BulkImportResponseDTO importAssets(Iterator<AssetRequestDTO> assetRequestDTOs);
+}
@@ -1,13 +1,24 @@
 package com.example.ams.service;
 
 import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.datamodels.form.request.AssetSearchRequestDTO;
+import com.example.ams.datamodels.form.request.AssetV2RequestDTO;
 import com.example.ams.datamodels.form.response.AssetResponseDTO;
-import java.util.List;
+import com.example.ams.datamodels.form.response.AssetV2ResponseDTO;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+
+import java.util.function.Consumer;
 
 public interface AssetService {
     AssetResponseDTO saveAsset(AssetRequestDTO assetRequestDTO);
-    List<AssetResponseDTO> getAllAssets();
+    CursorPageResponseDTO<AssetResponseDTO> getAssets(Long after, int limit);
+    void streamAllAssets(Consumer<AssetResponseDTO> consumer);
     AssetResponseDTO getAssetById(String id);
     void deleteAsset(String id);
-    AssetResponseDTO updateAsset(String id, AssetRequestDTO assetRequestDTO);
+    AssetResponseDTO updateAsset(String id, AssetRequestDTO assetRequestDTO, Long expectedVersion);
+    AssetResponseDTO patchAsset(String id, AssetRequestDTO assetRequestDTO, Long expectedVersion);
+    CursorPageResponseDTO<AssetResponseDTO> searchAssets(AssetSearchRequestDTO criteria, Long after, int limit);
+    AssetV2ResponseDTO saveAssetV2(AssetV2RequestDTO assetRequestDTO);
+    CursorPageResponseDTO<AssetV2ResponseDTO> getAssetsV2(Long after, int limit);
+    AssetV2ResponseDTO getAssetByIdV2(long id);
 }
@@ -0,0 +1,14 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.form.response.AssetSuggestionDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AssetSuggestService {
+    List<AssetSuggestionDTO> suggest(String query, int limit);
+    void assetsAdded(Collection<Asset> assets);
+    void assetsRemoved(Collection<Asset> assets);
+    void rebuild();
+}
@@ -0,0 +1,15 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.form.response.AssetSummaryDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AssetSummaryService {
+    List<AssetSummaryDTO> getSummary(String groupBy);
+    void assetsAdded(Collection<Asset> assets);
+    void assetsRemoved(Collection<Asset> assets);
+    void rebuild();
+    boolean isMaterialized();
+}
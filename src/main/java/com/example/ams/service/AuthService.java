@@ -0,0 +1,14 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.form.request.LoginRequestDTO;
+import com.example.ams.datamodels.form.response.LoginResponseDTO;
+import com.example.ams.datamodels.form.response.UserResponseDTO;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface AuthService {
+    CompletableFuture<LoginResponseDTO> login(LoginRequestDTO loginRequestDTO);
+    Optional<UserResponseDTO> verify(String token);
+    void revokeUser(Long userId);
+}
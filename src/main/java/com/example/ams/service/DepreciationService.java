@@ -0,0 +1,10 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.form.response.DepreciationRunDTO;
+
+import java.time.LocalDate;
+
+public interface DepreciationService {
+    DepreciationRunDTO run(LocalDate asOfDate, boolean dryRun);
+    DepreciationRunDTO getRun(String id);
+}
@@ -0,0 +1,12 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.constants.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface ExportService {
+    long exportAssets(ExportFormat format, boolean gzip, OutputStream out) throws IOException;
+    long exportTransactions(LocalDate from, LocalDate to, ExportFormat format, boolean gzip, OutputStream out) throws IOException;
+}
@@ -0,0 +1,9 @@
+package com.example.ams.service;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PasswordHashingService {
+    CompletableFuture<String> hash(String rawPassword);
+    CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword);
+    CompletableFuture<String> rehashIfChanged(String rawPassword, String encodedPassword);
+}
@@ -0,0 +1,12 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public interface ReactiveReadService {
+    Flux<AssetResponseDTO> streamAssets(Long after, int pageSize);
+    Flux<TransactionResponseDTO> streamTransactions(Long after, LocalDate from, LocalDate to, String type, Long assetId, int pageSize);
+}
@@ -0,0 +1,14 @@
+package com.example.ams.service;
+
+import com.example.ams.datamodels.form.request.TransactionRequestDTO;
+import com.example.ams.datamodels.form.response.BulkImportResponseDTO;
+import com.example.ams.datamodels.form.response.IngestionStatusDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface TransactionIngestionService {
+    BulkImportResponseDTO saveTransactions(List<TransactionRequestDTO> transactionRequestDTOs);
+    IngestionStatusDTO submit(List<TransactionRequestDTO> transactionRequestDTOs);
+    Optional<IngestionStatusDTO> getStatus(String ingestionId);
+}
@@ -1,14 +1,25 @@
 package com.example.ams.service;
 
+import com.example.ams.datamodels.entities.TransactionType;
 import com.example.ams.datamodels.form.request.TransactionRequestDTO;
+import com.example.ams.datamodels.form.request.TransactionV2RequestDTO;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.datamodels.form.response.PageResponseDTO;
 import com.example.ams.datamodels.form.response.TransactionResponseDTO;
-import java.util.List;
+import com.example.ams.datamodels.form.response.TransactionV2ResponseDTO;
+
+import java.time.LocalDate;
 
 public interface TransactionService {
     TransactionResponseDTO saveTransaction(TransactionRequestDTO transactionRequestDTO);
-    List<TransactionResponseDTO> getAllTransactions();
+    PageResponseDTO<TransactionResponseDTO> getTransactions(LocalDate from, LocalDate to, String type, Long assetId, int page, int size);
+    CursorPageResponseDTO<TransactionResponseDTO> getTransactionsAfter(Long after, LocalDate from, LocalDate to, String type, Long assetId, int limit);
     TransactionResponseDTO getTransactionById(String id);
-    TransactionResponseDTO updateTransaction(String id, TransactionRequestDTO transactionRequestDTO);
+    TransactionResponseDTO updateTransaction(String id, TransactionRequestDTO transactionRequestDTO, Long expectedVersion);
+    TransactionResponseDTO patchTransaction(String id, TransactionRequestDTO transactionRequestDTO, Long expectedVersion);
     void deleteTransaction(String id);
+    TransactionV2ResponseDTO saveTransactionV2(TransactionV2RequestDTO transactionRequestDTO);
+    CursorPageResponseDTO<TransactionV2ResponseDTO> getTransactionsAfterV2(Long after, LocalDate from, LocalDate to, TransactionType type, Long assetId, int limit);
+    TransactionV2ResponseDTO getTransactionByIdV2(long id);
 
 }
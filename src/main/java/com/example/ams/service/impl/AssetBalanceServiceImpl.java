@@ -0,0 +1,204 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetBalanceRepository;
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.entities.AssetBalance;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.form.response.AssetBalanceDTO;
+import com.example.ams.datamodels.form.response.BalanceRebuildDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.ResourceConflict;
+import com.example.ams.exceptionhandling.ResourceNotFound;
+import com.example.ams.service.AssetBalanceService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Book value per asset (purchases minus sales and depreciation), kept in {@code asset_balances}
+ * by applying signed deltas inside the same database transaction as the ledger write.
+ * <p>
+ * A rebuild never deletes rows: it reads the drift between the ledger and the stored balances
+ * from one snapshot and applies it as another delta, so ledger writes that commit while a range
+ * is being rebuilt are neither lost nor counted twice.
+ */
+@Service
+@Timed("ams.service")
+public class AssetBalanceServiceImpl implements AssetBalanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetBalanceServiceImpl.class);
+    private final AssetBalanceRepository assetBalanceRepository;
+    private final AssetRepository assetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long rebuildChunkSize;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public AssetBalanceServiceImpl(AssetBalanceRepository assetBalanceRepository, AssetRepository assetRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${ams.balances.rebuild.threads:4}") int rebuildThreads,
+                                   @Value("${ams.balances.rebuild.chunk-size:10000}") long rebuildChunkSize) {
+        this.assetBalanceRepository = assetBalanceRepository;
+        this.assetRepository = assetRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.rebuildExecutor = Executors.newFixedThreadPool(rebuildThreads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-balance-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssetBalanceDTO getBalance(String assetId) {
+        Long id = parseId(assetId);
+        return assetBalanceRepository.findById(id)
+                .map(this::mapToDTO)
+                .orElseGet(() -> {
+                    if (!assetRepository.existsById(id)) {
+                        throw new ResourceNotFound("Asset not found");
+                    }
+                    return new AssetBalanceDTO(assetId, BigDecimal.ZERO, 0);
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetBalanceDTO> getBalances(List<Long> assetIds) {
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(assetIds);
+        if (ids.size() > Constants.MAX_PAGE_LIMIT) {
+            throw new InvalidRequest("At most " + Constants.MAX_PAGE_LIMIT + " asset ids can be requested at once");
+        }
+
+        Map<Long, AssetBalance> balances = assetBalanceRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(AssetBalance::getAssetId, Function.identity()));
+        return ids.stream()
+                .map(id -> balances.containsKey(id)
+                        ? mapToDTO(balances.get(id))
+                        : new AssetBalanceDTO(id.toString(), BigDecimal.ZERO, 0))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transactionsAdded(Collection<Transaction> transactions) {
+        applyDeltas(transactions, 1);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void transactionsRemoved(Collection<Transaction> transactions) {
+        applyDeltas(transactions, -1);
+    }
+
+    @Override
+    public BalanceRebuildDTO rebuild() {
+        // Two concurrent rebuilds would both apply the same drift.
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new ResourceConflict("A balance rebuild is already in progress");
+        }
+        try {
+            return rebuildPartitions();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private BalanceRebuildDTO rebuildPartitions() {
+        long start = System.currentTimeMillis();
+        List<Object[]> range = assetRepository.findIdRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return new BalanceRebuildDTO(0, 0, System.currentTimeMillis() - start);
+        }
+
+        long minId = ((Number) range.get(0)[0]).longValue();
+        long maxId = ((Number) range.get(0)[1]).longValue();
+        List<CompletableFuture<Integer>> partitions = new ArrayList<>();
+        for (long from = minId; from <= maxId; from += rebuildChunkSize) {
+            long fromId = from;
+            long toId = Math.min(from + rebuildChunkSize - 1, maxId);
+            partitions.add(CompletableFuture.supplyAsync(() -> rebuildRange(fromId, toId), rebuildExecutor));
+        }
+        long corrected = partitions.stream().mapToLong(CompletableFuture::join).sum();
+        long elapsed = System.currentTimeMillis() - start;
+        logger.info("Corrected {} asset balances in {} partitions in {} ms", corrected, partitions.size(), elapsed);
+        return new BalanceRebuildDTO(partitions.size(), corrected, elapsed);
+    }
+
+    private int rebuildRange(long fromId, long toId) {
+        Integer corrected = transactionTemplate.execute(status -> {
+            List<Object[]> drift = assetBalanceRepository.findDrift(fromId, toId);
+            for (Object[] row : drift) {
+                assetBalanceRepository.applyDelta(((Number) row[0]).longValue(),
+                        new BigDecimal(row[1].toString()), ((Number) row[2]).longValue());
+            }
+            return drift.size();
+        });
+        return corrected == null ? 0 : corrected;
+    }
+
+    private void applyDeltas(Collection<Transaction> transactions, int sign) {
+        Map<Long, Delta> deltas = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            Delta delta = deltas.computeIfAbsent(transaction.getAsset().getId(), key -> new Delta());
+            delta.count++;
+            delta.balance = delta.balance.add(signedAmount(transaction));
+        }
+
+        deltas.forEach((assetId, delta) -> assetBalanceRepository.applyDelta(
+                assetId,
+                sign > 0 ? delta.balance : delta.balance.negate(),
+                sign * delta.count));
+    }
+
+    private BigDecimal signedAmount(Transaction transaction) {
+        BigDecimal amount = BigDecimal.valueOf(transaction.getAmount()).setScale(Constants.VALUE_SCALE, RoundingMode.HALF_UP);
+        return transaction.getTransactionType() == TransactionType.PURCHASE ? amount : amount.negate();
+    }
+
+    private Long parseId(String assetId) {
+        try {
+            return Long.valueOf(assetId.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidRequest("Invalid asset ID: " + assetId);
+        }
+    }
+
+    private AssetBalanceDTO mapToDTO(AssetBalance balance) {
+        return new AssetBalanceDTO(balance.getAssetId().toString(), balance.getBalance(), balance.getTransactionCount());
+    }
+
+    private static final class Delta {
+        private long count;
+        private BigDecimal balance = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetImportJobRepository;
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.AssetImportError;
+import com.example.ams.datamodels.entities.AssetImportJob;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.exceptionhandling.ResourceNotFound;
+import com.example.ams.service.AssetSuggestService;
+import com.example.ams.service.AssetSummaryService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Writes one parsed CSV chunk in a single database transaction: owner and category ids are
+ * checked with bulk IN queries, duplicates are rejected against the natural key, assets are
+ * persisted in JDBC-batch sized groups and the job's byte offset, counters and line errors are
+ * updated alongside them, so a resumed job never re-inserts a committed line. Flushes go through
+ * the repository so a natural-key race with a concurrent writer surfaces as a translated
+ * {@link org.springframework.dao.DataIntegrityViolationException}.
+ */
+@Component
+public class AssetCsvChunkWriter {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int IN_LIST_SIZE = 1000;
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final BigDecimal MAX_VALUE = new BigDecimal("1E17");
+
+    private final AssetRepository assetRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final AssetImportJobRepository jobRepository;
+    private final AssetSummaryService assetSummaryService;
+    private final AssetSuggestService assetSuggestService;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public AssetCsvChunkWriter(AssetRepository assetRepository, UserRepository userRepository, CategoryRepository categoryRepository,
+                               AssetImportJobRepository jobRepository,
+                               AssetSummaryService assetSummaryService, AssetSuggestService assetSuggestService,
+                               EntityManager entityManager,
+                               @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.assetRepository = assetRepository;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.jobRepository = jobRepository;
+        this.assetSummaryService = assetSummaryService;
+        this.assetSuggestService = assetSuggestService;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param firstLine file line number of the chunk's first line
+     * @param references ids already known to exist for this job, extended with the ones found here
+     */
+    @Transactional
+    public ChunkResult write(Long jobId, AssetCsvParser.ParsedChunk parsed, long firstLine, KnownReferences references) {
+        List<AssetImportError> errors = new ArrayList<>(parsed.errors().size());
+        for (AssetCsvParser.LineError error : parsed.errors()) {
+            errors.add(error(jobId, firstLine + error.line() - 1, error.message()));
+        }
+
+        List<AssetCsvParser.Row> rows = parsed.rows();
+        resolve(rows, AssetCsvParser.Row::ownerId, references.owners, userRepository::findExistingIds);
+        resolve(rows, AssetCsvParser.Row::categoryId, references.categories, categoryRepository::findExistingIds);
+
+        Set<String> naturalKeys = new HashSet<>();
+        Set<String> normalizedNames = new HashSet<>();
+        rows.forEach(row -> normalizedNames.add(Asset.normalizeName(row.name())));
+        forEachSlice(normalizedNames, slice -> {
+            for (Object[] key : assetRepository.findNaturalKeysByNormalizedNameIn(slice)) {
+                naturalKeys.add(naturalKey((String) key[0], (String) key[1], key[2]));
+            }
+        });
+
+        LocalDate today = LocalDate.now();
+        List<Asset> inserted = new ArrayList<>(rows.size());
+        for (AssetCsvParser.Row row : rows) {
+            long line = firstLine + row.line() - 1;
+            if (row.name().length() > MAX_TEXT_LENGTH || row.type().length() > MAX_TEXT_LENGTH) {
+                errors.add(error(jobId, line, "name and type must be at most " + MAX_TEXT_LENGTH + " characters"));
+                continue;
+            }
+            if (row.value().abs().compareTo(MAX_VALUE) >= 0) {
+                errors.add(error(jobId, line, "value is out of range"));
+                continue;
+            }
+            if (!references.owners.contains(row.ownerId()) || !references.categories.contains(row.categoryId())) {
+                errors.add(error(jobId, line, "User or Category not found"));
+                continue;
+            }
+            BigDecimal value = Asset.normalizeValue(row.value());
+            if (!naturalKeys.add(naturalKey(Asset.normalizeName(row.name()), row.type(), value))) {
+                errors.add(error(jobId, line, "Asset with same name, type, and value already exists."));
+                continue;
+            }
+
+            Asset asset = new Asset();
+            asset.setName(row.name());
+            asset.setType(row.type());
+            asset.setValue(value);
+            asset.setPurchaseDate(row.purchaseDate() == null ? today : row.purchaseDate());
+            asset.setOwner(entityManager.getReference(User.class, row.ownerId()));
+            asset.setCategory(entityManager.getReference(Category.class, row.categoryId()));
+            entityManager.persist(asset);
+            inserted.add(asset);
+
+            if (inserted.size() % batchSize == 0) {
+                assetRepository.flush();
+                entityManager.clear();
+            }
+        }
+
+        commit(jobId, parsed, errors, inserted.size());
+        assetSummaryService.assetsAdded(inserted);
+        assetSuggestService.assetsAdded(inserted);
+        return new ChunkResult(inserted.size(), errors.size());
+    }
+
+    /**
+     * Records every line of a chunk that could not be written as failed with {@code message} and
+     * moves the job past it, inserting nothing.
+     */
+    @Transactional
+    public ChunkResult reject(Long jobId, AssetCsvParser.ParsedChunk parsed, long firstLine, String message) {
+        List<AssetImportError> errors = new ArrayList<>(parsed.errors().size() + parsed.rows().size());
+        for (AssetCsvParser.LineError error : parsed.errors()) {
+            errors.add(error(jobId, firstLine + error.line() - 1, error.message()));
+        }
+        for (AssetCsvParser.Row row : parsed.rows()) {
+            errors.add(error(jobId, firstLine + row.line() - 1, message));
+        }
+        commit(jobId, parsed, errors, 0);
+        return new ChunkResult(0, errors.size());
+    }
+
+    private void commit(Long jobId, AssetCsvParser.ParsedChunk parsed, List<AssetImportError> errors, int inserted) {
+        AssetImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFound("Import job not found: " + jobId));
+        long reportable = Math.max(0, MAX_REPORTED_ERRORS - job.getFailed());
+        errors.stream()
+                .sorted(Comparator.comparingLong(AssetImportError::getLine))
+                .limit(reportable)
+                .forEach(entityManager::persist);
+
+        job.setCommittedOffset(parsed.chunk().end());
+        job.setLinesProcessed(job.getLinesProcessed() + parsed.lines());
+        job.setInserted(job.getInserted() + inserted);
+        job.setFailed(job.getFailed() + errors.size());
+        job.setUpdatedAt(LocalDateTime.now());
+        assetRepository.flush();
+        entityManager.clear();
+    }
+
+
+    private static void resolve(List<AssetCsvParser.Row> rows, Function<AssetCsvParser.Row, Long> id, Set<Long> known,
+                                Function<Collection<Long>, List<Long>> findExisting) {
+        Set<Long> unknown = new HashSet<>();
+        for (AssetCsvParser.Row row : rows) {
+            Long value = id.apply(row);
+            if (!known.contains(value)) {
+                unknown.add(value);
+            }
+        }
+        forEachSlice(unknown, slice -> known.addAll(findExisting.apply(slice)));
+    }
+
+    private static <T> void forEachSlice(Collection<T> values, Consumer<List<T>> action) {
+        List<T> all = new ArrayList<>(values);
+        for (int from = 0; from < all.size(); from += IN_LIST_SIZE) {
+            action.accept(all.subList(from, Math.min(from + IN_LIST_SIZE, all.size())));
+        }
+    }
+
+    private static AssetImportError error(Long jobId, long line, String message) {
+        AssetImportError error = new AssetImportError();
+        error.setJobId(jobId);
+        error.setLine(line);
+        error.setMessage(message.length() > 500 ? message.substring(0, 500) : message);
+        return error;
+    }
+
+    private static String naturalKey(String normalizedName, String type, Object value) {
+        return normalizedName + '\u0000' + type + '\u0000' + value;
+    }
+
+    public record ChunkResult(int inserted, int failed) {
+    }
+
+    /** Owner and category ids confirmed to exist during one run of a job. */
+    public static final class KnownReferences {
+        private final Set<Long> owners = new HashSet<>();
+        private final Set<Long> categories = new HashSet<>();
+    }
+}
@@ -0,0 +1,350 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetImportErrorRepository;
+import com.example.ams.dao.AssetImportJobRepository;
+import com.example.ams.dao.ConstraintViolations;
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.entities.AssetImportJob;
+import com.example.ams.datamodels.entities.AssetImportStatus;
+import com.example.ams.datamodels.form.response.AssetImportJobDTO;
+import com.example.ams.datamodels.form.response.BulkRowErrorDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.ResourceConflict;
+import com.example.ams.exceptionhandling.ResourceNotFound;
+import com.example.ams.service.AssetCsvImportService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Imports asset registers from CSV files too large for a request body. The file, either a
+ * server-side path under {@code ams.import.csv.allowed-dir} or an upload spooled to
+ * {@code ams.import.csv.spool-dir}, is memory-mapped and split into record-aligned chunks; up to
+ * {@code ams.import.csv.threads} chunks are parsed ahead in parallel while one thread writes them
+ * in file order through {@link AssetCsvChunkWriter}, which commits each chunk together with the
+ * job's byte offset. A job stopped by a failure or a restart resumes from that offset.
+ */
+@Service
+@Timed("ams.service")
+public class AssetCsvImportServiceImpl implements AssetCsvImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetCsvImportServiceImpl.class);
+    private static final String SPOOL_PREFIX = "asset-import-";
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+    private static final String CONCURRENT_DUPLICATE =
+            "Not imported: the chunk kept conflicting with concurrent inserts of the same name, type, and value";
+
+    private final AssetImportJobRepository jobRepository;
+    private final AssetImportErrorRepository errorRepository;
+    private final AssetCsvChunkWriter chunkWriter;
+    private final Path allowedDir;
+    private final Path spoolDir;
+    private final long chunkBytes;
+    private final int threads;
+    private final ExecutorService runner;
+    private final ExecutorService parsers;
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    public AssetCsvImportServiceImpl(AssetImportJobRepository jobRepository, AssetImportErrorRepository errorRepository,
+                                     AssetCsvChunkWriter chunkWriter,
+                                     @Value("${ams.import.csv.allowed-dir:}") String allowedDir,
+                                     @Value("${ams.import.csv.spool-dir:${java.io.tmpdir}}") String spoolDir,
+                                     @Value("${ams.import.csv.chunk-bytes:4194304}") long chunkBytes,
+                                     @Value("${ams.import.csv.threads:4}") int threads) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.chunkWriter = chunkWriter;
+        this.allowedDir = StringUtils.hasText(allowedDir) ? Path.of(allowedDir).toAbsolutePath().normalize() : null;
+        this.spoolDir = Path.of(spoolDir).toAbsolutePath().normalize();
+        this.chunkBytes = chunkBytes;
+        this.threads = threads;
+        this.runner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "asset-csv-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.parsers = Executors.newFixedThreadPool(threads);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        runner.shutdown();
+        runner.awaitTermination(30, TimeUnit.SECONDS);
+        parsers.shutdownNow();
+    }
+
+    /** Jobs still marked running were cut off by a crash or shutdown of a previous instance. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterrupted() {
+        List<AssetImportJob> stale = jobRepository.findByStatus(AssetImportStatus.RUNNING);
+        for (AssetImportJob job : stale) {
+            job.setStatus(AssetImportStatus.INTERRUPTED);
+            job.setUpdatedAt(LocalDateTime.now());
+        }
+        if (!stale.isEmpty()) {
+            jobRepository.saveAll(stale);
+            logger.warn("Marked {} asset import jobs as interrupted, resume them from their last committed offset", stale.size());
+        }
+    }
+
+    @Override
+    public AssetImportJobDTO importFile(String path, long offset) {
+        if (allowedDir == null) {
+            throw new InvalidRequest("Server-side imports are disabled, set ams.import.csv.allowed-dir");
+        }
+        if (!StringUtils.hasText(path)) {
+            throw new InvalidRequest("path is required");
+        }
+        Path root;
+        Path file;
+        try {
+            root = allowedDir.toRealPath();
+            file = root.resolve(path).toRealPath();
+        } catch (IOException e) {
+            throw new InvalidRequest("File not found: " + path);
+        }
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            throw new InvalidRequest("File must be a regular file under the import directory: " + path);
+        }
+        return start(file, offset);
+    }
+
+    @Override
+    public AssetImportJobDTO importUpload(InputStream body) {
+        Path file;
+        try {
+            Files.createDirectories(spoolDir);
+            file = Files.createTempFile(spoolDir, SPOOL_PREFIX, ".csv");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create spool file in " + spoolDir, e);
+        }
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            return start(file, 0);
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Could not spool CSV upload", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    @Override
+    public AssetImportJobDTO resume(Long jobId) {
+        AssetImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFound("Import job not found: " + jobId));
+        if (job.getStatus() == AssetImportStatus.COMPLETED) {
+            throw new ResourceConflict("Import job " + jobId + " has already completed");
+        }
+        if (!active.add(jobId)) {
+            throw new ResourceConflict("Import job " + jobId + " is already running");
+        }
+        job.setStatus(AssetImportStatus.RUNNING);
+        job.setLastError(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        jobRepository.save(job);
+        submit(jobId);
+        logger.info("Resuming asset import {} from byte {}", jobId, job.getCommittedOffset());
+        return toDTO(job);
+    }
+
+    @Override
+    public AssetImportJobDTO getStatus(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::toDTO)
+                .orElseThrow(() -> new ResourceNotFound("Import job not found: " + jobId));
+    }
+
+    private AssetImportJobDTO start(Path file, long offset) {
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+            AssetCsvParser.Header header = AssetCsvParser.readHeader(channel);
+            if (offset < 0 || offset > size || !AssetCsvParser.isRecordStart(channel, header, offset)) {
+                throw new InvalidRequest("offset must be the start of a record within the file");
+            }
+        } catch (IOException e) {
+            throw new InvalidRequest("Cannot read file: " + e.getMessage());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        AssetImportJob job = new AssetImportJob();
+        job.setFilePath(file.toString());
+        job.setFileSize(size);
+        job.setStatus(AssetImportStatus.RUNNING);
+        job.setCommittedOffset(offset);
+        job.setStartedAt(now);
+        job.setUpdatedAt(now);
+        job = jobRepository.save(job);
+
+        active.add(job.getId());
+        submit(job.getId());
+        logger.info("Queued asset import {} of {} ({} bytes) from byte {}", job.getId(), file, size, offset);
+        return toDTO(job);
+    }
+
+    private void submit(Long jobId) {
+        try {
+            runner.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    active.remove(jobId);
+                }
+            });
+        } catch (RuntimeException e) {
+            active.remove(jobId);
+            finish(jobId, AssetImportStatus.INTERRUPTED, "Import service is shutting down");
+            throw new ResourceConflict("Import service is shutting down");
+        }
+    }
+
+    private void run(Long jobId) {
+        AssetImportJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Path file = Path.of(job.getFilePath());
+        Deque<CompletableFuture<AssetCsvParser.ParsedChunk>> window = new ArrayDeque<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != job.getFileSize()) {
+                throw new IllegalStateException("File size changed from " + job.getFileSize() + " to " + channel.size() + " bytes");
+            }
+            AssetCsvParser.Header header = AssetCsvParser.readHeader(channel);
+            long from = Math.max(job.getCommittedOffset(), header.dataStart());
+            long line = 2 + AssetCsvParser.countLines(channel, header.dataStart(), from);
+            List<AssetCsvParser.Chunk> chunks = AssetCsvParser.split(channel, from, chunkBytes);
+            AssetCsvChunkWriter.KnownReferences references = new AssetCsvChunkWriter.KnownReferences();
+
+            int next = 0;
+            while (next < chunks.size() || !window.isEmpty()) {
+                while (next < chunks.size() && window.size() <= threads) {
+                    AssetCsvParser.Chunk chunk = chunks.get(next++);
+                    window.add(CompletableFuture.supplyAsync(() -> parse(channel, chunk, header), parsers));
+                }
+                if (!running) {
+                    finish(jobId, AssetImportStatus.INTERRUPTED, "Interrupted by shutdown");
+                    return;
+                }
+                AssetCsvParser.ParsedChunk parsed = window.poll().join();
+                write(jobId, parsed, line, references);
+                line += parsed.lines();
+            }
+
+            AssetImportJob done = finish(jobId, AssetImportStatus.COMPLETED, null);
+            logger.info("Asset import {} completed: {} inserted, {} failed in {} ms", jobId, done.getInserted(), done.getFailed(),
+                    (System.nanoTime() - startedAt) / 1_000_000);
+            if (file.getParent().equals(spoolDir) && file.getFileName().toString().startsWith(SPOOL_PREFIX)) {
+                deleteQuietly(file);
+            }
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.error("Asset import {} failed: {}", jobId, cause.getMessage(), cause);
+            finish(jobId, AssetImportStatus.FAILED, String.valueOf(cause.getMessage()));
+        } finally {
+            window.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * A concurrent insert of the same natural key between the writer's duplicate check and its
+     * flush rolls the chunk back. The retry's check sees the committed row and reports that line
+     * as a duplicate; a chunk that keeps losing the race is recorded as failed rather than
+     * failing the job.
+     */
+    private void write(Long jobId, AssetCsvParser.ParsedChunk parsed, long line, AssetCsvChunkWriter.KnownReferences references) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                chunkWriter.write(jobId, parsed, line, references);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (!ConstraintViolations.isViolationOf(e, Constants.ASSET_NATURAL_KEY)) {
+                    throw e;
+                }
+                if (attempt == MAX_CHUNK_ATTEMPTS) {
+                    logger.warn("Asset import {} skipped lines from {}: natural key conflicts on every attempt", jobId, line);
+                    chunkWriter.reject(jobId, parsed, line, CONCURRENT_DUPLICATE);
+                    return;
+                }
+                logger.debug("Asset import {} retrying chunk at line {} after a concurrent insert", jobId, line);
+            }
+        }
+    }
+
+    private static AssetCsvParser.ParsedChunk parse(FileChannel channel, AssetCsvParser.Chunk chunk, AssetCsvParser.Header header) {
+        try {
+            return AssetCsvParser.parse(channel, chunk, header);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private AssetImportJob finish(Long jobId, AssetImportStatus status, String error) {
+        AssetImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFound("Import job not found: " + jobId));
+        LocalDateTime now = LocalDateTime.now();
+        job.setStatus(status);
+        job.setLastError(error == null || error.length() <= 1000 ? error : error.substring(0, 1000));
+        job.setUpdatedAt(now);
+        if (status == AssetImportStatus.COMPLETED || status == AssetImportStatus.FAILED) {
+            job.setFinishedAt(now);
+        }
+        return jobRepository.save(job);
+    }
+
+    private AssetImportJobDTO toDTO(AssetImportJob job) {
+        List<BulkRowErrorDTO> errors = errorRepository
+                .findByJobIdOrderByLine(job.getId(), PageRequest.of(0, AssetCsvChunkWriter.MAX_REPORTED_ERRORS))
+                .stream()
+                .map(error -> new BulkRowErrorDTO(error.getLine(), error.getMessage()))
+                .collect(Collectors.toList());
+        double percent = job.getFileSize() == 0
+                ? 100
+                : Math.round(job.getCommittedOffset() * 1000.0 / job.getFileSize()) / 10.0;
+        return new AssetImportJobDTO(job.getId().toString(), job.getStatus().name(), job.getFilePath(), job.getFileSize(),
+                job.getCommittedOffset(), percent, job.getLinesProcessed(), job.getInserted(), job.getFailed(),
+                job.getLastError(), errors);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete spooled import file {}: {}", file, e.getMessage());
+        }
+    }
+}
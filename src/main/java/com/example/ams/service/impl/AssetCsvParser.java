@@ -0,0 +1,457 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.exceptionhandling.InvalidRequest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Byte-level parser for asset register CSV files.
+ *
+ * <p>The file is memory-mapped in record-aligned chunks that can be parsed independently. Each
+ * record is split into field offsets over the mapped bytes; ids, values and dates are decoded
+ * straight from those bytes and only the name and type become {@code String}s. Quoted fields may
+ * contain {@code ""} escapes, commas and line breaks, so record boundaries are found with a
+ * quote-aware scan from a known record start. Line numbers are physical file lines; a record
+ * spanning several lines is reported at the line it starts on.
+ */
+public final class AssetCsvParser {
+
+    private static final int SCAN_WINDOW = 64 * 1024;
+
+    private static final int RECORD_END = -1;
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int CLOSING_QUOTE = 3;
+
+    private AssetCsvParser() {
+    }
+
+    public record Header(int columns, int name, int type, int value, int ownerId, int categoryId, int purchaseDate,
+                         long dataStart) {
+    }
+
+    public record Chunk(long start, long end) {
+    }
+
+    public record Row(long line, String name, String type, BigDecimal value, long ownerId, long categoryId,
+                      LocalDate purchaseDate) {
+    }
+
+    public record LineError(long line, String message) {
+    }
+
+    /** Lines are numbered from 1 within the chunk; {@code lines} counts every physical line, blank or not. */
+    public record ParsedChunk(Chunk chunk, long lines, List<Row> rows, List<LineError> errors) {
+    }
+
+    public static Header readHeader(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long end = nextRecordStart(channel, 0, 0, size);
+        if (end == 0) {
+            throw new InvalidRequest("CSV file is empty");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+        int length = contentEnd(buffer, 0, (int) end);
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+        int columns = 0;
+        for (int position = 0; position <= length; ) {
+            if (columns == starts.length) {
+                starts = Arrays.copyOf(starts, columns * 2);
+                ends = Arrays.copyOf(ends, columns * 2);
+            }
+            int fieldEnd = position;
+            while (fieldEnd < length && buffer.get(fieldEnd) != ',') {
+                fieldEnd++;
+            }
+            starts[columns] = position;
+            ends[columns] = fieldEnd;
+            columns++;
+            position = fieldEnd + 1;
+        }
+
+        int name = -1, type = -1, value = -1, ownerId = -1, categoryId = -1, purchaseDate = -1;
+        for (int i = 0; i < columns; i++) {
+            String column = text(buffer, starts[i], ends[i], new byte[ends[i] - starts[i]])
+                    .replace("\"", "")
+                    .toLowerCase(Locale.ROOT);
+            if (i == 0 && column.startsWith("\uFEFF")) {
+                column = column.substring(1);
+            }
+            switch (column) {
+                case "name" -> name = i;
+                case "type" -> type = i;
+                case "value" -> value = i;
+                case "ownerid", "owner_id" -> ownerId = i;
+                case "categoryid", "category_id" -> categoryId = i;
+                case "purchasedate", "purchase_date" -> purchaseDate = i;
+                default -> {
+                }
+            }
+        }
+        if (name < 0 || type < 0 || value < 0 || ownerId < 0 || categoryId < 0) {
+            throw new InvalidRequest("CSV header must contain name, type, value, ownerId and categoryId columns");
+        }
+        return new Header(columns, name, type, value, ownerId, categoryId, purchaseDate, end);
+    }
+
+    /**
+     * Splits {@code [from, size)} into chunks of roughly {@code chunkBytes}, each ending after a
+     * record's line break. {@code from} must be a record start.
+     */
+    public static List<Chunk> split(FileChannel channel, long from, long chunkBytes) throws IOException {
+        long size = channel.size();
+        List<Chunk> chunks = new ArrayList<>();
+        long start = from;
+        while (start < size) {
+            long end = start + chunkBytes >= size ? size : nextRecordStart(channel, start, start + chunkBytes, size);
+            chunks.add(new Chunk(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /** Whether {@code offset} is the first byte of a record, scanning from the header's end. */
+    public static boolean isRecordStart(FileChannel channel, Header header, long offset) throws IOException {
+        long size = channel.size();
+        if (offset <= header.dataStart() || offset >= size) {
+            return true;
+        }
+        return nextRecordStart(channel, header.dataStart(), offset - 1, size) == offset;
+    }
+
+    /** Counts line breaks in {@code [from, to)}. */
+    public static long countLines(FileChannel channel, long from, long to) throws IOException {
+        long lines = 0;
+        for (long position = from; position < to; position += Integer.MAX_VALUE) {
+            int length = (int) Math.min(Integer.MAX_VALUE, to - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(i) == '\n') {
+                    lines++;
+                }
+            }
+        }
+        return lines;
+    }
+
+    public static ParsedChunk parse(FileChannel channel, Chunk chunk, Header header) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.end() - chunk.start());
+        return parse(buffer, chunk, header);
+    }
+
+    static ParsedChunk parse(ByteBuffer buffer, Chunk chunk, Header header) {
+        int limit = (int) (chunk.end() - chunk.start());
+        int[] starts = new int[header.columns()];
+        int[] ends = new int[header.columns()];
+        boolean[] escaped = new boolean[header.columns()];
+        byte[] scratch = new byte[256];
+        List<Row> rows = new ArrayList<>(limit / 64);
+        List<LineError> errors = new ArrayList<>();
+
+        long line = 0;
+        int position = 0;
+        while (position < limit) {
+            long recordLine = ++line;
+            int next = position;
+            for (int state = FIELD_START; next < limit; next++) {
+                byte b = buffer.get(next);
+                state = scan(state, b);
+                if (state == RECORD_END) {
+                    break;
+                }
+                if (b == '\n') {
+                    line++;
+                }
+            }
+            int lineEnd = next > position && buffer.get(next - 1) == '\r' ? next - 1 : next;
+            int length = lineEnd - position;
+            next++;
+            if (length == 0 || isBlank(buffer, position, lineEnd)) {
+                position = next;
+                continue;
+            }
+
+            String problem = split(buffer, position, lineEnd, starts, ends, escaped);
+            if (problem == null) {
+                if (scratch.length < length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                try {
+                    rows.add(toRow(buffer, recordLine, header, starts, ends, escaped, scratch));
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    problem = e.getMessage();
+                }
+            }
+            if (problem != null) {
+                errors.add(new LineError(recordLine, problem));
+            }
+            position = next;
+        }
+        return new ParsedChunk(chunk, line, rows, errors);
+    }
+
+    private static Row toRow(ByteBuffer buffer, long line, Header header, int[] starts, int[] ends, boolean[] escaped,
+                             byte[] scratch) {
+        String name = field(buffer, header.name(), starts, ends, escaped, scratch);
+        String type = field(buffer, header.type(), starts, ends, escaped, scratch);
+        if (name == null || type == null
+                || isEmpty(header.value(), starts, ends)
+                || isEmpty(header.ownerId(), starts, ends)
+                || isEmpty(header.categoryId(), starts, ends)) {
+            throw new IllegalArgumentException("name, type, value, ownerId and categoryId are required");
+        }
+        BigDecimal value = parseDecimal(buffer, starts[header.value()], ends[header.value()], "value");
+        long ownerId = parseLong(buffer, starts[header.ownerId()], ends[header.ownerId()], "ownerId");
+        long categoryId = parseLong(buffer, starts[header.categoryId()], ends[header.categoryId()], "categoryId");
+        LocalDate purchaseDate = header.purchaseDate() < 0 || isEmpty(header.purchaseDate(), starts, ends)
+                ? null
+                : parseDate(buffer, starts[header.purchaseDate()], ends[header.purchaseDate()]);
+        return new Row(line, name, type, value, ownerId, categoryId, purchaseDate);
+    }
+
+    /**
+     * Records the trimmed bounds of each field of {@code [from, to)}; a quoted field's bounds
+     * exclude the quotes, and {@code escaped} marks fields containing {@code ""}. Returns an error
+     * message, or {@code null} on success.
+     */
+    private static String split(ByteBuffer buffer, int from, int to, int[] starts, int[] ends, boolean[] escaped) {
+        int column = 0;
+        int position = from;
+        while (true) {
+            while (position < to && buffer.get(position) == ' ') {
+                position++;
+            }
+            if (column == starts.length) {
+                return "Expected " + starts.length + " fields";
+            }
+            int fieldEnd;
+            if (position < to && buffer.get(position) == '"') {
+                escaped[column] = false;
+                int close = position + 1;
+                while (true) {
+                    while (close < to && buffer.get(close) != '"') {
+                        close++;
+                    }
+                    if (close >= to) {
+                        return "Unterminated quoted field";
+                    }
+                    if (close + 1 < to && buffer.get(close + 1) == '"') {
+                        escaped[column] = true;
+                        close += 2;
+                        continue;
+                    }
+                    break;
+                }
+                starts[column] = position + 1;
+                ends[column] = close;
+                fieldEnd = close + 1;
+                while (fieldEnd < to && buffer.get(fieldEnd) == ' ') {
+                    fieldEnd++;
+                }
+                if (fieldEnd < to && buffer.get(fieldEnd) != ',') {
+                    return "Unexpected character after quoted field";
+                }
+            } else {
+                escaped[column] = false;
+                fieldEnd = position;
+                while (fieldEnd < to && buffer.get(fieldEnd) != ',') {
+                    fieldEnd++;
+                }
+                int trimmed = fieldEnd;
+                while (trimmed > position && buffer.get(trimmed - 1) == ' ') {
+                    trimmed--;
+                }
+                starts[column] = position;
+                ends[column] = trimmed;
+            }
+            column++;
+            if (fieldEnd >= to) {
+                break;
+            }
+            position = fieldEnd + 1;
+        }
+        if (column != starts.length) {
+            return "Expected " + starts.length + " fields but found " + column;
+        }
+        return null;
+    }
+
+    private static String field(ByteBuffer buffer, int column, int[] starts, int[] ends, boolean[] escaped, byte[] scratch) {
+        int start = starts[column];
+        int end = ends[column];
+        if (start >= end) {
+            return null;
+        }
+        if (!escaped[column]) {
+            String value = text(buffer, start, end, scratch).trim();
+            return value.isEmpty() ? null : value;
+        }
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            scratch[length++] = b;
+            if (b == '"') {
+                i++;
+            }
+        }
+        String value = new String(scratch, 0, length, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String text(ByteBuffer buffer, int start, int end, byte[] scratch) {
+        buffer.get(start, scratch, 0, end - start);
+        return new String(scratch, 0, end - start, StandardCharsets.UTF_8);
+    }
+
+    static long parseLong(ByteBuffer buffer, int start, int end, String field) {
+        long result = 0;
+        int position = start;
+        if (position < end && buffer.get(position) == '+') {
+            position++;
+        }
+        if (position == end || end - position > 18) {
+            throw new IllegalArgumentException("Invalid " + field);
+        }
+        for (; position < end; position++) {
+            int digit = buffer.get(position) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid " + field);
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /** Decodes up to 18 significant digits into an unscaled long; longer values go through {@link BigDecimal#BigDecimal(String)}. */
+    static BigDecimal parseDecimal(ByteBuffer buffer, int start, int end, String field) {
+        int position = start;
+        boolean negative = false;
+        if (position < end && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+            negative = buffer.get(position) == '-';
+            position++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; position < end; position++) {
+            byte b = buffer.get(position);
+            if (b == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (b < '0' || b > '9') {
+                throw new IllegalArgumentException("Invalid " + field);
+            }
+            if (++digits > 18) {
+                try {
+                    return new BigDecimal(text(buffer, start, end, new byte[end - start]));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid " + field);
+                }
+            }
+            unscaled = unscaled * 10 + (b - '0');
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (digits == 0) {
+            throw new IllegalArgumentException("Invalid " + field);
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    /** ISO {@code yyyy-MM-dd}. */
+    static LocalDate parseDate(ByteBuffer buffer, int start, int end) {
+        if (end - start != 10 || buffer.get(start + 4) != '-' || buffer.get(start + 7) != '-') {
+            throw new IllegalArgumentException("Invalid purchaseDate, expected yyyy-MM-dd");
+        }
+        int year = (int) parseLong(buffer, start, start + 4, "purchaseDate");
+        int month = (int) parseLong(buffer, start + 5, start + 7, "purchaseDate");
+        int day = (int) parseLong(buffer, start + 8, end, "purchaseDate");
+        return LocalDate.of(year, month, day);
+    }
+
+    private static boolean isEmpty(int column, int[] starts, int[] ends) {
+        return starts[column] >= ends[column];
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) != ' ' && buffer.get(i) != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** End of the line starting at {@code from}, excluding the line break and a preceding {@code \r}. */
+    private static int contentEnd(ByteBuffer buffer, int from, int limit) {
+        int end = from;
+        while (end < limit && buffer.get(end) != '\n') {
+            end++;
+        }
+        if (end > from && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Offset just past the first record-ending line break at or after {@code target}, or
+     * {@code size}. The scan starts at the record start {@code from} so it knows whether a line
+     * break at {@code target} falls inside a quoted field.
+     */
+    private static long nextRecordStart(FileChannel channel, long from, long target, long size) throws IOException {
+        int state = FIELD_START;
+        for (long position = from; position < size; position += SCAN_WINDOW) {
+            int length = (int) Math.min(SCAN_WINDOW, size - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                state = scan(state, window.get(i));
+                if (state == RECORD_END) {
+                    if (position + i >= target) {
+                        return position + i + 1;
+                    }
+                    state = FIELD_START;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * One step of the record scan. A quote opens a quoted field only at the start of a field, as
+     * the field splitter reads it; inside one, {@code ""} is an escape and a line break is data.
+     */
+    private static int scan(int state, byte b) {
+        if (state == QUOTED) {
+            return b == '"' ? CLOSING_QUOTE : QUOTED;
+        }
+        if (state == CLOSING_QUOTE && b == '"') {
+            return QUOTED;
+        }
+        if (b == '\n') {
+            return RECORD_END;
+        }
+        if (b == ',') {
+            return FIELD_START;
+        }
+        if (state == FIELD_START) {
+            return b == ' ' ? FIELD_START : b == '"' ? QUOTED : UNQUOTED;
+        }
+        return UNQUOTED;
+    }
+}
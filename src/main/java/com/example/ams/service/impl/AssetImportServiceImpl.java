@@ -0,0 +1,178 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.datamodels.form.response.BulkImportResponseDTO;
+import com.example.ams.datamodels.form.response.BulkRowErrorDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.AssetImportService;
+import com.example.ams.service.AssetSuggestService;
+import com.example.ams.service.AssetSummaryService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Timed("ams.service")
+public class AssetImportServiceImpl implements AssetImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetImportServiceImpl.class);
+    private static final int WINDOW_SIZE = 1000;
+
+    private final AssetRepository assetRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final AssetSummaryService assetSummaryService;
+    private final AssetSuggestService assetSuggestService;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public AssetImportServiceImpl(AssetRepository assetRepository, UserRepository userRepository, CategoryRepository categoryRepository,
+                                  AssetSummaryService assetSummaryService, AssetSuggestService assetSuggestService,
+                                  EntityManager entityManager,
+                                  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.assetRepository = assetRepository;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.assetSummaryService = assetSummaryService;
+        this.assetSuggestService = assetSuggestService;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Consumes the rows window by window, so only one window of parsed rows is held at a time
+     * however large the payload is. Each window is validated with bulk IN queries and flushed
+     * before the next one is read, which also lets the natural-key lookup of a later window see
+     * the rows inserted by earlier ones. The whole payload is still one transaction.
+     */
+    @Override
+    @Transactional
+    public BulkImportResponseDTO importAssets(Iterator<AssetRequestDTO> assetRequestDTOs) {
+        long startedAt = System.nanoTime();
+        List<BulkRowErrorDTO> errors = new ArrayList<>();
+        List<PendingAsset> window = new ArrayList<>(WINDOW_SIZE);
+        int received = 0;
+        int inserted = 0;
+
+        while (assetRequestDTOs.hasNext()) {
+            AssetRequestDTO assetRequestDTO = assetRequestDTOs.next();
+            received++;
+            try {
+                window.add(parse(received, assetRequestDTO));
+            } catch (NumberFormatException e) {
+                errors.add(new BulkRowErrorDTO(received, "Invalid number: " + e.getMessage()));
+            } catch (InvalidRequest | IllegalArgumentException e) {
+                errors.add(new BulkRowErrorDTO(received, e.getMessage()));
+            }
+            if (window.size() == WINDOW_SIZE) {
+                inserted += insertWindow(window, errors);
+                window.clear();
+            }
+        }
+        if (received == 0) {
+            throw new InvalidRequest("No assets supplied");
+        }
+        inserted += insertWindow(window, errors);
+
+        errors.sort(Comparator.comparingLong(BulkRowErrorDTO::getRow));
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Bulk imported {} of {} assets in {} ms", inserted, received, elapsedMillis);
+
+        return new BulkImportResponseDTO(received, inserted, elapsedMillis, errors);
+    }
+
+    private int insertWindow(List<PendingAsset> window, List<BulkRowErrorDTO> errors) {
+        if (window.isEmpty()) {
+            return 0;
+        }
+        Set<Long> owners = new HashSet<>(userRepository.findExistingIds(
+                window.stream().map(PendingAsset::ownerId).collect(Collectors.toSet())));
+        Set<Long> categories = new HashSet<>(categoryRepository.findExistingIds(
+                window.stream().map(PendingAsset::categoryId).collect(Collectors.toSet())));
+
+        Set<String> naturalKeys = new HashSet<>();
+        Set<String> normalizedNames = window.stream()
+                .map(p -> Asset.normalizeName(p.asset().getName()))
+                .collect(Collectors.toSet());
+        for (Object[] key : assetRepository.findNaturalKeysByNormalizedNameIn(normalizedNames)) {
+            naturalKeys.add(naturalKey((String) key[0], (String) key[1], key[2]));
+        }
+
+        List<Asset> inserted = new ArrayList<>(window.size());
+        for (PendingAsset row : window) {
+            Asset asset = row.asset();
+            if (!owners.contains(row.ownerId()) || !categories.contains(row.categoryId())) {
+                errors.add(new BulkRowErrorDTO(row.row(), "User or Category not found"));
+                continue;
+            }
+            if (!naturalKeys.add(naturalKey(Asset.normalizeName(asset.getName()), asset.getType(), asset.getValue()))) {
+                errors.add(new BulkRowErrorDTO(row.row(), "Asset with same name, type, and value already exists."));
+                continue;
+            }
+
+            asset.setOwner(entityManager.getReference(User.class, row.ownerId()));
+            asset.setCategory(entityManager.getReference(Category.class, row.categoryId()));
+            entityManager.persist(asset);
+            inserted.add(asset);
+
+            if (inserted.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        assetSummaryService.assetsAdded(inserted);
+        assetSuggestService.assetsAdded(inserted);
+        return inserted.size();
+    }
+
+    private PendingAsset parse(int row, AssetRequestDTO assetRequestDTO) {
+        if (assetRequestDTO == null ||
+                !StringUtils.hasText(assetRequestDTO.getName()) ||
+                !StringUtils.hasText(assetRequestDTO.getType()) ||
+                !StringUtils.hasText(assetRequestDTO.getValue()) ||
+                !StringUtils.hasText(assetRequestDTO.getOwnerId()) ||
+                !StringUtils.hasText(assetRequestDTO.getCategoryId())) {
+            throw new InvalidRequest("Invalid request: All fields are required");
+        }
+
+        Asset asset = new Asset();
+        asset.setName(assetRequestDTO.getName().trim());
+        asset.setType(assetRequestDTO.getType().trim());
+        asset.setValue(Asset.normalizeValue(new BigDecimal(assetRequestDTO.getValue().trim())));
+        asset.setPurchaseDate(LocalDate.now());
+
+        return new PendingAsset(row, asset,
+                Long.parseLong(assetRequestDTO.getOwnerId().trim()),
+                Long.parseLong(assetRequestDTO.getCategoryId().trim()));
+    }
+
+    private static String naturalKey(String normalizedName, String type, Object value) {
+        return normalizedName + '\u0000' + type + '\u0000' + value;
+    }
+
+    private record PendingAsset(int row, Asset asset, long ownerId, long categoryId) {
+    }
+}
@@ -0,0 +1,391 @@
+package com.example.ams.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Token-prefix index over asset names and types for type-ahead.
+ *
+ * <p>Bulk-loaded entries live in an immutable segment: a sorted token array whose postings are
+ * slices of one {@code long[]} of asset ids, plus id-sorted name/type arrays. Writes after the
+ * load go to a small mutable delta and a tombstone list, which are folded into a new segment once
+ * they reach {@code mergeThreshold}. A query walks the postings of every token starting with its
+ * most selective term and checks the remaining terms against the candidate's name and type.
+ */
+public final class AssetNameIndex {
+
+    /** Upper bound on postings visited per query in the base segment and, separately, in the delta. */
+    static final int MAX_SCANNED = 10_000;
+
+    private final int mergeThreshold;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment base = Segment.EMPTY;
+    private final TreeMap<String, LongList> deltaPostings = new TreeMap<>();
+    private final Map<Long, Entry> deltaEntries = new HashMap<>();
+    private LongList removed = new LongList();
+    private List<Mutation> journal;
+
+    public AssetNameIndex(int mergeThreshold) {
+        this.mergeThreshold = Math.max(mergeThreshold, 1);
+    }
+
+    public record Entry(long id, String name, String type) {
+    }
+
+    private record Mutation(long id, Entry entry) {
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return base.ids.length - removed.size + deltaEntries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(long id, String name, String type) {
+        Entry entry = new Entry(id, name, type);
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.add(new Mutation(id, entry));
+            }
+            putLocked(entry);
+            if (deltaEntries.size() + removed.size >= mergeThreshold) {
+                base = Segment.build(liveEntriesLocked());
+                clearDeltaLocked();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                journal.add(new Mutation(id, null));
+            }
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts recording writes so that {@link #finishRebuild} can replay the ones that land
+     * between the start of a bulk scan and the swap to its result.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishRebuild(Collection<Entry> entries) {
+        Segment segment = Segment.build(entries);
+        lock.writeLock().lock();
+        try {
+            base = segment;
+            clearDeltaLocked();
+            if (journal != null) {
+                for (Mutation mutation : journal) {
+                    if (mutation.entry() == null) {
+                        removeLocked(mutation.id());
+                    } else {
+                        putLocked(mutation.entry());
+                    }
+                }
+            }
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            base = Segment.EMPTY;
+            clearDeltaLocked();
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Entry> suggest(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Entry> results = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            Segment segment = base;
+            String driver = terms.get(0);
+            if (terms.size() > 1) {
+                int driverPostings = Integer.MAX_VALUE;
+                for (String term : terms) {
+                    int postings = segment.offsets[segment.upperBound(term)] - segment.offsets[segment.lowerBound(term)];
+                    if (postings < driverPostings) {
+                        driver = term;
+                        driverPostings = postings;
+                    }
+                }
+            }
+
+            int scanned = 0;
+            int token = segment.lowerBound(driver);
+            scan:
+            for (; token < segment.tokens.length && segment.tokens[token].startsWith(driver); token++) {
+                for (int p = segment.offsets[token]; p < segment.offsets[token + 1]; p++) {
+                    if (results.size() >= limit || ++scanned > MAX_SCANNED) {
+                        break scan;
+                    }
+                    long id = segment.postings[p];
+                    if (removed.contains(id) || contains(results, id)) {
+                        continue;
+                    }
+                    int slot = Arrays.binarySearch(segment.ids, id);
+                    if (matchesAll(segment.names[slot], segment.types[slot], terms)) {
+                        results.add(new Entry(id, segment.names[slot], segment.types[slot]));
+                    }
+                }
+            }
+
+            // Recent writes get their own budget so a broad prefix over the base cannot hide them.
+            scanned = 0;
+            scan:
+            for (LongList ids : deltaPostings.subMap(driver, true, driver + Character.MAX_VALUE, false).values()) {
+                for (int p = 0; p < ids.size; p++) {
+                    if (results.size() >= limit || ++scanned > MAX_SCANNED) {
+                        break scan;
+                    }
+                    Entry entry = deltaEntries.get(ids.values[p]);
+                    if (!contains(results, entry.id()) && matchesAll(entry.name(), entry.type(), terms)) {
+                        results.add(entry);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    private void putLocked(Entry entry) {
+        removeLocked(entry.id());
+        deltaEntries.put(entry.id(), entry);
+        Consumer<String> index = token -> deltaPostings.computeIfAbsent(token, key -> new LongList()).insert(entry.id());
+        forEachToken(entry.name(), index);
+        forEachToken(entry.type(), index);
+    }
+
+    private void removeLocked(long id) {
+        Entry previous = deltaEntries.remove(id);
+        if (previous != null) {
+            Consumer<String> unindex = token -> {
+                LongList ids = deltaPostings.get(token);
+                if (ids != null && ids.remove(id) && ids.size == 0) {
+                    deltaPostings.remove(token);
+                }
+            };
+            forEachToken(previous.name(), unindex);
+            forEachToken(previous.type(), unindex);
+        }
+        if (Arrays.binarySearch(base.ids, id) >= 0) {
+            removed.insert(id);
+        }
+    }
+
+    private List<Entry> liveEntriesLocked() {
+        List<Entry> live = new ArrayList<>(base.ids.length - removed.size + deltaEntries.size());
+        for (int i = 0; i < base.ids.length; i++) {
+            if (!removed.contains(base.ids[i])) {
+                live.add(new Entry(base.ids[i], base.names[i], base.types[i]));
+            }
+        }
+        live.addAll(deltaEntries.values());
+        return live;
+    }
+
+    private void clearDeltaLocked() {
+        deltaPostings.clear();
+        deltaEntries.clear();
+        removed = new LongList();
+    }
+
+    private static boolean contains(List<Entry> results, long id) {
+        for (Entry entry : results) {
+            if (entry.id() == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean matchesAll(String name, String type, List<String> terms) {
+        for (String term : terms) {
+            if (!hasTokenStartingWith(name, term) && !hasTokenStartingWith(type, term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasTokenStartingWith(String text, String term) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i + term.length() <= text.length(); i++) {
+            if ((i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)))
+                    && text.regionMatches(true, i, term, 0, term.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>(4);
+        forEachToken(text, tokens::add);
+        return tokens;
+    }
+
+    private static void forEachToken(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean tokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                consumer.accept(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+    }
+
+    private static final class Segment {
+        static final Segment EMPTY = new Segment(new String[0], new int[1], new long[0], new long[0], new String[0], new String[0]);
+
+        final String[] tokens;
+        final int[] offsets;
+        final long[] postings;
+        final long[] ids;
+        final String[] names;
+        final String[] types;
+
+        private Segment(String[] tokens, int[] offsets, long[] postings, long[] ids, String[] names, String[] types) {
+            this.tokens = tokens;
+            this.offsets = offsets;
+            this.postings = postings;
+            this.ids = ids;
+            this.names = names;
+            this.types = types;
+        }
+
+        static Segment build(Collection<Entry> entries) {
+            Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(Entry::id));
+
+            long[] ids = new long[sorted.length];
+            String[] names = new String[sorted.length];
+            String[] types = new String[sorted.length];
+            Map<String, String> typeNames = new HashMap<>();
+            TreeMap<String, LongList> postingsByToken = new TreeMap<>();
+            for (int i = 0; i < sorted.length; i++) {
+                Entry entry = sorted[i];
+                ids[i] = entry.id();
+                names[i] = entry.name();
+                types[i] = entry.type() == null ? null : typeNames.computeIfAbsent(entry.type(), type -> type);
+                Consumer<String> index = token -> postingsByToken.computeIfAbsent(token, key -> new LongList()).append(entry.id());
+                forEachToken(entry.name(), index);
+                forEachToken(entry.type(), index);
+            }
+
+            String[] tokens = new String[postingsByToken.size()];
+            int[] offsets = new int[tokens.length + 1];
+            long[] postings = new long[postingsByToken.values().stream().mapToInt(list -> list.size).sum()];
+            int token = 0;
+            for (Map.Entry<String, LongList> posting : postingsByToken.entrySet()) {
+                tokens[token] = posting.getKey();
+                LongList tokenIds = posting.getValue();
+                System.arraycopy(tokenIds.values, 0, postings, offsets[token], tokenIds.size);
+                offsets[token + 1] = offsets[token] + tokenIds.size;
+                token++;
+            }
+            return new Segment(tokens, offsets, postings, ids, names, types);
+        }
+
+        int lowerBound(String prefix) {
+            int index = Arrays.binarySearch(tokens, prefix);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        int upperBound(String prefix) {
+            return lowerBound(prefix + Character.MAX_VALUE);
+        }
+    }
+
+    /** Sorted, growable {@code long[]}. */
+    private static final class LongList {
+        private long[] values = new long[4];
+        private int size;
+
+        void append(long value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void insert(long value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+        }
+
+        boolean remove(long value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long value) {
+            return size > 0 && Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
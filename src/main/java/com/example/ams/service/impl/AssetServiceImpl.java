@@ -1,224 +1,485 @@
 package com.example.ams.service.impl;
 
 import com.example.ams.dao.AssetRepository;
-import com.example.ams.dao.CategoryRepository;
-import com.example.ams.dao.UserRepository;
+import com.example.ams.dao.CategoryReference;
+import com.example.ams.dao.ConstraintViolations;
+import com.example.ams.dao.AssetSpecifications;
+import com.example.ams.dao.ReferenceDataCache;
+import com.example.ams.dao.UserReference;
+import com.example.ams.datamodels.constants.Constants;
 import com.example.ams.datamodels.entities.Asset;
 import com.example.ams.datamodels.entities.Category;
 import com.example.ams.datamodels.entities.User;
 import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.datamodels.form.request.AssetSearchRequestDTO;
+import com.example.ams.datamodels.form.request.AssetV2RequestDTO;
 import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.AssetV2ResponseDTO;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.ResourceConflict;
 import com.example.ams.exceptionhandling.ResourceNotFound;
 import com.example.ams.service.AssetService;
+import com.example.ams.service.AssetSuggestService;
+import com.example.ams.service.AssetSummaryService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
+@Timed("ams.service")
 public class AssetServiceImpl implements AssetService {
 
     private static final Logger logger = LoggerFactory.getLogger(AssetServiceImpl.class);
     private final AssetRepository assetRepository;
-    private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
-
-    public AssetServiceImpl(AssetRepository assetRepository, UserRepository userRepository, CategoryRepository categoryRepository) {
+    private final ReferenceDataCache referenceDataCache;
+    private final AssetSummaryService assetSummaryService;
+    private final AssetSuggestService assetSuggestService;
+    private final EntityManager entityManager;
+
+    public AssetServiceImpl(AssetRepository assetRepository, ReferenceDataCache referenceDataCache,
+                            AssetSummaryService assetSummaryService, AssetSuggestService assetSuggestService,
+                            EntityManager entityManager) {
         this.assetRepository = assetRepository;
-        this.userRepository = userRepository;
-        this.categoryRepository = categoryRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.assetSummaryService = assetSummaryService;
+        this.assetSuggestService = assetSuggestService;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public AssetResponseDTO saveAsset(AssetRequestDTO assetRequestDTO) {
-        try {
-            if (assetRequestDTO == null ||
-                    assetRequestDTO.getName() == null || assetRequestDTO.getName().trim().isEmpty() ||
-                    assetRequestDTO.getType() == null || assetRequestDTO.getType().trim().isEmpty() ||
-                    assetRequestDTO.getValue() == null || assetRequestDTO.getValue().trim().isEmpty() ||
-                    assetRequestDTO.getOwnerId() == null || assetRequestDTO.getOwnerId().trim().isEmpty() ||
-                    assetRequestDTO.getCategoryId() == null || assetRequestDTO.getCategoryId().trim().isEmpty()) {
-                logger.error("Invalid request: All fields are required");
-                throw new IllegalArgumentException("Invalid request: All fields are required");
-            }
+        if (assetRequestDTO == null ||
+                assetRequestDTO.getName() == null || assetRequestDTO.getName().trim().isEmpty() ||
+                assetRequestDTO.getType() == null || assetRequestDTO.getType().trim().isEmpty() ||
+                assetRequestDTO.getValue() == null || assetRequestDTO.getValue().trim().isEmpty() ||
+                assetRequestDTO.getOwnerId() == null || assetRequestDTO.getOwnerId().trim().isEmpty() ||
+                assetRequestDTO.getCategoryId() == null || assetRequestDTO.getCategoryId().trim().isEmpty()) {
+            logger.debug("Invalid request: All fields are required");
+            throw new InvalidRequest("All fields are required");
+        }
 
-            Optional<Asset> existingAsset = assetRepository.findByNameAndTypeAndValue(
-                    assetRequestDTO.getName().trim(),
-                    assetRequestDTO.getType().trim(),
-                    Double.parseDouble(assetRequestDTO.getValue())
-            );
-            if (existingAsset.isPresent()) {
-                logger.error("Asset with same name, type and value akready exists");
-                throw new ResourceNotFound("Asset with same name, type, and value already exists.");
-            }
+        return mapToDTO(createAsset(
+                assetRequestDTO.getName(),
+                assetRequestDTO.getType(),
+                parseValue(assetRequestDTO.getValue()),
+                parseId(assetRequestDTO.getOwnerId(), "owner"),
+                parseId(assetRequestDTO.getCategoryId(), "category")));
+    }
 
-            Optional<User> user = userRepository.findById(Long.parseLong(assetRequestDTO.getOwnerId()));
-            Optional<Category> category = categoryRepository.findById(Long.parseLong(assetRequestDTO.getCategoryId()));
+    @Override
+    @Transactional
+    public AssetV2ResponseDTO saveAssetV2(AssetV2RequestDTO assetRequestDTO) {
+        if (assetRequestDTO == null ||
+                !StringUtils.hasText(assetRequestDTO.getName()) ||
+                !StringUtils.hasText(assetRequestDTO.getType()) ||
+                assetRequestDTO.getValue() == null ||
+                assetRequestDTO.getOwnerId() == null ||
+                assetRequestDTO.getCategoryId() == null) {
+            logger.debug("Invalid request: All fields are required");
+            throw new InvalidRequest("All fields are required");
+        }
 
-            if (user.isEmpty() || category.isEmpty()) {
-                logger.error("User or category does not exist.");
-                throw new ResourceNotFound("User or Category not found");
-            }
+        return mapToV2DTO(createAsset(
+                assetRequestDTO.getName(),
+                assetRequestDTO.getType(),
+                assetRequestDTO.getValue(),
+                assetRequestDTO.getOwnerId(),
+                assetRequestDTO.getCategoryId()));
+    }
 
-            Asset asset = new Asset();
-            asset.setName(assetRequestDTO.getName().trim());
-            asset.setType(assetRequestDTO.getType().trim());
-            asset.setValue(Double.parseDouble(assetRequestDTO.getValue()));
-            asset.setPurchaseDate(LocalDate.now());
-            asset.setOwner(user.get());
-            asset.setCategory(category.get());
+    private Asset createAsset(String name, String type, BigDecimal value, Long ownerId, Long categoryId) {
+        User user = owner(referenceDataCache.findUserById(ownerId)
+                .orElseThrow(() -> new ResourceNotFound("User not found")));
+        CategoryReference category = referenceDataCache.findCategoryById(categoryId)
+                .orElseThrow(() -> new ResourceNotFound("Category not found"));
 
-            Asset savedAsset = assetRepository.save(asset);
+        Asset asset = new Asset();
+        asset.setName(name.trim());
+        asset.setType(type.trim());
+        asset.setValue(value);
+        asset.setPurchaseDate(LocalDate.now());
+        asset.setOwner(user);
+        asset.setCategory(entityManager.getReference(Category.class, category.id()));
 
-            logger.info("Asset saved in database");
+        Asset savedAsset = saveNaturalKeyChecked(asset);
+        assetSummaryService.assetsAdded(List.of(savedAsset));
+        assetSuggestService.assetsAdded(List.of(savedAsset));
 
-            return new AssetResponseDTO(
-                    savedAsset.getId().toString(),
-                    savedAsset.getName(),
-                    savedAsset.getType(),
-                    savedAsset.getValue().toString(),
-                    savedAsset.getPurchaseDate().toString(),
-                    savedAsset.getOwner().getName(),
-                    savedAsset.getCategory().getName()
-            );
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error saving transaction: " + e.getMessage());
+        logger.debug("Asset saved in database");
 
-        }
+        return savedAsset;
     }
 
 
     @Override
-    public List<AssetResponseDTO> getAllAssets() {
-        try {
-            List<Asset> assets = assetRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<AssetResponseDTO> getAssets(Long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), Constants.MAX_PAGE_LIMIT);
+        List<AssetResponseDTO> assets = assetRepository.findViewPageAfter(after == null ? 0L : after, PageRequest.of(0, pageSize + 1));
 
-            logger.info("Assets retrieved");
+        logger.debug("Retrieved {} assets after id: {}", assets.size(), after);
 
-            if (assets.isEmpty()) {
-                logger.error("No assets found.");
-                throw new ResourceNotFound("No assets found");
-            }
+        return toCursorPage(assets, pageSize, AssetResponseDTO::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<AssetResponseDTO> searchAssets(AssetSearchRequestDTO criteria, Long after, int limit) {
+        if (criteria.getMinValue() != null && criteria.getMaxValue() != null
+                && criteria.getMinValue().compareTo(criteria.getMaxValue()) > 0) {
+            throw new InvalidRequest("minValue must not be greater than maxValue");
+        }
+        if (criteria.getPurchasedFrom() != null && criteria.getPurchasedTo() != null
+                && criteria.getPurchasedFrom().isAfter(criteria.getPurchasedTo())) {
+            throw new InvalidRequest("purchasedFrom must not be after purchasedTo");
+        }
 
-            return assets.stream()
-                    .map(asset -> new AssetResponseDTO(
-                            asset.getId().toString(),
-                            asset.getName(),
-                            asset.getType(),
-                            asset.getValue().toString(),
-                            asset.getPurchaseDate().toString(),
-                            asset.getOwner().getName(),
-                            asset.getCategory().getName()
-                    ))
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error fetching assets: " + e.getMessage());
+        int pageSize = Math.min(Math.max(limit, 1), Constants.MAX_PAGE_LIMIT);
+        Specification<Asset> specification = AssetSpecifications.matching(criteria);
+        if (after != null) {
+            specification = specification.and(AssetSpecifications.idAfter(after));
         }
+        List<AssetResponseDTO> assets = assetRepository.searchViews(specification, pageSize + 1);
+
+        logger.debug("Search matched {} assets after id: {}", assets.size(), after);
+
+        return toCursorPage(assets, pageSize, AssetResponseDTO::getId);
     }
 
     @Override
-    public AssetResponseDTO getAssetById(String id) {
-        try {
-            Asset asset = assetRepository.findById(Long.valueOf(id))
-                    .orElseThrow(() -> new RuntimeException("Asset not found"));
-            logger.error("Asset not found with id: {}", id);
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<AssetV2ResponseDTO> getAssetsV2(Long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), Constants.MAX_PAGE_LIMIT);
+        List<AssetV2ResponseDTO> assets = assetRepository.findV2ViewPageAfter(after == null ? 0L : after, PageRequest.of(0, pageSize + 1));
+
+        logger.debug("Retrieved {} assets after id: {}", assets.size(), after);
+
+        return toCursorPage(assets, pageSize, asset -> Long.toString(asset.getId()));
+    }
 
-            return new AssetResponseDTO(
-                    asset.getId().toString(),
-                    asset.getName(),
-                    asset.getType(),
-                    asset.getValue().toString(),
-                    asset.getPurchaseDate().toString(),
-                    asset.getOwner().getName(),
-                    asset.getCategory().getName()
-            );
-        } catch (Exception e) {
-            logger.error("Error getting asset with id: {}", id);
-            throw new ResourceNotFound("Error fetching asset: " + e.getMessage());
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllAssets(Consumer<AssetResponseDTO> consumer) {
+        try (Stream<Asset> assets = assetRepository.streamAllOrderById()) {
+            assets.forEach(asset -> {
+                consumer.accept(mapToDTO(asset));
+                entityManager.detach(asset);
+            });
         }
     }
 
     @Override
+    public AssetResponseDTO getAssetById(String id) {
+        return assetRepository.findViewById(parseId(id, "asset"))
+                .orElseThrow(() -> {
+                    logger.debug("Asset not found with id: {}", id);
+                    return new ResourceNotFound("Asset not found");
+                });
+    }
+
+    @Override
+    public AssetV2ResponseDTO getAssetByIdV2(long id) {
+        return assetRepository.findV2ViewById(id)
+                .orElseThrow(() -> {
+                    logger.debug("Asset not found with id: {}", id);
+                    return new ResourceNotFound("Asset not found");
+                });
+    }
+
+    @Override
+    @Transactional
     public void deleteAsset(String id) {
+        Asset asset = assetRepository.findById(parseId(id, "asset"))
+                .orElseThrow(() -> {
+                    logger.debug("Asset not found to delete, id: {}", id);
+                    return new ResourceNotFound("Asset not found");
+                });
+        assetSummaryService.assetsRemoved(List.of(asset));
+        assetSuggestService.assetsRemoved(List.of(asset));
         try {
-            if (!assetRepository.existsById(Long.valueOf(id))) {
-                logger.error("Asset not found to delete, id: {}", id);
-                throw new ResourceNotFound("Asset not found");
-            }
-            assetRepository.deleteById(Long.valueOf(id));
-            logger.info("Assest deleted with id: {}", id);
-        } catch (Exception e) {
-            logger.error("Error while deleting asset with id: {}", e.getMessage());
+            assetRepository.delete(asset);
+            assetRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // A delete can only break a reference to the row, and transactions are the one
+            // table that refers to assets.
+            logger.debug("Asset still has transactions, id: {}", id);
+            throw new ResourceConflict("Asset has transactions and cannot be deleted");
         }
+        logger.debug("Asset deleted with id: {}", id);
     }
 
     @Override
-    public AssetResponseDTO updateAsset(String id, AssetRequestDTO assetRequestDTO) {
-        try {
-            Asset existingAsset = assetRepository.findById(Long.parseLong(id))
-                    .orElseThrow(() -> {
-                        logger.error("Asset not able to update, id not found: {}", id);
-                        return new RuntimeException("Asset not found");
-                    });
+    @Transactional
+    public AssetResponseDTO updateAsset(String id, AssetRequestDTO assetRequestDTO, Long expectedVersion) {
+        Asset existingAsset = assetRepository.findById(parseId(id, "asset"))
+                .orElseThrow(() -> {
+                    logger.debug("Asset not able to update, id not found: {}", id);
+                    return new ResourceNotFound("Asset not found");
+                });
+        if (expectedVersion != null && existingAsset.getVersion() != expectedVersion) {
+            logger.debug("Asset {} is at version {}, update expected {}", id, existingAsset.getVersion(), expectedVersion);
+            throw new ResourceConflict(Constants.STALE_VERSION);
+        }
+        assetSummaryService.assetsRemoved(List.of(existingAsset));
 
-            if (StringUtils.hasText(assetRequestDTO.getName())) {
-                existingAsset.setName(assetRequestDTO.getName().trim());
-            }
+        if (StringUtils.hasText(assetRequestDTO.getName())) {
+            existingAsset.setName(assetRequestDTO.getName().trim());
+        }
+
+        if (StringUtils.hasText(assetRequestDTO.getType())) {
+            existingAsset.setType(assetRequestDTO.getType().trim());
+        }
+
+        if (StringUtils.hasText(assetRequestDTO.getValue())) {
+            existingAsset.setValue(parseValue(assetRequestDTO.getValue()));
+        }
+
+        updateOwnerIfPresent(assetRequestDTO.getOwnerId(), existingAsset);
+        updateCategoryIfPresent(assetRequestDTO.getCategoryId(), existingAsset);
+
+        Asset updatedAsset = saveNaturalKeyChecked(existingAsset);
+        assetSummaryService.assetsAdded(List.of(updatedAsset));
+        assetSuggestService.assetsAdded(List.of(updatedAsset));
+        logger.debug("Asset updated with id: {}", id);
+
+        return mapToDTO(updatedAsset);
+    }
 
-            if (StringUtils.hasText(assetRequestDTO.getType())) {
-                existingAsset.setType(assetRequestDTO.getType().trim());
+    /**
+     * Applies the present fields with one versioned UPDATE instead of loading the asset. The
+     * summary key is read at {@code expectedVersion} only when summaries are materialized; the
+     * row is read back once, for the response and the suggest index. A {@code null} version
+     * ({@code If-Match: *}) patches whatever version is current when the request reads it.
+     */
+    @Override
+    @Transactional
+    public AssetResponseDTO patchAsset(String id, AssetRequestDTO assetRequestDTO, Long expectedVersion) {
+        Long assetId = parseId(id, "asset");
+        Map<String, Object> changes = new LinkedHashMap<>();
+        String type = null;
+        BigDecimal value = null;
+        Long ownerId = null;
+        Long categoryId = null;
+
+        if (StringUtils.hasText(assetRequestDTO.getName())) {
+            String name = assetRequestDTO.getName().trim();
+            changes.put("name", name);
+            changes.put("normalizedName", Asset.normalizeName(name));
+        }
+
+        if (StringUtils.hasText(assetRequestDTO.getType())) {
+            type = assetRequestDTO.getType().trim();
+            changes.put("type", type);
+        }
+
+        if (StringUtils.hasText(assetRequestDTO.getValue())) {
+            value = Asset.normalizeValue(parseValue(assetRequestDTO.getValue()));
+            changes.put("value", value);
+        }
+
+        if (StringUtils.hasText(assetRequestDTO.getOwnerId())) {
+            ownerId = referenceDataCache.findUserById(parseId(assetRequestDTO.getOwnerId(), "owner"))
+                    .orElseThrow(() -> new ResourceNotFound("User not found"))
+                    .id();
+            changes.put("owner", entityManager.getReference(User.class, ownerId));
+        }
+
+        if (StringUtils.hasText(assetRequestDTO.getCategoryId())) {
+            categoryId = referenceDataCache.findCategoryById(parseId(assetRequestDTO.getCategoryId(), "category"))
+                    .orElseThrow(() -> new ResourceNotFound("Category not found"))
+                    .id();
+            changes.put("category", entityManager.getReference(Category.class, categoryId));
+        }
+
+        if (changes.isEmpty()) {
+            throw new InvalidRequest("No fields to update");
+        }
+        long version = expectedVersion != null ? expectedVersion : assetRepository.findVersionById(assetId)
+                .orElseThrow(() -> new ResourceNotFound("Asset not found"));
+
+        Asset before = null;
+        if (assetSummaryService.isMaterialized()) {
+            List<Object[]> key = assetRepository.findSummaryKeyAtVersion(assetId, version);
+            if (key.isEmpty()) {
+                throw staleOrMissing(assetId, version);
             }
+            Object[] row = key.get(0);
+            before = snapshot(assetId, (Long) row[0], (Long) row[1], null, (String) row[2], (BigDecimal) row[3]);
+        }
 
-            if (StringUtils.hasText(assetRequestDTO.getValue())) {
-                existingAsset.setValue(Double.parseDouble(assetRequestDTO.getValue().trim()));
+        int updated;
+        try {
+            updated = assetRepository.updateIfVersion(Asset.class, assetId, version, changes);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isViolationOf(e, Constants.ASSET_NATURAL_KEY)) {
+                throw e;
             }
+            logger.debug("Asset with same name, type and value already exists: {}", assetId);
+            throw new ResourceConflict(Constants.ASSET_ALREADY_EXISTS);
+        }
+        if (updated == 0) {
+            throw staleOrMissing(assetId, version);
+        }
+
+        AssetResponseDTO patchedAsset = assetRepository.findViewById(assetId)
+                .orElseThrow(() -> new ResourceNotFound("Asset not found"));
+        if (before != null) {
+            assetSummaryService.assetsRemoved(List.of(before));
+            assetSummaryService.assetsAdded(List.of(snapshot(assetId,
+                    ownerId != null ? ownerId : before.getOwner().getId(),
+                    categoryId != null ? categoryId : before.getCategory().getId(),
+                    null,
+                    type != null ? type : before.getType(),
+                    value != null ? value : before.getValue())));
+        }
+        if (changes.containsKey("name") || type != null) {
+            assetSuggestService.assetsAdded(List.of(
+                    snapshot(assetId, null, null, patchedAsset.getName(), patchedAsset.getType(), null)));
+        }
+        logger.debug("Asset {} patched from version {}", id, version);
+
+        return patchedAsset;
+    }
 
-            updateOwnerIfPresent(assetRequestDTO.getOwnerId(), existingAsset);
-            updateCategoryIfPresent(assetRequestDTO.getCategoryId(), existingAsset);
+    private Asset saveNaturalKeyChecked(Asset asset) {
+        try {
+            return assetRepository.saveAndFlush(asset);
+        } catch (DataIntegrityViolationException e) {
+            if (!ConstraintViolations.isViolationOf(e, Constants.ASSET_NATURAL_KEY)) {
+                throw e;
+            }
+            logger.debug("Asset with same name, type and value already exists: {}", asset.getName());
+            throw new ResourceConflict(Constants.ASSET_ALREADY_EXISTS);
+        } catch (OptimisticLockingFailureException e) {
+            logger.debug("Asset {} was modified concurrently", asset.getId());
+            throw new ResourceConflict(Constants.STALE_VERSION);
+        }
+    }
 
-            Asset updatedAsset = assetRepository.save(existingAsset);
-            logger.info("Asset updated with id: {}", id);
+    private RuntimeException staleOrMissing(Long assetId, long expectedVersion) {
+        if (!assetRepository.existsById(assetId)) {
+            logger.debug("Asset not able to patch, id not found: {}", assetId);
+            return new ResourceNotFound("Asset not found");
+        }
+        logger.debug("Asset {} is no longer at version {}", assetId, expectedVersion);
+        return new ResourceConflict(Constants.STALE_VERSION);
+    }
 
-            return new AssetResponseDTO(
-                    updatedAsset.getId().toString(),
-                    updatedAsset.getName(),
-                    updatedAsset.getType(),
-                    updatedAsset.getValue().toString(),
-                    updatedAsset.getPurchaseDate().toString(),
-                    updatedAsset.getOwner().getName(),
-                    updatedAsset.getCategory().getName()
-            );
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error updating asset : " + e.getMessage());
+    /** Unmanaged asset carrying just the fields the summary and suggest indexes read. */
+    private Asset snapshot(Long id, Long ownerId, Long categoryId, String name, String type, BigDecimal value) {
+        Asset asset = new Asset();
+        asset.setId(id);
+        asset.setName(name);
+        asset.setType(type);
+        asset.setValue(value);
+        if (ownerId != null) {
+            asset.setOwner(entityManager.getReference(User.class, ownerId));
         }
+        if (categoryId != null) {
+            asset.setCategory(entityManager.getReference(Category.class, categoryId));
+        }
+        return asset;
+    }
+
+    static AssetResponseDTO mapToDTO(Asset asset) {
+        AssetResponseDTO assetResponseDTO = new AssetResponseDTO(
+                asset.getId().toString(),
+                asset.getName(),
+                asset.getType(),
+                asset.getValue().toPlainString(),
+                asset.getPurchaseDate().toString(),
+                asset.getOwner().getName(),
+                asset.getCategory().getName()
+        );
+        assetResponseDTO.setVersion(asset.getVersion());
+        return assetResponseDTO;
+    }
+
+    static AssetV2ResponseDTO mapToV2DTO(Asset asset) {
+        return new AssetV2ResponseDTO(
+                asset.getId(),
+                asset.getName(),
+                asset.getType(),
+                asset.getValue(),
+                asset.getPurchaseDate(),
+                asset.getOwner().getName(),
+                asset.getCategory().getName()
+        );
+    }
+
+    /**
+     * Detached owner built from the cached projection. Only its id is written, and it carries the
+     * name the response needs, so neither the asset write nor its mapping loads the user row.
+     */
+    private static User owner(UserReference reference) {
+        User owner = new User();
+        owner.setId(reference.id());
+        owner.setName(reference.name());
+        owner.setRole(reference.role());
+        return owner;
+    }
+
+    private static <T> CursorPageResponseDTO<T> toCursorPage(List<T> rows, int pageSize, Function<T, String> cursor) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? cursor.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageResponseDTO<>(items, nextCursor, hasMore);
     }
 
     private void updateOwnerIfPresent(String ownerId, Asset asset) {
         if (StringUtils.hasText(ownerId)) {
-            userRepository.findById(Long.parseLong(ownerId))
-                    .ifPresentOrElse(
-                            asset::setOwner,
-                            () -> {
-                                logger.error("User not found for asset update with owner id: {}", ownerId);
-                                throw new RuntimeException("User not found");
-                            });
+            UserReference owner = referenceDataCache.findUserById(parseId(ownerId, "owner"))
+                    .orElseThrow(() -> {
+                        logger.debug("User not found for asset update with owner id: {}", ownerId);
+                        return new ResourceNotFound("User not found");
+                    });
+            asset.setOwner(owner(owner));
         }
     }
 
     private void updateCategoryIfPresent(String categoryId, Asset asset) {
         if (StringUtils.hasText(categoryId)) {
-            categoryRepository.findById(Long.parseLong(categoryId))
-                    .ifPresentOrElse(
-                            asset::setCategory,
-                            () -> {
-                                logger.error("Category not found for asset update with category id: {}", categoryId);
-                                throw new RuntimeException("Category not found");
-                            });
+            CategoryReference category = referenceDataCache.findCategoryById(parseId(categoryId, "category"))
+                    .orElseThrow(() -> {
+                        logger.debug("Category not found for asset update with category id: {}", categoryId);
+                        return new ResourceNotFound("Category not found");
+                    });
+            asset.setCategory(entityManager.getReference(Category.class, category.id()));
+        }
+    }
+
+    private Long parseId(String id, String field) {
+        try {
+            return Long.valueOf(id.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidRequest("Invalid " + field + " ID: " + id);
+        }
+    }
+
+    private BigDecimal parseValue(String value) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidRequest("Invalid asset value: " + value);
         }
     }
 
@@ -0,0 +1,231 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.AssetSpecifications;
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.AssetSuggestionDTO;
+import com.example.ams.service.AssetSuggestService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Type-ahead over asset names and types, served from an {@link AssetNameIndex} that is loaded
+ * with a partitioned scan at startup and patched by the asset write paths after they commit.
+ * Until the index is loaded, or when the table outgrows {@code ams.assets.suggest.max-entries},
+ * suggestions fall back to a substring query narrowed with the index's own token-prefix match, so
+ * both paths return the same kind of hits.
+ */
+@Service
+@Timed("ams.service")
+public class AssetSuggestServiceImpl implements AssetSuggestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetSuggestServiceImpl.class);
+    private final AssetRepository assetRepository;
+    private final AssetNameIndex index;
+    private final boolean enabled;
+    private final long maxEntries;
+    private final int rebuildThreads;
+    private final long rebuildChunkSize;
+    private volatile boolean indexing;
+    private volatile boolean ready;
+
+    public AssetSuggestServiceImpl(AssetRepository assetRepository,
+                                   @Value("${ams.assets.suggest.enabled:true}") boolean enabled,
+                                   @Value("${ams.assets.suggest.max-entries:2000000}") long maxEntries,
+                                   @Value("${ams.assets.suggest.merge-threshold:50000}") int mergeThreshold,
+                                   @Value("${ams.assets.suggest.rebuild.threads:4}") int rebuildThreads,
+                                   @Value("${ams.assets.suggest.rebuild.chunk-size:50000}") long rebuildChunkSize) {
+        this.assetRepository = assetRepository;
+        this.index = new AssetNameIndex(mergeThreshold);
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.rebuildThreads = rebuildThreads;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @Override
+    public List<AssetSuggestionDTO> suggest(String query, int limit) {
+        if (!StringUtils.hasText(query)) {
+            return List.of();
+        }
+        int size = Math.min(Math.max(limit, 1), Constants.MAX_SUGGEST_LIMIT);
+        if (ready) {
+            return index.suggest(query, size).stream()
+                    .map(entry -> new AssetSuggestionDTO(Long.toString(entry.id()), entry.name(), entry.type()))
+                    .collect(Collectors.toList());
+        }
+        return suggestFromTable(AssetNameIndex.tokenize(query), size);
+    }
+
+    /**
+     * Pages through rows whose name or type contains every term and keeps those where each term
+     * starts a token, visiting at most {@link AssetNameIndex#MAX_SCANNED} rows like the index does.
+     */
+    private List<AssetSuggestionDTO> suggestFromTable(List<String> terms, int size) {
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Specification<Asset> matching = Specification.where(null);
+        for (String term : terms) {
+            matching = matching.and(AssetSpecifications.nameOrTypeContains(term));
+        }
+
+        List<AssetSuggestionDTO> suggestions = new ArrayList<>(size);
+        long after = 0;
+        for (int scanned = 0; suggestions.size() < size && scanned < AssetNameIndex.MAX_SCANNED; ) {
+            List<AssetResponseDTO> page = assetRepository.searchViews(AssetSpecifications.idAfter(after).and(matching), size);
+            for (AssetResponseDTO asset : page) {
+                if (suggestions.size() < size && AssetNameIndex.matchesAll(asset.getName(), asset.getType(), terms)) {
+                    suggestions.add(new AssetSuggestionDTO(asset.getId(), asset.getName(), asset.getType()));
+                }
+            }
+            if (page.size() < size) {
+                break;
+            }
+            scanned += page.size();
+            after = Long.parseLong(page.get(page.size() - 1).getId());
+        }
+        return suggestions;
+    }
+
+    /**
+     * {@code indexing} is read when the write commits, not when it is made: a rebuild that starts
+     * in between cannot see the uncommitted row in its scan, so it has to receive it through the
+     * journal, and an index disabled in between must not be refilled.
+     */
+    @Override
+    public void assetsAdded(Collection<Asset> assets) {
+        if (!enabled || assets.isEmpty()) {
+            return;
+        }
+        List<AssetNameIndex.Entry> entries = assets.stream()
+                .map(asset -> new AssetNameIndex.Entry(asset.getId(), asset.getName(), asset.getType()))
+                .collect(Collectors.toList());
+        afterCommit(() -> {
+            if (indexing) {
+                entries.forEach(entry -> index.put(entry.id(), entry.name(), entry.type()));
+                checkCapacity();
+            }
+        });
+    }
+
+    @Override
+    public void assetsRemoved(Collection<Asset> assets) {
+        if (!enabled || assets.isEmpty()) {
+            return;
+        }
+        long[] ids = assets.stream().mapToLong(Asset::getId).toArray();
+        afterCommit(() -> {
+            if (indexing) {
+                for (long id : ids) {
+                    index.remove(id);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long count = assetRepository.count();
+        if (count > maxEntries) {
+            disable(count);
+            return;
+        }
+
+        indexing = true;
+        index.beginRebuild();
+        try {
+            List<AssetNameIndex.Entry> entries = scan();
+            index.finishRebuild(entries);
+            ready = true;
+            logger.info("Asset suggest index loaded with {} entries in {} ms", entries.size(), System.currentTimeMillis() - start);
+            checkCapacity();
+        } catch (RuntimeException e) {
+            indexing = false;
+            ready = false;
+            index.clear();
+            logger.error("Asset suggest index load failed, using name-prefix queries", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    private List<AssetNameIndex.Entry> scan() {
+        List<Object[]> range = assetRepository.findIdRange();
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return List.of();
+        }
+
+        long minId = ((Number) range.get(0)[0]).longValue();
+        long maxId = ((Number) range.get(0)[1]).longValue();
+        List<CompletableFuture<List<AssetNameIndex.Entry>>> partitions = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads);
+        try {
+            for (long from = minId; from <= maxId; from += rebuildChunkSize) {
+                long fromId = from;
+                long toId = Math.min(from + rebuildChunkSize - 1, maxId);
+                partitions.add(CompletableFuture.supplyAsync(() -> assetRepository.findNamesInRange(fromId, toId).stream()
+                        .map(row -> new AssetNameIndex.Entry(((Number) row[0]).longValue(), (String) row[1], (String) row[2]))
+                        .collect(Collectors.toList()), executor));
+            }
+            List<AssetNameIndex.Entry> entries = new ArrayList<>();
+            partitions.forEach(partition -> entries.addAll(partition.join()));
+            return entries;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void checkCapacity() {
+        int size = index.size();
+        if (size > maxEntries) {
+            disable(size);
+        }
+    }
+
+    private void disable(long assets) {
+        indexing = false;
+        ready = false;
+        index.clear();
+        logger.warn("Asset suggest index disabled: {} assets exceed ams.assets.suggest.max-entries={}, using name-prefix queries",
+                assets, maxEntries);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
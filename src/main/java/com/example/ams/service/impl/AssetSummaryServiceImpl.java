@@ -0,0 +1,169 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.AssetValueSummaryRepository;
+import com.example.ams.dao.CategoryReference;
+import com.example.ams.dao.ReferenceDataCache;
+import com.example.ams.dao.UserReference;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.AssetSummaryDimension;
+import com.example.ams.datamodels.entities.AssetValueSummary;
+import com.example.ams.datamodels.entities.AssetValueSummaryId;
+import com.example.ams.datamodels.form.response.AssetSummaryDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.AssetSummaryService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Portfolio totals per owner, category and type. When {@code ams.assets.summary.materialized}
+ * is on, the asset write paths keep {@code asset_value_summaries} up to date and reads cost
+ * O(groups); otherwise every read runs a GROUP BY over the assets table.
+ */
+@Service
+@Timed("ams.service")
+public class AssetSummaryServiceImpl implements AssetSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssetSummaryServiceImpl.class);
+    /** Response order for both read paths: group name, then key for groups that share a name. */
+    private static final Comparator<AssetSummaryDTO> BY_GROUP = Comparator
+            .comparing(AssetSummaryDTO::getGroupName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(AssetSummaryDTO::getGroupKey, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final AssetRepository assetRepository;
+    private final AssetValueSummaryRepository assetValueSummaryRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean materialized;
+
+    public AssetSummaryServiceImpl(AssetRepository assetRepository, AssetValueSummaryRepository assetValueSummaryRepository,
+                                   ReferenceDataCache referenceDataCache, TransactionTemplate transactionTemplate,
+                                   @Value("${ams.assets.summary.materialized:false}") boolean materialized) {
+        this.assetRepository = assetRepository;
+        this.assetValueSummaryRepository = assetValueSummaryRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.transactionTemplate = transactionTemplate;
+        this.materialized = materialized;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetSummaryDTO> getSummary(String groupBy) {
+        AssetSummaryDimension dimension = parseDimension(groupBy);
+        if (materialized) {
+            return assetValueSummaryRepository.findByIdDimensionAndAssetCountGreaterThanOrderByIdGroupKey(dimension, 0).stream()
+                    .map(summary -> toDTO(dimension, summary))
+                    .sorted(BY_GROUP)
+                    .collect(Collectors.toList());
+        }
+
+        List<AssetSummaryDTO> summary = switch (dimension) {
+            case OWNER -> assetRepository.summarizeByOwner();
+            case CATEGORY -> assetRepository.summarizeByCategory();
+            case TYPE -> assetRepository.summarizeByType();
+        };
+        // Already ordered by name in SQL; re-sorted so both paths agree whatever the collation.
+        summary.sort(BY_GROUP);
+        return summary;
+    }
+
+    @Override
+    public void assetsAdded(Collection<Asset> assets) {
+        applyDeltas(assets, 1);
+    }
+
+    @Override
+    public void assetsRemoved(Collection<Asset> assets) {
+        applyDeltas(assets, -1);
+    }
+
+    @Override
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assetValueSummaryRepository.deleteAllRows();
+            assetValueSummaryRepository.rebuildOwners();
+            assetValueSummaryRepository.rebuildCategories();
+            assetValueSummaryRepository.rebuildTypes();
+        });
+        logger.info("Asset value summaries rebuilt");
+    }
+
+    @Override
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (materialized) {
+            rebuild();
+        }
+    }
+
+    private void applyDeltas(Collection<Asset> assets, int sign) {
+        if (!materialized || assets.isEmpty()) {
+            return;
+        }
+
+        Map<AssetValueSummaryId, Delta> deltas = new HashMap<>();
+        for (Asset asset : assets) {
+            BigDecimal value = asset.getValue() == null ? BigDecimal.ZERO : asset.getValue();
+            addDelta(deltas, AssetSummaryDimension.OWNER, asset.getOwner().getId().toString(), value);
+            addDelta(deltas, AssetSummaryDimension.CATEGORY, asset.getCategory().getId().toString(), value);
+            if (asset.getType() != null) {
+                addDelta(deltas, AssetSummaryDimension.TYPE, asset.getType(), value);
+            }
+        }
+
+        deltas.forEach((key, delta) -> assetValueSummaryRepository.applyDelta(
+                key.getDimension().name(),
+                key.getGroupKey(),
+                sign * delta.count,
+                sign > 0 ? delta.total : delta.total.negate()));
+    }
+
+    private void addDelta(Map<AssetValueSummaryId, Delta> deltas, AssetSummaryDimension dimension, String groupKey, BigDecimal value) {
+        Delta delta = deltas.computeIfAbsent(new AssetValueSummaryId(dimension, groupKey), key -> new Delta());
+        delta.count++;
+        delta.total = delta.total.add(value);
+    }
+
+    private AssetSummaryDTO toDTO(AssetSummaryDimension dimension, AssetValueSummary summary) {
+        String groupKey = summary.getId().getGroupKey();
+        String groupName = switch (dimension) {
+            case OWNER -> referenceDataCache.findUserById(Long.valueOf(groupKey)).map(UserReference::name).orElse(null);
+            case CATEGORY -> referenceDataCache.findCategoryById(Long.valueOf(groupKey)).map(CategoryReference::name).orElse(null);
+            case TYPE -> groupKey;
+        };
+        return new AssetSummaryDTO(groupKey, groupName, summary.getAssetCount(), summary.getTotalValue());
+    }
+
+    private AssetSummaryDimension parseDimension(String groupBy) {
+        try {
+            return AssetSummaryDimension.valueOf(groupBy.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new InvalidRequest("groupBy must be one of owner, category or type");
+        }
+    }
+
+    private static final class Delta {
+        private long count;
+        private BigDecimal total = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.request.LoginRequestDTO;
+import com.example.ams.datamodels.form.response.LoginResponseDTO;
+import com.example.ams.datamodels.form.response.UserResponseDTO;
+import com.example.ams.exceptionhandling.InvalidCredentials;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.security.JwtPrincipal;
+import com.example.ams.security.JwtTokenService;
+import com.example.ams.service.AuthService;
+import com.example.ams.service.PasswordHashingService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Verifies credentials once with BCrypt and hands out a signed bearer token, so later calls
+ * are authenticated from the token alone instead of another BCrypt round.
+ */
+@Service
+@Timed("ams.service")
+public class AuthServiceImpl implements AuthService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
+    private static final String TOKEN_TYPE = "Bearer";
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final JwtTokenService jwtTokenService;
+    private final String unknownUserHash;
+
+    public AuthServiceImpl(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                           JwtTokenService jwtTokenService, PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtTokenService = jwtTokenService;
+        // Unknown emails are checked against this hash so they cost the same as a wrong password.
+        this.unknownUserHash = passwordEncoder.encode("unknown-user");
+    }
+
+    @Override
+    public CompletableFuture<LoginResponseDTO> login(LoginRequestDTO loginRequestDTO) {
+        if (loginRequestDTO == null ||
+                loginRequestDTO.getEmail() == null || loginRequestDTO.getEmail().trim().isEmpty() ||
+                loginRequestDTO.getPassword() == null || loginRequestDTO.getPassword().isEmpty()) {
+            throw new InvalidRequest("Email and password are required.");
+        }
+
+        // Read straight from the table: the password hash is deliberately not cached.
+        Optional<User> user = userRepository.findByEmail(loginRequestDTO.getEmail().trim());
+        String encodedPassword = user.map(User::getPassword).orElse(unknownUserHash);
+
+        return passwordHashingService.matches(loginRequestDTO.getPassword(), encodedPassword)
+                .thenApply(matches -> {
+                    if (!matches || user.isEmpty()) {
+                        logger.warn("Failed login for email: {}", loginRequestDTO.getEmail());
+                        throw new InvalidCredentials("Invalid email or password.");
+                    }
+
+                    UserResponseDTO principal = new UserResponseDTO(
+                            user.get().getId().toString(),
+                            user.get().getName(),
+                            user.get().getEmail(),
+                            user.get().getRole().toString()
+                    );
+                    String token = jwtTokenService.issue(user.get());
+                    logger.debug("User logged in with id: {}", principal.getId());
+
+                    return new LoginResponseDTO(token, TOKEN_TYPE, jwtTokenService.getTokenTtl().toSeconds(), principal);
+                });
+    }
+
+    @Override
+    public Optional<UserResponseDTO> verify(String token) {
+        return Optional.ofNullable(jwtTokenService.authenticate(token))
+                .map(authentication -> (JwtPrincipal) authentication.getPrincipal())
+                .map(principal -> new UserResponseDTO(
+                        principal.userId().toString(),
+                        principal.name(),
+                        principal.email(),
+                        principal.role().toString()
+                ));
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        jwtTokenService.revokeUser(userId);
+    }
+}
@@ -1,26 +1,37 @@
 package com.example.ams.service.impl;
 
 import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.ReferenceDataCache;
 import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.DepreciationMethod;
 import com.example.ams.datamodels.form.request.CategoryRequestDTO;
 import com.example.ams.datamodels.form.response.CategoryResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.ResourceConflict;
 import com.example.ams.exceptionhandling.ResourceNotFound;
 import com.example.ams.service.CategoryService;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("ams.service")
 public class CategoryServiceImpl implements CategoryService {
 
     private static final Logger logger = LoggerFactory.getLogger(CategoryServiceImpl.class);
     private final CategoryRepository categoryRepository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public CategoryServiceImpl(CategoryRepository categoryRepository) {
+    public CategoryServiceImpl(CategoryRepository categoryRepository, ReferenceDataCache referenceDataCache) {
         this.categoryRepository = categoryRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -30,17 +41,18 @@ public class CategoryServiceImpl implements CategoryService {
         String name = dto.getName().trim();
         String description = dto.getDescription().trim();
 
-        if (categoryRepository.findByName(name).isPresent()) {
-            logger.warn("Category already exists with name: {}", name);
-            throw new ResourceNotFound("Category with this name already exists.");
+        if (referenceDataCache.findCategoryByName(name).isPresent()) {
+            logger.debug("Category already exists with name: {}", name);
+            throw new ResourceConflict("Category with this name already exists.");
         }
 
         Category category = new Category();
         category.setName(name);
         category.setDescription(description);
+        applyDepreciationPolicy(category, dto);
 
         Category saved = categoryRepository.save(category);
-        logger.info("Category saved with id: {}", saved.getId());
+        logger.debug("Category saved with id: {}", saved.getId());
 
         return mapToDTO(saved);
     }
@@ -48,7 +60,7 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public List<CategoryResponseDTO> getAllCategories() {
         List<Category> categories = categoryRepository.findAll();
-        logger.info("Fetched {} categories from DB", categories.size());
+        logger.debug("Fetched {} categories from DB", categories.size());
 
         return categories.stream()
                 .map(this::mapToDTO)
@@ -58,13 +70,22 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public void deleteCategory(String id) {
         Long categoryId = parseId(id);
-        if (!categoryRepository.existsById(categoryId)) {
-            logger.warn("Category not found with id: {}", id);
-            throw new ResourceNotFound("Category not found.");
-        }
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> {
+                    logger.debug("Category not found with id: {}", id);
+                    return new ResourceNotFound("Category not found.");
+                });
 
-        categoryRepository.deleteById(categoryId);
-        logger.info("Category deleted with id: {}", id);
+        try {
+            categoryRepository.delete(category);
+        } catch (DataIntegrityViolationException e) {
+            // A delete can only break a reference to the row, and assets are the one table
+            // that refers to categories.
+            logger.debug("Category still has assets, id: {}", id);
+            throw new ResourceConflict("Category has assets and cannot be deleted.");
+        }
+        referenceDataCache.evictCategory(category.getId(), category.getName());
+        logger.debug("Category deleted with id: {}", id);
     }
 
     @Override
@@ -72,8 +93,8 @@ public class CategoryServiceImpl implements CategoryService {
         Long categoryId = parseId(id);
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> {
-                    logger.warn("Category not found with id: {}", id);
-                    return new RuntimeException("Category not found.");
+                    logger.debug("Category not found with id: {}", id);
+                    return new ResourceNotFound("Category not found.");
                 });
 
         return mapToDTO(category);
@@ -86,15 +107,18 @@ public class CategoryServiceImpl implements CategoryService {
         Long categoryId = parseId(id);
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> {
-                    logger.warn("Category not found for update, id: {}", id);
-                    return new RuntimeException("Category not found.");
+                    logger.debug("Category not found for update, id: {}", id);
+                    return new ResourceNotFound("Category not found.");
                 });
 
+        String previousName = category.getName();
         category.setName(dto.getName().trim());
         category.setDescription(dto.getDescription().trim());
+        applyDepreciationPolicy(category, dto);
 
         Category updated = categoryRepository.save(category);
-        logger.info("Category updated with id: {}", id);
+        referenceDataCache.evictCategory(categoryId, previousName);
+        logger.debug("Category updated with id: {}", id);
 
         return mapToDTO(updated);
     }
@@ -103,17 +127,45 @@ public class CategoryServiceImpl implements CategoryService {
         if (dto == null ||
                 dto.getName() == null || dto.getName().trim().isEmpty() ||
                 dto.getDescription() == null || dto.getDescription().trim().isEmpty()) {
-            logger.error("Invalid category request: Name and Description are required.");
-            throw new IllegalArgumentException("Name and Description are required.");
+            logger.debug("Invalid category request: Name and Description are required.");
+            throw new InvalidRequest("Name and Description are required.");
+        }
+    }
+
+    private void applyDepreciationPolicy(Category category, CategoryRequestDTO dto) {
+        DepreciationMethod method;
+        Integer usefulLifeYears;
+        BigDecimal decliningRate;
+        try {
+            method = dto.getDepreciationMethod() == null || dto.getDepreciationMethod().isBlank()
+                    ? DepreciationMethod.NONE
+                    : DepreciationMethod.valueOf(dto.getDepreciationMethod().trim().toUpperCase(Locale.ROOT));
+            usefulLifeYears = dto.getUsefulLifeYears() == null ? null : Integer.valueOf(dto.getUsefulLifeYears().trim());
+            decliningRate = dto.getDecliningRate() == null ? null : new BigDecimal(dto.getDecliningRate().trim());
+        } catch (IllegalArgumentException ex) {
+            logger.debug("Invalid depreciation policy for category: {}", dto.getName());
+            throw new InvalidRequest("Invalid depreciation policy.");
         }
+
+        if (method == DepreciationMethod.STRAIGHT_LINE && (usefulLifeYears == null || usefulLifeYears <= 0)) {
+            throw new InvalidRequest("Straight-line depreciation requires a positive useful life.");
+        }
+        if (method == DepreciationMethod.DECLINING_BALANCE &&
+                (decliningRate == null || decliningRate.signum() <= 0 || decliningRate.compareTo(BigDecimal.ONE) >= 0)) {
+            throw new InvalidRequest("Declining-balance depreciation requires a rate between 0 and 1.");
+        }
+
+        category.setDepreciationMethod(method);
+        category.setUsefulLifeYears(usefulLifeYears);
+        category.setDecliningRate(decliningRate);
     }
 
     private Long parseId(String id) {
         try {
             return Long.valueOf(id);
         } catch (NumberFormatException ex) {
-            logger.error("Invalid category ID format: {}", id);
-            throw new IllegalArgumentException("Invalid category ID.");
+            logger.debug("Invalid category ID format: {}", id);
+            throw new InvalidRequest("Invalid category ID.");
         }
     }
 
@@ -121,7 +173,10 @@ public class CategoryServiceImpl implements CategoryService {
         return new CategoryResponseDTO(
                 category.getId().toString(),
                 category.getName(),
-                category.getDescription()
+                category.getDescription(),
+                category.getDepreciationMethod() == null ? DepreciationMethod.NONE.name() : category.getDepreciationMethod().name(),
+                category.getUsefulLifeYears() == null ? null : category.getUsefulLifeYears().toString(),
+                category.getDecliningRate() == null ? null : category.getDecliningRate().toPlainString()
         );
     }
 }
@@ -0,0 +1,155 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.DepreciationCheckpointRepository;
+import com.example.ams.dao.TransactionRepository;
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.DepreciationCheckpoint;
+import com.example.ams.datamodels.entities.DepreciationMethod;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.service.AssetBalanceService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Depreciates one asset-id range in a single database transaction. Each asset is posted the
+ * difference between the depreciation it should have accumulated by the run date and what the
+ * ledger already holds, so re-running a range never double-posts.
+ */
+@Component
+public class DepreciationPartitionProcessor {
+
+    private static final Set<DepreciationMethod> DEPRECIABLE =
+            Set.of(DepreciationMethod.STRAIGHT_LINE, DepreciationMethod.DECLINING_BALANCE);
+    private static final MathContext DEPRECIATION_CONTEXT = MathContext.DECIMAL64;
+    private static final BigDecimal MONTHS_PER_YEAR = BigDecimal.valueOf(12);
+
+    private final AssetRepository assetRepository;
+    private final TransactionRepository transactionRepository;
+    private final DepreciationCheckpointRepository checkpointRepository;
+    private final AssetBalanceService assetBalanceService;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public DepreciationPartitionProcessor(AssetRepository assetRepository, TransactionRepository transactionRepository,
+                                          DepreciationCheckpointRepository checkpointRepository,
+                                          AssetBalanceService assetBalanceService, EntityManager entityManager,
+                                          @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.assetRepository = assetRepository;
+        this.transactionRepository = transactionRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.assetBalanceService = assetBalanceService;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public PartitionResult process(Long runId, long fromId, long toId, LocalDate asOfDate, boolean dryRun) {
+        List<Object[]> assets = assetRepository.findDepreciableInRange(fromId, toId, DEPRECIABLE);
+        Map<Long, BigDecimal> posted = new HashMap<>();
+        for (Object[] row : transactionRepository.sumAmountsByAssetInRange(TransactionType.DEPRECIATION, fromId, toId)) {
+            posted.put((Long) row[0], toAmount(((Number) row[1]).doubleValue()));
+        }
+
+        List<Transaction> entries = new ArrayList<>();
+        long due = 0;
+        BigDecimal total = BigDecimal.ZERO;
+        for (Object[] row : assets) {
+            Long assetId = (Long) row[0];
+            BigDecimal amount = accumulatedDepreciation((DepreciationMethod) row[3], (BigDecimal) row[1],
+                    (LocalDate) row[2], asOfDate, (Integer) row[4], (BigDecimal) row[5])
+                    .subtract(posted.getOrDefault(assetId, BigDecimal.ZERO));
+            if (amount.signum() <= 0) {
+                continue;
+            }
+
+            due++;
+            total = total.add(amount);
+            if (dryRun) {
+                continue;
+            }
+
+            Transaction transaction = new Transaction();
+            transaction.setAsset(entityManager.getReference(Asset.class, assetId));
+            transaction.setTransactionType(TransactionType.DEPRECIATION);
+            transaction.setAmount(amount.doubleValue());
+            transaction.setTransactionDate(asOfDate);
+            entityManager.persist(transaction);
+            entries.add(transaction);
+
+            if (entries.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        if (!dryRun) {
+            entityManager.flush();
+            entityManager.clear();
+            assetBalanceService.transactionsAdded(entries);
+
+            DepreciationCheckpoint checkpoint = new DepreciationCheckpoint();
+            checkpoint.setRunId(runId);
+            checkpoint.setFromAssetId(fromId);
+            checkpoint.setToAssetId(toId);
+            checkpoint.setAssetsScanned(assets.size());
+            checkpoint.setEntriesPosted(due);
+            checkpoint.setTotalAmount(total);
+            checkpoint.setCompletedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+        }
+
+        return new PartitionResult(assets.size(), due, total);
+    }
+
+    static BigDecimal accumulatedDepreciation(DepreciationMethod method, BigDecimal cost, LocalDate purchaseDate,
+                                              LocalDate asOfDate, Integer usefulLifeYears, BigDecimal decliningRate) {
+        long months = ChronoUnit.MONTHS.between(purchaseDate, asOfDate);
+        if (cost == null || cost.signum() <= 0 || months <= 0) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal accumulated = switch (method) {
+            case STRAIGHT_LINE -> {
+                long lifeMonths = usefulLifeYears * 12L;
+                yield cost.multiply(BigDecimal.valueOf(Math.min(months, lifeMonths)))
+                        .divide(BigDecimal.valueOf(lifeMonths), Constants.VALUE_SCALE, RoundingMode.HALF_UP);
+            }
+            case DECLINING_BALANCE -> {
+                // Compounded per full year, prorated by month within the current year.
+                BigDecimal retained = BigDecimal.ONE.subtract(decliningRate);
+                BigDecimal bookValue = cost.multiply(retained.pow((int) (months / 12), DEPRECIATION_CONTEXT),
+                        DEPRECIATION_CONTEXT);
+                BigDecimal currentYear = bookValue.multiply(decliningRate, DEPRECIATION_CONTEXT)
+                        .multiply(BigDecimal.valueOf(months % 12), DEPRECIATION_CONTEXT)
+                        .divide(MONTHS_PER_YEAR, DEPRECIATION_CONTEXT);
+                yield cost.subtract(bookValue).add(currentYear);
+            }
+            case NONE -> BigDecimal.ZERO;
+        };
+        return accumulated.min(cost).setScale(Constants.VALUE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal toAmount(double amount) {
+        return BigDecimal.valueOf(amount).setScale(Constants.VALUE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public record PartitionResult(long assetsScanned, long entriesPosted, BigDecimal totalAmount) {
+    }
+}
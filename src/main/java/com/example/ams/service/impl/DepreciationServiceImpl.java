@@ -0,0 +1,183 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.DepreciationCheckpointRepository;
+import com.example.ams.dao.DepreciationRunRepository;
+import com.example.ams.datamodels.entities.DepreciationCheckpoint;
+import com.example.ams.datamodels.entities.DepreciationRun;
+import com.example.ams.datamodels.entities.DepreciationRunStatus;
+import com.example.ams.datamodels.form.response.DepreciationRunDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.ResourceConflict;
+import com.example.ams.exceptionhandling.ResourceNotFound;
+import com.example.ams.service.DepreciationService;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Posts depreciation for every asset whose category has a policy. The id space is cut into
+ * fixed, size-aligned ranges processed on a worker pool; each finished range is checkpointed in
+ * the same transaction as its ledger entries, so a failed run resumes from the remaining ranges
+ * the next time it is started for the same date.
+ */
+@Service
+@Timed("ams.service")
+public class DepreciationServiceImpl implements DepreciationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepreciationServiceImpl.class);
+    private final AssetRepository assetRepository;
+    private final DepreciationRunRepository runRepository;
+    private final DepreciationCheckpointRepository checkpointRepository;
+    private final DepreciationPartitionProcessor partitionProcessor;
+    private final int threads;
+    private final long partitionSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DepreciationServiceImpl(AssetRepository assetRepository, DepreciationRunRepository runRepository,
+                                   DepreciationCheckpointRepository checkpointRepository,
+                                   DepreciationPartitionProcessor partitionProcessor,
+                                   @Value("${ams.depreciation.threads:4}") int threads,
+                                   @Value("${ams.depreciation.partition-size:5000}") long partitionSize) {
+        this.assetRepository = assetRepository;
+        this.runRepository = runRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.partitionProcessor = partitionProcessor;
+        this.threads = threads;
+        this.partitionSize = partitionSize;
+    }
+
+    @Override
+    public DepreciationRunDTO run(LocalDate asOfDate, boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ResourceConflict("A depreciation run is already in progress");
+        }
+        try {
+            return dryRun ? execute(null, asOfDate, Map.of()) : executeTracked(asOfDate);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public DepreciationRunDTO getRun(String id) {
+        DepreciationRun run = runRepository.findById(parseId(id))
+                .orElseThrow(() -> new ResourceNotFound("Depreciation run not found"));
+        LocalDateTime end = run.getFinishedAt() == null ? LocalDateTime.now() : run.getFinishedAt();
+        return new DepreciationRunDTO(run.getId().toString(), run.getAsOfDate().toString(), false, run.getStatus().name(),
+                checkpointRepository.findByRunId(run.getId()).size(), 0, run.getAssetsScanned(), run.getEntriesPosted(),
+                run.getTotalAmount(), Duration.between(run.getStartedAt(), end).toMillis());
+    }
+
+    private DepreciationRunDTO executeTracked(LocalDate asOfDate) {
+        DepreciationRun run = runRepository.findFirstByAsOfDateAndStatusNotOrderByIdDesc(asOfDate, DepreciationRunStatus.COMPLETED)
+                .orElseGet(() -> {
+                    DepreciationRun created = new DepreciationRun();
+                    created.setAsOfDate(asOfDate);
+                    created.setStartedAt(LocalDateTime.now());
+                    return created;
+                });
+        run.setStatus(DepreciationRunStatus.RUNNING);
+        run.setFinishedAt(null);
+        run = runRepository.save(run);
+
+        Map<Long, DepreciationCheckpoint> checkpoints = checkpointRepository.findByRunId(run.getId()).stream()
+                .collect(Collectors.toMap(DepreciationCheckpoint::getFromAssetId, Function.identity()));
+        if (!checkpoints.isEmpty()) {
+            logger.info("Resuming depreciation run {} with {} completed partitions", run.getId(), checkpoints.size());
+        }
+
+        try {
+            DepreciationRunDTO result = execute(run.getId(), asOfDate, checkpoints);
+            run.setStatus(DepreciationRunStatus.COMPLETED);
+            run.setAssetsScanned(result.getAssetsScanned());
+            run.setEntriesPosted(result.getEntriesPosted());
+            run.setTotalAmount(result.getTotalAmount());
+            result.setStatus(DepreciationRunStatus.COMPLETED.name());
+            return result;
+        } catch (RuntimeException e) {
+            run.setStatus(DepreciationRunStatus.FAILED);
+            throw e;
+        } finally {
+            run.setFinishedAt(LocalDateTime.now());
+            runRepository.save(run);
+        }
+    }
+
+    private DepreciationRunDTO execute(Long runId, LocalDate asOfDate, Map<Long, DepreciationCheckpoint> checkpoints) {
+        long start = System.currentTimeMillis();
+        boolean dryRun = runId == null;
+        long assetsScanned = 0;
+        long entriesPosted = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        int partitions = 0;
+
+        List<Object[]> range = assetRepository.findIdRange();
+        if (!range.isEmpty() && range.get(0)[0] != null) {
+            long minId = ((Number) range.get(0)[0]).longValue();
+            long maxId = ((Number) range.get(0)[1]).longValue();
+
+            List<CompletableFuture<DepreciationPartitionProcessor.PartitionResult>> pending = new ArrayList<>();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                for (long from = (minId / partitionSize) * partitionSize; from <= maxId; from += partitionSize) {
+                    partitions++;
+                    DepreciationCheckpoint checkpoint = checkpoints.get(from);
+                    if (checkpoint != null) {
+                        assetsScanned += checkpoint.getAssetsScanned();
+                        entriesPosted += checkpoint.getEntriesPosted();
+                        totalAmount = totalAmount.add(checkpoint.getTotalAmount());
+                        continue;
+                    }
+                    long fromId = from;
+                    long toId = from + partitionSize - 1;
+                    pending.add(CompletableFuture.supplyAsync(
+                            () -> partitionProcessor.process(runId, fromId, toId, asOfDate, dryRun), executor));
+                }
+                CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+            } finally {
+                executor.shutdown();
+            }
+
+            for (CompletableFuture<DepreciationPartitionProcessor.PartitionResult> partition : pending) {
+                DepreciationPartitionProcessor.PartitionResult result = partition.join();
+                assetsScanned += result.assetsScanned();
+                entriesPosted += result.entriesPosted();
+                totalAmount = totalAmount.add(result.totalAmount());
+            }
+        }
+
+        DepreciationRunDTO result = new DepreciationRunDTO(runId == null ? null : runId.toString(), asOfDate.toString(), dryRun,
+                dryRun ? "DRY_RUN" : DepreciationRunStatus.RUNNING.name(), partitions, checkpoints.size(),
+                assetsScanned, entriesPosted, totalAmount, System.currentTimeMillis() - start);
+        logger.info("Depreciation {} as of {}: {} assets, {} entries, {} total in {} ms ({} assets/s)",
+                dryRun ? "dry run" : "run " + runId, asOfDate, assetsScanned, entriesPosted, totalAmount,
+                result.getElapsedMillis(), Math.round(result.getAssetsPerSecond()));
+        return result;
+    }
+
+    private Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException ex) {
+            logger.debug("Invalid depreciation run ID format: {}", id);
+            throw new InvalidRequest("Invalid depreciation run ID.");
+        }
+    }
+}
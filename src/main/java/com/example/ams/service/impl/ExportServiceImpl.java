@@ -0,0 +1,295 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.datamodels.constants.ExportFormat;
+import com.example.ams.service.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Full-table exports written straight from a forward-only, read-only JDBC result set. With
+ * {@code useCursorFetch=true} on the MySQL URL, a positive fetch size makes the driver pull rows
+ * from a server-side cursor, so neither the driver, Hibernate nor this class holds more than one
+ * fetch worth of rows, whatever the table size.
+ */
+@Service
+@Timed("ams.service")
+public class ExportServiceImpl implements ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportServiceImpl.class);
+
+    private static final String ASSETS_SQL =
+            "select a.id, a.name, a.type, a.value, a.purchase_date, o.id, o.name, c.id, c.name " +
+                    "from assets a join users o on o.id = a.owner_id join categories c on c.id = a.category_id " +
+                    "order by a.id";
+    private static final Column[] ASSET_COLUMNS = {
+            new Column("id", ColumnType.LONG),
+            new Column("name", ColumnType.STRING),
+            new Column("type", ColumnType.STRING),
+            new Column("value", ColumnType.DECIMAL),
+            new Column("purchaseDate", ColumnType.STRING),
+            new Column("ownerId", ColumnType.LONG),
+            new Column("ownerName", ColumnType.STRING),
+            new Column("categoryId", ColumnType.LONG),
+            new Column("categoryName", ColumnType.STRING)
+    };
+
+    private static final String TRANSACTIONS_SQL =
+            "select t.id, t.asset_id, a.name, t.transaction_type, t.amount, t.transaction_date " +
+                    "from transactions t join assets a on a.id = t.asset_id ";
+    private static final Column[] TRANSACTION_COLUMNS = {
+            new Column("id", ColumnType.LONG),
+            new Column("assetId", ColumnType.LONG),
+            new Column("assetName", ColumnType.STRING),
+            new Column("transactionType", ColumnType.STRING),
+            new Column("amount", ColumnType.DOUBLE),
+            new Column("transactionDate", ColumnType.STRING)
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int bufferSize;
+
+    public ExportServiceImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                             @Value("${ams.export.fetch-size:1000}") int fetchSize,
+                             @Value("${ams.export.buffer-size:65536}") int bufferSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public long exportAssets(ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        return export(ASSETS_SQL, List.of(), ASSET_COLUMNS, format, gzip, out);
+    }
+
+    @Override
+    public long exportTransactions(LocalDate from, LocalDate to, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(TRANSACTIONS_SQL);
+        List<Object> args = new ArrayList<>(2);
+        if (from != null) {
+            sql.append(args.isEmpty() ? "where " : "and ").append("t.transaction_date >= ? ");
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(args.isEmpty() ? "where " : "and ").append("t.transaction_date <= ? ");
+            args.add(Date.valueOf(to));
+        }
+        sql.append("order by t.id");
+        return export(sql.toString(), args, TRANSACTION_COLUMNS, format, gzip, out);
+    }
+
+    private long export(String sql, List<Object> args, Column[] columns, ExportFormat format, boolean gzip,
+                        OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, bufferSize) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzipStream != null ? gzipStream : out,
+                StandardCharsets.UTF_8), bufferSize);
+        RowWriter rowWriter = format == ExportFormat.CSV
+                ? new CsvRowWriter(writer, columns)
+                : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(writer), columns);
+
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    statement.setObject(i + 1, args.get(i));
+                }
+                return statement;
+            }, resultSet -> {
+                try {
+                    rowWriter.write(resultSet);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        rowWriter.flush();
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        logger.debug("Exported {} rows as {} in {} ms", rows[0], format, System.currentTimeMillis() - start);
+        return rows[0];
+    }
+
+    /**
+     * Writes one CSV cell, quoting it when needed. A cell that opens with a character a spreadsheet
+     * reads as a formula is prefixed with {@code '} so exported names cannot run as formulas.
+     */
+    static void writeCsvCell(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        boolean formula = first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private enum ColumnType {
+        LONG, STRING, DECIMAL, DOUBLE
+    }
+
+    private record Column(String name, ColumnType type) {
+    }
+
+    private interface RowWriter {
+        void write(ResultSet resultSet) throws SQLException, IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final Column[] columns;
+
+        CsvRowWriter(Writer writer, Column[] columns) throws IOException {
+            this.writer = writer;
+            this.columns = columns;
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns[i].name());
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                int index = i + 1;
+                switch (columns[i].type()) {
+                    case LONG -> {
+                        long value = resultSet.getLong(index);
+                        if (!resultSet.wasNull()) {
+                            writer.write(Long.toString(value));
+                        }
+                    }
+                    case DOUBLE -> {
+                        double value = resultSet.getDouble(index);
+                        if (!resultSet.wasNull()) {
+                            writer.write(Double.toString(value));
+                        }
+                    }
+                    case DECIMAL -> {
+                        BigDecimal value = resultSet.getBigDecimal(index);
+                        if (value != null) {
+                            writer.write(value.toPlainString());
+                        }
+                    }
+                    case STRING -> writeCsvCell(writer, resultSet.getString(index));
+                }
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final Column[] columns;
+
+        NdjsonRowWriter(JsonGenerator generator, Column[] columns) {
+            this.generator = generator;
+            this.columns = columns;
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                String name = columns[i].name();
+                int index = i + 1;
+                switch (columns[i].type()) {
+                    case LONG -> {
+                        long value = resultSet.getLong(index);
+                        if (resultSet.wasNull()) {
+                            generator.writeNullField(name);
+                        } else {
+                            generator.writeNumberField(name, value);
+                        }
+                    }
+                    case DOUBLE -> {
+                        double value = resultSet.getDouble(index);
+                        if (resultSet.wasNull()) {
+                            generator.writeNullField(name);
+                        } else {
+                            generator.writeNumberField(name, value);
+                        }
+                    }
+                    case DECIMAL -> generator.writeNumberField(name, resultSet.getBigDecimal(index));
+                    case STRING -> generator.writeStringField(name, resultSet.getString(index));
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.service.PasswordHashingService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt on a small fixed pool with a bounded queue so password work cannot occupy
+ * request threads. When the queue is full, submission fails fast with a RejectedExecutionException.
+ */
+@Service
+@Timed("ams.service")
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder,
+                                      @Value("${ams.security.bcrypt.threads:0}") int threads,
+                                      @Value("${ams.security.bcrypt.queue-capacity:256}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    @Override
+    public CompletableFuture<String> hash(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return CompletableFuture.supplyAsync(() -> passwordEncoder.matches(rawPassword, encodedPassword), executor);
+    }
+
+    @Override
+    public CompletableFuture<String> rehashIfChanged(String rawPassword, String encodedPassword) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (encodedPassword != null && passwordEncoder.matches(rawPassword, encodedPassword)
+                    && !passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return encodedPassword;
+            }
+            return passwordEncoder.encode(rawPassword);
+        }, executor);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import com.example.ams.service.AssetService;
+import com.example.ams.service.ReactiveReadService;
+import com.example.ams.service.TransactionService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Bridges the blocking keyset-page queries into backpressured Fluxes. A page is fetched on a
+ * bounded scheduler only when the subscriber has consumed the previous one, so a slow client
+ * holds no thread and no connection between pages, and at most {@code ams.reactive.db-threads}
+ * page queries run at once.
+ */
+@Service
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+    private final AssetService assetService;
+    private final TransactionService transactionService;
+    private final Scheduler scheduler;
+
+    public ReactiveReadServiceImpl(AssetService assetService, TransactionService transactionService,
+                                   @Value("${ams.reactive.db-threads:8}") int dbThreads,
+                                   @Value("${ams.reactive.queued-pages:10000}") int queuedPages) {
+        this.assetService = assetService;
+        this.transactionService = transactionService;
+        this.scheduler = Schedulers.newBoundedElastic(dbThreads, queuedPages, "reactive-reads");
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.dispose();
+    }
+
+    @Override
+    public Flux<AssetResponseDTO> streamAssets(Long after, int pageSize) {
+        return pages(cursor -> assetService.getAssets(cursor, pageSize), after);
+    }
+
+    @Override
+    public Flux<TransactionResponseDTO> streamTransactions(Long after, LocalDate from, LocalDate to, String type, Long assetId, int pageSize) {
+        return pages(cursor -> transactionService.getTransactionsAfter(cursor, from, to, type, assetId, pageSize), after);
+    }
+
+    private <T> Flux<T> pages(Function<Long, CursorPageResponseDTO<T>> fetch, Long after) {
+        return fetchPage(fetch, after)
+                .expand(page -> page.isHasMore() ? fetchPage(fetch, Long.valueOf(page.getNextCursor())) : Mono.empty())
+                .concatMapIterable(CursorPageResponseDTO::getItems, 1);
+    }
+
+    private <T> Mono<CursorPageResponseDTO<T>> fetchPage(Function<Long, CursorPageResponseDTO<T>> fetch, Long cursor) {
+        return Mono.fromCallable(() -> fetch.apply(cursor)).subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.form.request.TransactionRequestDTO;
+import com.example.ams.datamodels.form.response.BulkRowErrorDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.AssetBalanceService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Persists a group of transaction requests in one database transaction, checking every
+ * referenced asset with a single IN query and flushing in JDBC-batch sized groups.
+ */
+@Component
+public class TransactionBatchWriter {
+
+    private final AssetRepository assetRepository;
+    private final AssetBalanceService assetBalanceService;
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public TransactionBatchWriter(AssetRepository assetRepository, AssetBalanceService assetBalanceService, EntityManager entityManager,
+                                  @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.assetRepository = assetRepository;
+        this.assetBalanceService = assetBalanceService;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public BatchResult write(List<TransactionRequestDTO> transactionRequestDTOs, long firstRow) {
+        List<BulkRowErrorDTO> errors = new ArrayList<>();
+        List<PendingTransaction> pending = new ArrayList<>(transactionRequestDTOs.size());
+
+        for (int i = 0; i < transactionRequestDTOs.size(); i++) {
+            try {
+                pending.add(parse(firstRow + i, transactionRequestDTOs.get(i)));
+            } catch (InvalidRequest | IllegalArgumentException e) {
+                errors.add(new BulkRowErrorDTO(firstRow + i, "Invalid request: " + e.getMessage()));
+            }
+        }
+
+        Set<Long> existingAssetIds = pending.isEmpty()
+                ? Set.of()
+                : new HashSet<>(assetRepository.findExistingIds(
+                        pending.stream().map(PendingTransaction::assetId).collect(Collectors.toSet())));
+
+        List<Transaction> inserted = new ArrayList<>(pending.size());
+        for (PendingTransaction row : pending) {
+            if (!existingAssetIds.contains(row.assetId())) {
+                errors.add(new BulkRowErrorDTO(row.row(), "Asset not found"));
+                continue;
+            }
+
+            Transaction transaction = row.transaction();
+            transaction.setAsset(entityManager.getReference(Asset.class, row.assetId()));
+            entityManager.persist(transaction);
+            inserted.add(transaction);
+
+            if (inserted.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        assetBalanceService.transactionsAdded(inserted);
+
+        errors.sort(Comparator.comparingLong(BulkRowErrorDTO::getRow));
+        return new BatchResult(inserted.size(), errors);
+    }
+
+    private PendingTransaction parse(long row, TransactionRequestDTO transactionRequestDTO) {
+        if (transactionRequestDTO == null ||
+                !StringUtils.hasText(transactionRequestDTO.getAssetId()) ||
+                !StringUtils.hasText(transactionRequestDTO.getTransactionType()) ||
+                !StringUtils.hasText(transactionRequestDTO.getAmount())) {
+            throw new InvalidRequest("All fields are required.");
+        }
+
+        Transaction transaction = new Transaction();
+        transaction.setTransactionType(TransactionType.valueOf(transactionRequestDTO.getTransactionType().trim()));
+        transaction.setAmount(Double.parseDouble(transactionRequestDTO.getAmount().trim()));
+        transaction.setTransactionDate(LocalDate.now());
+
+        return new PendingTransaction(row, transaction, Long.parseLong(transactionRequestDTO.getAssetId().trim()));
+    }
+
+    public record BatchResult(int inserted, List<BulkRowErrorDTO> errors) {
+    }
+
+    private record PendingTransaction(long row, Transaction transaction, long assetId) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.datamodels.form.request.TransactionRequestDTO;
+import com.example.ams.datamodels.form.response.BulkImportResponseDTO;
+import com.example.ams.datamodels.form.response.BulkRowErrorDTO;
+import com.example.ams.datamodels.form.response.IngestionStatusDTO;
+import com.example.ams.exceptionhandling.IngestionRejected;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.service.TransactionIngestionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Timed("ams.service")
+public class TransactionIngestionServiceImpl implements TransactionIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionIngestionServiceImpl.class);
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final int queueCapacity;
+    private final int chunkSize;
+    private final Semaphore capacity;
+    private final BlockingQueue<IngestionJob> queue = new LinkedBlockingQueue<>();
+    private final Cache<String, IngestionJob> jobs = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+    private final Object submitLock = new Object();
+    private volatile boolean running;
+    private Thread writer;
+
+    public TransactionIngestionServiceImpl(TransactionBatchWriter transactionBatchWriter,
+                                           @Value("${ams.ingestion.queue-capacity:200000}") int queueCapacity,
+                                           @Value("${ams.ingestion.chunk-size:1000}") int chunkSize) {
+        this.transactionBatchWriter = transactionBatchWriter;
+        this.queueCapacity = queueCapacity;
+        this.chunkSize = chunkSize;
+        this.capacity = new Semaphore(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = new Thread(this::drain, "transaction-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting batches, then waits for the writer to persist everything already queued:
+     * those rows were acknowledged with 202, so shutdown must not drop them. A chunk that fails
+     * is recorded and skipped, so the wait is bounded by the queue size.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        synchronized (submitLock) {
+            running = false;
+        }
+        if (!queue.isEmpty()) {
+            logger.info("Draining {} queued ingestion jobs before shutdown", queue.size());
+        }
+        writer.join();
+    }
+
+    @Override
+    public BulkImportResponseDTO saveTransactions(List<TransactionRequestDTO> transactionRequestDTOs) {
+        long startedAt = System.nanoTime();
+        TransactionBatchWriter.BatchResult result = transactionBatchWriter.write(transactionRequestDTOs, 1);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        logger.info("Batch saved {} of {} transactions in {} ms", result.inserted(), transactionRequestDTOs.size(), elapsedMillis);
+
+        return new BulkImportResponseDTO(transactionRequestDTOs.size(), result.inserted(), elapsedMillis, result.errors());
+    }
+
+    @Override
+    public IngestionStatusDTO submit(List<TransactionRequestDTO> transactionRequestDTOs) {
+        if (transactionRequestDTOs.size() > queueCapacity) {
+            throw new InvalidRequest("Batch of " + transactionRequestDTOs.size()
+                    + " rows exceeds the ingestion queue capacity of " + queueCapacity);
+        }
+        IngestionJob job = new IngestionJob(UUID.randomUUID().toString(), new ArrayList<>(transactionRequestDTOs));
+        // Checked and enqueued under the lock stop() takes, so no job lands after the final drain.
+        synchronized (submitLock) {
+            if (!running) {
+                throw new IngestionRejected("Ingestion is shutting down", true);
+            }
+            if (!capacity.tryAcquire(transactionRequestDTOs.size())) {
+                logger.warn("Ingestion queue full, rejecting batch of {} rows", transactionRequestDTOs.size());
+                throw new IngestionRejected("Ingestion queue is full, retry later", false);
+            }
+            jobs.put(job.id, job);
+            queue.add(job);
+        }
+        logger.info("Queued ingestion: {} with {} rows", job.id, job.received);
+
+        return job.toStatus();
+    }
+
+    @Override
+    public Optional<IngestionStatusDTO> getStatus(String ingestionId) {
+        return Optional.ofNullable(jobs.getIfPresent(ingestionId)).map(IngestionJob::toStatus);
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            IngestionJob job;
+            try {
+                job = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Ingestion writer interrupted with {} jobs still queued", queue.size());
+                return;
+            }
+            if (job != null) {
+                process(job);
+            }
+        }
+    }
+
+    private void process(IngestionJob job) {
+        job.state = IngestionState.RUNNING;
+        List<TransactionRequestDTO> rows = job.rows;
+
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<TransactionRequestDTO> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            try {
+                TransactionBatchWriter.BatchResult result = transactionBatchWriter.write(chunk, from + 1L);
+                job.recordChunk(result.inserted(), result.errors());
+            } catch (Exception e) {
+                logger.error("Error persisting rows for ingestion: {}: {}", job.id, e.getMessage());
+                job.recordFailure(from + 1L, chunk.size(), e.getMessage());
+            } finally {
+                capacity.release(chunk.size());
+            }
+        }
+
+        job.rows = null;
+        job.state = job.persisted.get() == 0 && job.received > 0 ? IngestionState.FAILED : IngestionState.COMPLETED;
+        logger.info("Ingestion: {} finished, persisted {} of {} rows", job.id, job.persisted.get(), job.received);
+    }
+
+    private enum IngestionState {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private static final class IngestionJob {
+        private final String id;
+        private final int received;
+        private final AtomicInteger persisted = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<BulkRowErrorDTO> errors = new ArrayList<>();
+        private volatile List<TransactionRequestDTO> rows;
+        private volatile IngestionState state = IngestionState.QUEUED;
+
+        private IngestionJob(String id, List<TransactionRequestDTO> rows) {
+            this.id = id;
+            this.received = rows.size();
+            this.rows = rows;
+        }
+
+        private void recordChunk(int inserted, List<BulkRowErrorDTO> chunkErrors) {
+            persisted.addAndGet(inserted);
+            failed.addAndGet(chunkErrors.size());
+            synchronized (errors) {
+                for (BulkRowErrorDTO error : chunkErrors) {
+                    if (errors.size() >= MAX_REPORTED_ERRORS) {
+                        break;
+                    }
+                    errors.add(error);
+                }
+            }
+        }
+
+        private void recordFailure(long firstRow, int count, String message) {
+            failed.addAndGet(count);
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new BulkRowErrorDTO(firstRow, "Rows " + firstRow + "-" + (firstRow + count - 1) + " failed: " + message));
+                }
+            }
+        }
+
+        private IngestionStatusDTO toStatus() {
+            List<BulkRowErrorDTO> snapshot;
+            synchronized (errors) {
+                snapshot = new ArrayList<>(errors);
+            }
+            return new IngestionStatusDTO(id, state.name(), received, persisted.get(), failed.get(), snapshot);
+        }
+    }
+}
@@ -2,187 +2,396 @@ package com.example.ams.service.impl;
 
 import com.example.ams.dao.AssetRepository;
 import com.example.ams.dao.TransactionRepository;
+import com.example.ams.dao.TransactionSpecifications;
+import com.example.ams.datamodels.constants.Constants;
 import com.example.ams.datamodels.entities.Asset;
 import com.example.ams.datamodels.entities.Transaction;
 import com.example.ams.datamodels.entities.TransactionType;
 import com.example.ams.datamodels.form.request.TransactionRequestDTO;
+import com.example.ams.datamodels.form.request.TransactionV2RequestDTO;
+import com.example.ams.datamodels.form.response.CursorPageResponseDTO;
+import com.example.ams.datamodels.form.response.PageResponseDTO;
 import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import com.example.ams.datamodels.form.response.TransactionV2ResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.ResourceConflict;
 import com.example.ams.exceptionhandling.ResourceNotFound;
+import com.example.ams.service.AssetBalanceService;
 import com.example.ams.service.TransactionService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
+@Timed("ams.service")
 public class TransactionServiceImpl implements TransactionService {
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionServiceImpl.class);
+    // Integer digits, so that with two decimals an amount has at most the 15 significant digits
+    // a double holds exactly.
+    private static final int MAX_AMOUNT_DIGITS = 13;
     private final TransactionRepository transactionRepository;
     private final AssetRepository assetRepository;
+    private final AssetBalanceService assetBalanceService;
+    private final EntityManager entityManager;
 
-    public TransactionServiceImpl(TransactionRepository transactionRepository, AssetRepository assetRepository) {
+    public TransactionServiceImpl(TransactionRepository transactionRepository, AssetRepository assetRepository,
+                                  AssetBalanceService assetBalanceService, EntityManager entityManager) {
         this.transactionRepository = transactionRepository;
         this.assetRepository = assetRepository;
+        this.assetBalanceService = assetBalanceService;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public TransactionResponseDTO saveTransaction(TransactionRequestDTO transactionRequestDTO) {
-        try {
-            if (transactionRequestDTO == null ||
-                    transactionRequestDTO.getAssetId() == null ||
-                    transactionRequestDTO.getTransactionType() == null ||
-                    transactionRequestDTO.getAmount() == null) {
-                logger.error("Invalid request: All fields are required.");
-                throw new IllegalArgumentException("Invalid request: All fields are required.");
-            }
+        if (transactionRequestDTO == null ||
+                transactionRequestDTO.getAssetId() == null ||
+                transactionRequestDTO.getTransactionType() == null ||
+                transactionRequestDTO.getAmount() == null) {
+            logger.debug("Invalid request: All fields are required.");
+            throw new InvalidRequest("All fields are required.");
+        }
 
-            Optional<Asset> asset = assetRepository.findById(Long.parseLong(transactionRequestDTO.getAssetId()));
+        return mapToDTO(createTransaction(
+                parseId(transactionRequestDTO.getAssetId(), "asset"),
+                parseType(transactionRequestDTO.getTransactionType()),
+                parseAmount(transactionRequestDTO.getAmount())));
+    }
 
-            if (asset.isEmpty()) {
-                logger.error("Asset not found for ID: {}", transactionRequestDTO.getAssetId());
-                throw new ResourceNotFound("Asset not found");
-            }
+    @Override
+    @Transactional
+    public TransactionV2ResponseDTO saveTransactionV2(TransactionV2RequestDTO transactionRequestDTO) {
+        if (transactionRequestDTO == null ||
+                transactionRequestDTO.getAssetId() == null ||
+                transactionRequestDTO.getTransactionType() == null ||
+                transactionRequestDTO.getAmount() == null) {
+            logger.debug("Invalid request: All fields are required.");
+            throw new InvalidRequest("All fields are required.");
+        }
 
-            Transaction transaction = new Transaction();
-            transaction.setAsset(asset.get());
-            transaction.setTransactionType(TransactionType.valueOf(transactionRequestDTO.getTransactionType()));
-            transaction.setAmount(Double.parseDouble(transactionRequestDTO.getAmount()));
-            transaction.setTransactionDate(LocalDate.now());
+        return mapToV2DTO(createTransaction(
+                transactionRequestDTO.getAssetId(),
+                transactionRequestDTO.getTransactionType(),
+                checkAmount(transactionRequestDTO.getAmount())));
+    }
 
-            Transaction savedTransaction = transactionRepository.save(transaction);
+    private Transaction createTransaction(Long assetId, TransactionType type, Double amount) {
+        Asset asset = assetRepository.findById(assetId)
+                .orElseThrow(() -> {
+                    logger.debug("Asset not found for ID: {}", assetId);
+                    return new ResourceNotFound("Asset not found");
+                });
 
-            logger.info("Transaction saved successfully with ID: {}", savedTransaction.getId());
+        Transaction transaction = new Transaction();
+        transaction.setAsset(asset);
+        transaction.setTransactionType(type);
+        transaction.setAmount(amount);
+        transaction.setTransactionDate(LocalDate.now());
 
-            return new TransactionResponseDTO(
-                    savedTransaction.getId().toString(),
-                    savedTransaction.getAsset().getName(),
-                    savedTransaction.getTransactionType().toString(),
-                    savedTransaction.getAmount().toString(),
-                    savedTransaction.getTransactionDate().toString()
-            );
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error saving transaction: " + e.getMessage());
-        }
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        assetBalanceService.transactionsAdded(List.of(savedTransaction));
+
+        logger.debug("Transaction saved successfully with ID: {}", savedTransaction.getId());
+
+        return savedTransaction;
     }
 
     @Override
-    public List<TransactionResponseDTO> getAllTransactions() {
-        try {
-            List<Transaction> transactions = transactionRepository.findAll();
+    public PageResponseDTO<TransactionResponseDTO> getTransactions(LocalDate from, LocalDate to, String type, Long assetId, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), Constants.MAX_PAGE_LIMIT);
+        TransactionType transactionType = type == null ? null : parseType(type);
+
+        List<TransactionResponseDTO> transactions = transactionRepository.searchViews(TransactionResponseDTO.class,
+                TransactionSpecifications.matching(assetId, transactionType, from, to),
+                Sort.by("transactionDate", "id"), (long) Math.max(page, 0) * pageSize, pageSize + 1);
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<TransactionResponseDTO> items = hasNext ? transactions.subList(0, pageSize) : transactions;
+        logger.debug("Retrieved {} transactions for page: {}", items.size(), page);
+
+        return new PageResponseDTO<>(
+                items,
+                Math.max(page, 0),
+                pageSize,
+                hasNext
+        );
+    }
 
-            if (transactions.isEmpty()) {
-                logger.error("Transaction not found");
-                throw new ResourceNotFound("No transactions found.");
-            }
+    @Override
+    public CursorPageResponseDTO<TransactionResponseDTO> getTransactionsAfter(Long after, LocalDate from, LocalDate to, String type, Long assetId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), Constants.MAX_PAGE_LIMIT);
+        TransactionType transactionType = type == null ? null : parseType(type);
 
-            logger.info("Transcations retrieved successfully");
+        List<TransactionResponseDTO> transactions = transactionRepository.searchViews(TransactionResponseDTO.class,
+                afterId(after).and(TransactionSpecifications.matching(assetId, transactionType, from, to)),
+                Sort.by("id"), 0, pageSize + 1);
 
-            return transactions.stream()
-                    .map(transaction -> new TransactionResponseDTO(
-                            transaction.getId().toString(),
-                            transaction.getAsset().getName(),
-                            transaction.getTransactionType().toString(),
-                            transaction.getAmount().toString(),
-                            transaction.getTransactionDate().toString()
-                    ))
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error fetching transactions: " + e.getMessage());
-        }
+        logger.debug("Retrieved {} transactions after id: {}", transactions.size(), after);
+
+        return toCursorPage(transactions, pageSize, TransactionResponseDTO::getId);
     }
 
     @Override
-    public TransactionResponseDTO getTransactionById(String id) {
-        try {
-            Optional<Transaction> transaction = transactionRepository.findById(Long.valueOf(id));
+    public CursorPageResponseDTO<TransactionV2ResponseDTO> getTransactionsAfterV2(Long after, LocalDate from, LocalDate to, TransactionType type, Long assetId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), Constants.MAX_PAGE_LIMIT);
 
-            if (transaction.isEmpty()) {
-                logger.error("Transaction not found with ID: {}", id);
-                throw new ResourceNotFound("Transaction not found.");
-            }
+        List<TransactionV2ResponseDTO> transactions = transactionRepository.searchViews(TransactionV2ResponseDTO.class,
+                afterId(after).and(TransactionSpecifications.matching(assetId, type, from, to)),
+                Sort.by("id"), 0, pageSize + 1);
 
-            logger.info("Transaction retrieved successfully with ID: {}", id);
+        logger.debug("Retrieved {} transactions after id: {}", transactions.size(), after);
 
-            return new TransactionResponseDTO(
-                    transaction.get().getId().toString(),
-                    transaction.get().getAsset().getName(),
-                    transaction.get().getTransactionType().toString(),
-                    transaction.get().getAmount().toString(),
-                    transaction.get().getTransactionDate().toString()
-            );
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error fetching transaction: " + e.getMessage());
-        }
+        return toCursorPage(transactions, pageSize, transaction -> Long.toString(transaction.getId()));
+    }
+
+    @Override
+    public TransactionResponseDTO getTransactionById(String id) {
+        return transactionRepository.findViewById(parseId(id, "transaction"))
+                .orElseThrow(() -> {
+                    logger.debug("Transaction not found with ID: {}", id);
+                    return new ResourceNotFound("Transaction not found.");
+                });
+    }
+
+    @Override
+    public TransactionV2ResponseDTO getTransactionByIdV2(long id) {
+        return transactionRepository.findV2ViewById(id)
+                .orElseThrow(() -> {
+                    logger.debug("Transaction not found with ID: {}", id);
+                    return new ResourceNotFound("Transaction not found.");
+                });
     }
 
 
     @Override
-    public TransactionResponseDTO updateTransaction(String id, TransactionRequestDTO transactionRequestDTO) {
+    @Transactional
+    public TransactionResponseDTO updateTransaction(String id, TransactionRequestDTO transactionRequestDTO, Long expectedVersion) {
+        Transaction transaction = transactionRepository.findById(parseId(id, "transaction"))
+                .orElseThrow(() -> new ResourceNotFound("Transaction not found with id: " + id));
+        if (expectedVersion != null && transaction.getVersion() != expectedVersion) {
+            logger.debug("Transaction {} is at version {}, update expected {}", id, transaction.getVersion(), expectedVersion);
+            throw new ResourceConflict(Constants.STALE_VERSION);
+        }
+
+        assetBalanceService.transactionsRemoved(List.of(transaction));
+
+        if (transactionRequestDTO.getAssetId() != null) {
+            Asset asset = assetRepository.findById(parseId(transactionRequestDTO.getAssetId(), "asset"))
+                    .orElseThrow(() -> {
+                        logger.debug("Asset not found with ID: {} for transaction ID: {}", transactionRequestDTO.getAssetId(), id);
+                        return new ResourceNotFound("Asset not found");
+                    });
+            transaction.setAsset(asset);
+        }
+
+        if (transactionRequestDTO.getTransactionType() != null) {
+            transaction.setTransactionType(parseType(transactionRequestDTO.getTransactionType()));
+        }
+
+        if (transactionRequestDTO.getAmount() != null) {
+            transaction.setAmount(parseAmount(transactionRequestDTO.getAmount()));
+        }
+
+        transaction.setTransactionDate(LocalDate.now());
+
+        Transaction updatedTransaction;
         try {
-            logger.info("Starting update for transaction with ID: {}", id);
+            updatedTransaction = transactionRepository.saveAndFlush(transaction);
+        } catch (OptimisticLockingFailureException e) {
+            logger.debug("Transaction {} was modified concurrently", id);
+            throw new ResourceConflict(Constants.STALE_VERSION);
+        }
+        assetBalanceService.transactionsAdded(List.of(updatedTransaction));
 
-            Transaction transaction = transactionRepository.findById(Long.parseLong(id))
-                    .orElseThrow(() -> new RuntimeException("Transaction not found with id: " + id));
+        if (logger.isDebugEnabled()) {
+            logger.debug("Transaction {} updated: asset={}, type={}, amount={}, date={}", id,
+                    updatedTransaction.getAsset().getId(), updatedTransaction.getTransactionType(),
+                    updatedTransaction.getAmount(), updatedTransaction.getTransactionDate());
+        }
 
-            logger.info("Transaction with ID: {} found.", id);
+        return mapToDTO(updatedTransaction);
+    }
 
-            if (transactionRequestDTO.getAssetId() != null) {
-                Optional<Asset> asset = assetRepository.findById(Long.parseLong(transactionRequestDTO.getAssetId()));
-                if (asset.isPresent()) {
-                    transaction.setAsset(asset.get());
-                    logger.info("Asset updated for transaction ID: {}. New asset: {}", id, asset.get().getName());
-                } else {
-                    logger.warn("Asset not found with ID: {} for transaction ID: {}", transactionRequestDTO.getAssetId(), id);
-                }
+    /**
+     * Applies the present fields with one versioned UPDATE instead of loading the transaction.
+     * The ledger key is read at {@code expectedVersion} so the balance can be moved by the exact
+     * difference; if the row changes in between, the UPDATE matches nothing and nothing is applied.
+     * Only the UPDATE is a single statement: a patch issues up to four (asset check, key read,
+     * UPDATE, read-back), plus a version lookup when {@code If-Match: *} names no version.
+     */
+    @Override
+    @Transactional
+    public TransactionResponseDTO patchTransaction(String id, TransactionRequestDTO transactionRequestDTO, Long expectedVersion) {
+        Long transactionId = parseId(id, "transaction");
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Long assetId = null;
+        TransactionType type = null;
+        Double amount = null;
+
+        if (transactionRequestDTO.getAssetId() != null) {
+            assetId = parseId(transactionRequestDTO.getAssetId(), "asset");
+            if (!assetRepository.existsById(assetId)) {
+                logger.debug("Asset not found with ID: {} for transaction ID: {}", assetId, id);
+                throw new ResourceNotFound("Asset not found");
             }
+            changes.put("asset", entityManager.getReference(Asset.class, assetId));
+        }
 
-            if (transactionRequestDTO.getTransactionType() != null) {
-                transaction.setTransactionType(TransactionType.valueOf(transactionRequestDTO.getTransactionType()));
-                logger.info("Transaction type updated for transaction ID: {}. New type: {}", id, transaction.getTransactionType());
-            }
+        if (transactionRequestDTO.getTransactionType() != null) {
+            type = parseType(transactionRequestDTO.getTransactionType());
+            changes.put("transactionType", type);
+        }
 
-            if (transactionRequestDTO.getAmount() != null) {
-                transaction.setAmount(Double.parseDouble(transactionRequestDTO.getAmount()));
-                logger.info("Amount updated for transaction ID: {}. New amount: {}", id, transaction.getAmount());
-            }
+        if (transactionRequestDTO.getAmount() != null) {
+            amount = parseAmount(transactionRequestDTO.getAmount());
+            changes.put("amount", amount);
+        }
 
-            transaction.setTransactionDate(LocalDate.now());
-            logger.info("Transaction date updated for transaction ID: {}. New date: {}", id, transaction.getTransactionDate());
+        if (changes.isEmpty()) {
+            throw new InvalidRequest("No fields to update");
+        }
+        changes.put("transactionDate", LocalDate.now());
+        long version = expectedVersion != null ? expectedVersion : transactionRepository.findVersionById(transactionId)
+                .orElseThrow(() -> new ResourceNotFound("Transaction not found with id: " + transactionId));
 
-            Transaction updatedTransaction = transactionRepository.save(transaction);
+        List<Object[]> key = transactionRepository.findLedgerKeyAtVersion(transactionId, version);
+        if (key.isEmpty()) {
+            throw staleOrMissing(transactionId, version);
+        }
+        Object[] row = key.get(0);
+        Transaction before = ledgerEntry((Long) row[0], (TransactionType) row[1], (Double) row[2]);
 
-            logger.info("Transaction with ID: {} updated successfully.", id);
+        if (transactionRepository.updateIfVersion(Transaction.class, transactionId, version, changes) == 0) {
+            throw staleOrMissing(transactionId, version);
+        }
+        assetBalanceService.transactionsRemoved(List.of(before));
+        assetBalanceService.transactionsAdded(List.of(ledgerEntry(
+                assetId != null ? assetId : before.getAsset().getId(),
+                type != null ? type : before.getTransactionType(),
+                amount != null ? amount : before.getAmount())));
+        logger.debug("Transaction {} patched from version {}", id, version);
+
+        return transactionRepository.findViewById(transactionId)
+                .orElseThrow(() -> new ResourceNotFound(Constants.TNX_NOT_FOUND));
+    }
 
-            return new TransactionResponseDTO(
-                    updatedTransaction.getId().toString(),
-                    updatedTransaction.getAsset().getName(),
-                    updatedTransaction.getTransactionType().toString(),
-                    updatedTransaction.getAmount().toString(),
-                    updatedTransaction.getTransactionDate().toString()
-            );
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error updating transaction: " + e.getMessage());
+    private RuntimeException staleOrMissing(Long transactionId, long expectedVersion) {
+        if (!transactionRepository.existsById(transactionId)) {
+            logger.debug("Transaction not found with ID: {}", transactionId);
+            return new ResourceNotFound("Transaction not found with id: " + transactionId);
         }
+        logger.debug("Transaction {} is no longer at version {}", transactionId, expectedVersion);
+        return new ResourceConflict(Constants.STALE_VERSION);
+    }
+
+    /** Unmanaged transaction carrying just the fields the balance ledger reads. */
+    private Transaction ledgerEntry(Long assetId, TransactionType type, Double amount) {
+        Transaction transaction = new Transaction();
+        transaction.setAsset(entityManager.getReference(Asset.class, assetId));
+        transaction.setTransactionType(type);
+        transaction.setAmount(amount);
+        return transaction;
     }
 
 
     @Override
+    @Transactional
     public void deleteTransaction(String id) {
+        Transaction transaction = transactionRepository.findById(parseId(id, "transaction"))
+                .orElseThrow(() -> {
+                    logger.debug("Transaction not found with ID: {}", id);
+                    return new ResourceNotFound("Transaction not found.");
+                });
+        assetBalanceService.transactionsRemoved(List.of(transaction));
+        transactionRepository.delete(transaction);
+
+        logger.debug("Transaction with ID: {} deleted successfully", id);
+    }
+
+    static TransactionResponseDTO mapToDTO(Transaction transaction) {
+        TransactionResponseDTO transactionResponseDTO = new TransactionResponseDTO(
+                transaction.getId().toString(),
+                transaction.getAsset().getName(),
+                transaction.getTransactionType().toString(),
+                transaction.getAmount().toString(),
+                transaction.getTransactionDate().toString()
+        );
+        transactionResponseDTO.setVersion(transaction.getVersion());
+        return transactionResponseDTO;
+    }
+
+    static TransactionV2ResponseDTO mapToV2DTO(Transaction transaction) {
+        return new TransactionV2ResponseDTO(
+                transaction.getId(),
+                transaction.getAsset().getName(),
+                transaction.getTransactionType(),
+                transaction.getAmount(),
+                transaction.getTransactionDate()
+        );
+    }
+
+    private static Specification<Transaction> afterId(Long after) {
+        return Specification.where(TransactionSpecifications.idAfter(after == null ? 0L : after));
+    }
+
+    private static <T> CursorPageResponseDTO<T> toCursorPage(List<T> rows, int pageSize, Function<T, String> cursor) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? cursor.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageResponseDTO<>(items, nextCursor, hasMore);
+    }
+
+    private Long parseId(String id, String field) {
         try {
-            if (!transactionRepository.existsById(Long.valueOf(id))) {
-                logger.error("Transaction not found with ID: {}", id);
-                throw new ResourceNotFound("Transaction not found.");
-            }
-            transactionRepository.deleteById(Long.valueOf(id));
+            return Long.valueOf(id.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidRequest("Invalid " + field + " ID: " + id);
+        }
+    }
 
-            logger.info("Transaction with ID: {} deleted successfully", id);
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error deleting transaction: " + e.getMessage());
+    private TransactionType parseType(String type) {
+        try {
+            return TransactionType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequest("Invalid transaction type: " + type);
+        }
+    }
+
+    static Double parseAmount(String amount) {
+        try {
+            return checkAmount(new BigDecimal(amount.trim()));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequest("Invalid amount: " + amount);
+        }
+    }
+
+    /**
+     * Amounts are money: at most two decimals and at most {@link #MAX_AMOUNT_DIGITS} digits before
+     * the point. Within those bounds the stored double reads back as the same two-decimal value,
+     * so the balance deltas and the drift check both see exactly what the client sent.
+     */
+    static double checkAmount(BigDecimal amount) {
+        if (amount.stripTrailingZeros().scale() > Constants.VALUE_SCALE) {
+            throw new InvalidRequest("Amount has more than " + Constants.VALUE_SCALE + " decimals: " + amount.toPlainString());
+        }
+        if (amount.precision() - amount.scale() > MAX_AMOUNT_DIGITS) {
+            throw new InvalidRequest("Amount out of range: " + amount.toPlainString());
         }
+        return amount.doubleValue();
     }
 }
@@ -1,150 +1,166 @@
 package com.example.ams.service.impl;
 
+import com.example.ams.dao.ReferenceDataCache;
+import com.example.ams.dao.UserReference;
 import com.example.ams.dao.UserRepository;
 import com.example.ams.datamodels.entities.Role;
 import com.example.ams.datamodels.entities.User;
 import com.example.ams.datamodels.form.request.UserRequestDTO;
 import com.example.ams.datamodels.form.response.UserResponseDTO;
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.ResourceConflict;
 import com.example.ams.exceptionhandling.ResourceNotFound;
+import com.example.ams.service.AuthService;
+import com.example.ams.service.PasswordHashingService;
 import com.example.ams.service.UserService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+/**
+ * Only BCrypt runs on the password hashing pool. The write that follows it is handed to the
+ * application task executor and runs in its own transaction against a freshly loaded entity.
+ */
 @Service
+@Timed("ams.service")
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final PasswordHashingService passwordHashingService;
+    private final ReferenceDataCache referenceDataCache;
+    private final AuthService authService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor persistExecutor;
+
+    public UserServiceImpl(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                           ReferenceDataCache referenceDataCache, AuthService authService,
+                           TransactionTemplate transactionTemplate,
+                           @Qualifier("applicationTaskExecutor") Executor persistExecutor) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.referenceDataCache = referenceDataCache;
+        this.authService = authService;
+        this.transactionTemplate = transactionTemplate;
+        this.persistExecutor = persistExecutor;
     }
 
     @Override
-    public UserResponseDTO saveUser(UserRequestDTO userRequestDTO) {
-        try {
-            if (userRequestDTO == null ||
-                    userRequestDTO.getName() == null || userRequestDTO.getName().trim().isEmpty() ||
-                    userRequestDTO.getEmail() == null || userRequestDTO.getEmail().trim().isEmpty() ||
-                    userRequestDTO.getPassword() == null || userRequestDTO.getPassword().trim().isEmpty() ||
-                    userRequestDTO.getRole() == null || userRequestDTO.getRole().trim().isEmpty()) {
-                throw new IllegalArgumentException("Invalid request: All fields are required.");
-            }
-
-            if (userRepository.findByEmail(userRequestDTO.getEmail()).isPresent()) {
-                throw new ResourceNotFound("Email already in use");
-            }
-
-            User user = new User();
-            user.setName(userRequestDTO.getName());
-            user.setEmail(userRequestDTO.getEmail());
-            user.setPassword(passwordEncoder.encode(userRequestDTO.getPassword()));
-            user.setRole(parseRole(userRequestDTO.getRole()));
-
-            User savedUser = userRepository.save(user);
-
-            return new UserResponseDTO(
-                    savedUser.getId().toString(),
-                    savedUser.getName(),
-                    savedUser.getEmail(),
-                    savedUser.getRole().toString()
-            );
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error saving user: " + e.getMessage());
+    public CompletableFuture<UserResponseDTO> saveUser(UserRequestDTO userRequestDTO) {
+        if (userRequestDTO == null ||
+                userRequestDTO.getName() == null || userRequestDTO.getName().trim().isEmpty() ||
+                userRequestDTO.getEmail() == null || userRequestDTO.getEmail().trim().isEmpty() ||
+                userRequestDTO.getPassword() == null || userRequestDTO.getPassword().trim().isEmpty() ||
+                userRequestDTO.getRole() == null || userRequestDTO.getRole().trim().isEmpty()) {
+            throw new InvalidRequest("All fields are required.");
         }
+
+        if (referenceDataCache.findUserByEmail(userRequestDTO.getEmail()).isPresent()) {
+            throw new ResourceConflict("Email already in use");
+        }
+        Role role = parseRole(userRequestDTO.getRole());
+
+        return passwordHashingService.hash(userRequestDTO.getPassword())
+                .thenApplyAsync(encodedPassword -> transactionTemplate.execute(status -> {
+                    User user = new User();
+                    user.setName(userRequestDTO.getName());
+                    user.setEmail(userRequestDTO.getEmail());
+                    user.setPassword(encodedPassword);
+                    user.setRole(role);
+
+                    return mapToDTO(userRepository.save(user));
+                }), persistExecutor);
     }
 
     @Override
     public List<UserResponseDTO> getAllUsers() {
-        try {
-            List<User> users = userRepository.findAll();
-            if (users.isEmpty()) {
-                throw new ResourceNotFound("No users found.");
-            }
-
-            return users.stream()
-                    .map(user -> new UserResponseDTO(
-                            user.getId().toString(),
-                            user.getName(),
-                            user.getEmail(),
-                            user.getRole().toString()
-                    ))
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error fetching users: " + e.getMessage());
-        }
+        return userRepository.findAll().stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
     }
 
     @Override
     public UserResponseDTO getUserById(String id) {
-        try {
-            Optional<User> user = userRepository.findById(Long.valueOf(id));
-            if (user.isEmpty()) {
-                throw new ResourceNotFound("User not found.");
-            }
-
-            return new UserResponseDTO(
-                    user.get().getId().toString(),
-                    user.get().getName(),
-                    user.get().getEmail(),
-                    user.get().getRole().toString()
-            );
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error fetching user: " + e.getMessage());
-        }
+        return userRepository.findById(parseId(id))
+                .map(this::mapToDTO)
+                .orElseThrow(() -> new ResourceNotFound("User not found."));
     }
 
     @Override
     public void deleteUser(String id) {
+        User user = userRepository.findById(parseId(id))
+                .orElseThrow(() -> new ResourceNotFound("User not found."));
         try {
-            if (!userRepository.existsById(Long.valueOf(id))) {
-                throw new ResourceNotFound("User not found.");
-            }
-            userRepository.deleteById(Long.valueOf(id));
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error deleting user: " + e.getMessage());
+            userRepository.delete(user);
+        } catch (DataIntegrityViolationException e) {
+            // A delete can only break a reference to the row, and assets are the one table
+            // that refers to users.
+            throw new ResourceConflict("User owns assets and cannot be deleted.");
         }
+        referenceDataCache.evictUser(user.getId(), user.getEmail());
+        authService.revokeUser(user.getId());
     }
 
     @Override
-    public UserResponseDTO updateUser(String id, UserRequestDTO userRequestDTO) {
+    public CompletableFuture<UserResponseDTO> updateUser(String id, UserRequestDTO userRequestDTO) {
+        if(userRequestDTO == null ||
+        userRequestDTO.getName() == null || userRequestDTO.getName().trim().isEmpty() ||
+        userRequestDTO.getEmail() == null || userRequestDTO.getEmail().trim().isEmpty() ||
+        userRequestDTO.getRole() == null || userRequestDTO.getRole().trim().isEmpty() ||
+        userRequestDTO.getPassword() == null || userRequestDTO.getPassword().trim().isEmpty()) {
+            throw new InvalidRequest("All field are required.");
+        }
+
+        Long userId = parseId(id);
+        String currentPassword = userRepository.findById(userId)
+                .map(User::getPassword)
+                .orElseThrow(() -> new ResourceNotFound("User not found."));
+
+        Optional<UserReference> userWithEmail = referenceDataCache.findUserByEmail(userRequestDTO.getEmail());
+        if(userWithEmail.isPresent() && !userWithEmail.get().id().equals(userId)) {
+            throw new ResourceConflict("Email is already in use by another user.");
+        }
+        Role role = parseRole(userRequestDTO.getRole());
+
+        return passwordHashingService.rehashIfChanged(userRequestDTO.getPassword(), currentPassword)
+                .thenApplyAsync(encodedPassword -> {
+                    UpdatedUser updated = transactionTemplate.execute(status -> {
+                        User user = userRepository.findById(userId)
+                                .orElseThrow(() -> new ResourceNotFound("User not found."));
+                        String previousEmail = user.getEmail();
+                        user.setName(userRequestDTO.getName());
+                        user.setEmail(userRequestDTO.getEmail());
+                        user.setPassword(encodedPassword);
+                        user.setRole(role);
+                        return new UpdatedUser(mapToDTO(userRepository.save(user)), previousEmail);
+                    });
+                    referenceDataCache.evictUser(userId, updated.previousEmail());
+                    authService.revokeUser(userId);
+
+                    return updated.user();
+                }, persistExecutor);
+    }
+
+    private UserResponseDTO mapToDTO(User user) {
+        return new UserResponseDTO(
+                user.getId().toString(),
+                user.getName(),
+                user.getEmail(),
+                user.getRole().toString()
+        );
+    }
+
+    private Long parseId(String id) {
         try {
-            if(userRequestDTO == null ||
-            userRequestDTO.getName() == null || userRequestDTO.getName().trim().isEmpty() ||
-            userRequestDTO.getEmail() == null || userRequestDTO.getEmail().trim().isEmpty() ||
-            userRequestDTO.getRole() == null || userRequestDTO.getRole().trim().isEmpty() ||
-            userRequestDTO.getPassword() == null || userRequestDTO.getPassword().trim().isEmpty()) {
-                throw new IllegalArgumentException("Invalid request : All field are required.");
-            }
-
-            User existingUser = userRepository.findById(Long.parseLong(id))
-                    .orElseThrow(() -> new ResourceNotFound("User not found."));
-
-            Optional<User> userWithEmail = userRepository.findByEmail(userRequestDTO.getEmail());
-            if(userWithEmail.isPresent() && !userWithEmail.get().getId().equals(existingUser.getId())) {
-                throw  new ResourceNotFound("Email is already in use by another user.");
-            }
-
-            existingUser.setName(userRequestDTO.getName());
-            existingUser.setEmail(userRequestDTO.getEmail());
-            existingUser.setPassword(passwordEncoder.encode(userRequestDTO.getPassword()));
-            existingUser.setRole(parseRole(userRequestDTO.getRole()));
-
-
-            User updatesUser = userRepository.save(existingUser);
-
-            return new UserResponseDTO(
-                    updatesUser.getId().toString(),
-                    updatesUser.getName(),
-                    updatesUser.getEmail(),
-                    updatesUser.getRole().toString()
-            );
-        } catch (Exception e) {
-            throw new ResourceNotFound("Error updating: " + e.getMessage());
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequest("Invalid user ID: " + id);
         }
     }
 
@@ -152,8 +168,10 @@ public class UserServiceImpl implements UserService {
         try {
             return Role.valueOf(roleStr.toUpperCase());
         } catch (IllegalArgumentException e) {
-            throw new ResourceNotFound("Invalid role specified.");
+            throw new InvalidRequest("Invalid role specified.");
         }
     }
 
+    private record UpdatedUser(UserResponseDTO user, String previousEmail) {
+    }
 }
@@ -0,0 +1,58 @@
+-- One-off upgrade of an assets table created before the natural-key constraint.
+--
+-- Run once against MySQL 8, with the application stopped, before starting a build that maps
+-- uk_assets_natural_key. ddl-auto=update cannot convert column types or backfill data, and
+-- would otherwise try to add normalized_name as NOT NULL to a populated table.
+-- Back up assets and transactions first: duplicate assets are deleted.
+
+-- 1. value was a DOUBLE; store it as money with two decimals (MySQL rounds half up).
+ALTER TABLE assets MODIFY value DECIMAL(19,2);
+
+-- 2. Backfill normalized_name the way Asset.normalizeName does: collapse whitespace runs,
+--    trim, lower-case.
+ALTER TABLE assets ADD COLUMN normalized_name VARCHAR(255) NULL;
+UPDATE assets
+SET normalized_name = COALESCE(LOWER(TRIM(REGEXP_REPLACE(name, '[[:space:]]+', ' '))), '');
+
+-- 3. Keep the lowest id of every (normalized_name, type, value) group, move the duplicates'
+--    transactions onto it and delete the duplicates. Rows with a NULL type or value never
+--    collide under a MySQL unique key, so they are left alone.
+CREATE TEMPORARY TABLE asset_duplicates AS
+SELECT a.id AS duplicate_id, k.keep_id
+FROM assets a
+JOIN (SELECT normalized_name, type, value, MIN(id) AS keep_id
+      FROM assets
+      WHERE type IS NOT NULL AND value IS NOT NULL
+      GROUP BY normalized_name, type, value
+      HAVING COUNT(*) > 1) k
+  ON a.normalized_name = k.normalized_name AND a.type = k.type AND a.value = k.value
+WHERE a.id <> k.keep_id;
+
+UPDATE transactions t
+JOIN asset_duplicates d ON t.asset_id = d.duplicate_id
+SET t.asset_id = d.keep_id;
+
+DELETE a FROM assets a
+JOIN asset_duplicates d ON a.id = d.duplicate_id;
+
+DROP TEMPORARY TABLE asset_duplicates;
+
+-- 4. Lock the key in.
+ALTER TABLE assets
+    MODIFY normalized_name VARCHAR(255) NOT NULL,
+    ADD CONSTRAINT uk_assets_natural_key UNIQUE (normalized_name, type, value);
+
+-- 5. Start the id generators past the ids already in use. Hibernate's schema update creates
+--    id_generators with every segment at its initial value; left there, the first new asset or
+--    transaction would reuse an existing id. 50 is Constants.ID_ALLOCATION_SIZE.
+CREATE TABLE IF NOT EXISTS id_generators (
+    entity  VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_id BIGINT
+);
+
+INSERT INTO id_generators (entity, next_id)
+SELECT seed.entity, seed.next_id
+FROM (SELECT 'assets' AS entity, COALESCE(MAX(id), 0) + 50 AS next_id FROM assets
+      UNION ALL
+      SELECT 'transactions', COALESCE(MAX(id), 0) + 50 FROM transactions) seed
+ON DUPLICATE KEY UPDATE next_id = GREATEST(COALESCE(id_generators.next_id, 0), seed.next_id);
@@ -0,0 +1,118 @@
+package com.example.ams.config;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.TransactionRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.entities.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ids are allocated on their own connections, so the rows this test writes must be committed:
+ * it runs without the test transaction and in a context of its own, whose generators have not
+ * handed out a block yet.
+ */
+@DataJpaTest
+@Import(IdGeneratorInitializer.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGeneratorInitializerTests {
+
+    @Autowired
+    private IdGeneratorInitializer initializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    void generatorRowsLeftAtTheirInitialValueAreRaisedPastThePopulatedTables() {
+        User owner = new User();
+        owner.setName("Generator Owner");
+        owner.setEmail("generator@example.com");
+        owner.setPassword("secret");
+        owner.setRole(Role.USER);
+        owner = userRepository.save(owner);
+
+        Category category = new Category();
+        category.setName("Generator");
+        category.setDescription("Description");
+        category = categoryRepository.save(category);
+
+        // Rows written while ids came from AUTO_INCREMENT, and generator rows at the initial
+        // value Hibernate's schema update inserts.
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("insert into assets (id, name, normalized_name, type, value, purchase_date, owner_id, category_id, version) "
+                    + "values (?, ?, ?, 'Laptop', 10.00, ?, ?, ?, 0)", id, "Existing " + id, "existing " + id,
+                    LocalDate.of(2024, 1, 1), owner.getId(), category.getId());
+            jdbcTemplate.update("insert into transactions (id, asset_id, transaction_type, amount, transaction_date, version) "
+                    + "values (?, 1, 'PURCHASE', 10.0, ?, 0)", id, LocalDate.of(2024, 1, 1));
+        }
+        jdbcTemplate.update("update " + Constants.ID_GENERATOR_TABLE + " set next_id = 0");
+
+        initializer.afterSingletonsInstantiated();
+
+        assertThat(nextId("assets")).isEqualTo(3 + Constants.ID_ALLOCATION_SIZE);
+        assertThat(nextId("transactions")).isEqualTo(3 + Constants.ID_ALLOCATION_SIZE);
+
+        Asset asset = new Asset();
+        asset.setName("New");
+        asset.setType("Laptop");
+        asset.setValue(new BigDecimal("20.00"));
+        asset.setPurchaseDate(LocalDate.of(2024, 2, 1));
+        asset.setOwner(owner);
+        asset.setCategory(category);
+        asset = assetRepository.save(asset);
+
+        Transaction transaction = new Transaction();
+        transaction.setAsset(asset);
+        transaction.setTransactionType(TransactionType.PURCHASE);
+        transaction.setAmount(20.0);
+        transaction.setTransactionDate(LocalDate.of(2024, 2, 1));
+        transaction = transactionRepository.save(transaction);
+
+        assertThat(asset.getId()).isGreaterThan(3);
+        assertThat(transaction.getId()).isGreaterThan(3);
+        assertThat(assetRepository.count()).isEqualTo(4);
+        assertThat(transactionRepository.count()).isEqualTo(4);
+
+        // A second run, as on the next start, never moves a row backwards.
+        long assetsNext = nextId("assets");
+        initializer.afterSingletonsInstantiated();
+        assertThat(nextId("assets")).isGreaterThanOrEqualTo(assetsNext);
+    }
+
+    private long nextId(String entity) {
+        return jdbcTemplate.queryForObject(
+                "select next_id from " + Constants.ID_GENERATOR_TABLE + " where entity = ?", Long.class, entity);
+    }
+}
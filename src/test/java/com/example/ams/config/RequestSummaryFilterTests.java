@@ -0,0 +1,106 @@
+package com.example.ams.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestSummaryFilterTests {
+
+    private static final String GENERATED_ID = "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+
+    private final RequestSummaryFilter filter = new RequestSummaryFilter();
+    private final Logger summaryLogger = (Logger) LoggerFactory.getLogger("ams.request");
+    private final ListAppender<ILoggingEvent> summaries = new ListAppender<>();
+
+    @BeforeEach
+    void captureSummaries() {
+        summaries.start();
+        summaryLogger.addAppender(summaries);
+    }
+
+    @AfterEach
+    void releaseSummaries() {
+        summaryLogger.detachAppender(summaries);
+    }
+
+    @Test
+    void echoesPlainRequestIds() throws Exception {
+        assertThat(filter("abc-123_X.y")).isEqualTo("abc-123_X.y");
+    }
+
+    @Test
+    void replacesRequestIdsWithOtherCharacters() throws Exception {
+        assertThat(filter("abc\r\nSet-Cookie: x=1")).matches(GENERATED_ID);
+        assertThat(filter("id with spaces")).matches(GENERATED_ID);
+        assertThat(filter("x".repeat(65))).matches(GENERATED_ID);
+    }
+
+    @Test
+    void logsEscapingFailuresAsServerErrors() {
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/assets"), new MockHttpServletResponse(), chain))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(summaries.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .asString()
+                .contains("status=500", "error=IllegalStateException");
+    }
+
+    @Test
+    void logsAsyncTimeoutsOnceWhenTheRequestCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/assets/stream");
+        request.setAsyncSupported(true);
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                request.startAsync(request, response);
+            }
+        });
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        assertThat(summaries.list).isEmpty();
+        asyncContext.complete();
+
+        assertThat(summaries.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .asString()
+                .contains("status=503");
+    }
+
+    private String filter(String requestId) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/assets");
+        request.addHeader(RequestSummaryFilter.REQUEST_ID_HEADER, requestId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getHeader(RequestSummaryFilter.REQUEST_ID_HEADER);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.ams.controller;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.TransactionRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.security.JwtTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalUpdateContractTests {
+
+    private static final String MISSING_ID = "999999999";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private String token;
+    private String assetPath;
+    private String transactionPath;
+    private Long assetId;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        User owner = new User();
+        owner.setName("Contract Owner");
+        owner.setEmail(prefix + "@example.com");
+        owner.setPassword("secret");
+        owner.setRole(Role.USER);
+        owner = userRepository.save(owner);
+        token = tokenService.issue(owner);
+
+        Category category = new Category();
+        category.setName("Contract " + prefix);
+        category.setDescription("Description");
+        category = categoryRepository.save(category);
+
+        Asset asset = new Asset();
+        asset.setName("Contract " + prefix);
+        asset.setType("Laptop");
+        asset.setValue(new BigDecimal("100.00"));
+        asset.setPurchaseDate(LocalDate.of(2024, 1, 1));
+        asset.setOwner(owner);
+        asset.setCategory(category);
+        assetId = assetRepository.save(asset).getId();
+        assetPath = "/assets/" + assetId;
+
+        Transaction transaction = new Transaction();
+        transaction.setAsset(asset);
+        transaction.setTransactionType(TransactionType.PURCHASE);
+        transaction.setAmount(100.0);
+        transaction.setTransactionDate(LocalDate.of(2024, 1, 1));
+        transactionPath = "/transactions/" + transactionRepository.save(transaction).getId();
+    }
+
+    @Test
+    void getReturnsTheVersionAsAStrongETag() throws Exception {
+        assertThat(eTag(assetPath)).matches("\"\\d+\"");
+        assertThat(eTag(transactionPath)).matches("\"\\d+\"");
+    }
+
+    @Test
+    void assetPutAndPatchAnswerWithTheNewETag() throws Exception {
+        String original = eTag(assetPath);
+
+        String afterPut = send(put(assetPath), original, "{\"value\":\"150\"}")
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String afterPatch = send(patch(assetPath), afterPut, "{\"value\":\"175\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.value").value(175.0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(afterPut).isNotEqualTo(original);
+        assertThat(afterPatch).isNotEqualTo(afterPut);
+        assertThat(eTag(assetPath)).isEqualTo(afterPatch);
+    }
+
+    @Test
+    void transactionPutAndPatchAnswerWithTheNewETag() throws Exception {
+        String original = eTag(transactionPath);
+
+        String afterPut = send(put(transactionPath), original, "{\"amount\":\"120\"}")
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String afterPatch = send(patch(transactionPath), afterPut, "{\"amount\":\"130\"}")
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(afterPut).isNotEqualTo(original);
+        assertThat(afterPatch).isNotEqualTo(afterPut);
+        assertThat(eTag(transactionPath)).isEqualTo(afterPatch);
+    }
+
+    @Test
+    void patchWithoutIfMatchIsPreconditionRequired() throws Exception {
+        send(patch(assetPath), null, "{\"value\":\"150\"}").andExpect(status().isPreconditionRequired());
+        send(patch(transactionPath), null, "{\"amount\":\"150\"}").andExpect(status().isPreconditionRequired());
+    }
+
+    @Test
+    void patchWithTheWildcardUpdatesWhateverVersionIsCurrent() throws Exception {
+        String original = eTag(assetPath);
+        String patched = send(patch(assetPath), "*", "{\"value\":\"160\"}")
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(patched).isNotEqualTo(original);
+        send(patch(transactionPath), "*", "{\"amount\":\"160\"}").andExpect(status().isOk());
+    }
+
+    @Test
+    void staleIfMatchIsAConflictOnPutAndPatch() throws Exception {
+        String original = eTag(assetPath);
+        send(patch(assetPath), original, "{\"value\":\"150\"}").andExpect(status().isOk());
+
+        send(put(assetPath), original, "{\"value\":\"170\"}")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(Constants.STALE_VERSION));
+        send(patch(assetPath), original, "{\"value\":\"170\"}")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(Constants.STALE_VERSION));
+
+        String transactionTag = eTag(transactionPath);
+        send(patch(transactionPath), transactionTag, "{\"amount\":\"150\"}").andExpect(status().isOk());
+        send(put(transactionPath), transactionTag, "{\"amount\":\"170\"}").andExpect(status().isConflict());
+        send(patch(transactionPath), transactionTag, "{\"amount\":\"170\"}").andExpect(status().isConflict());
+        assertThat(assetRepository.findById(assetId).orElseThrow().getValue()).isEqualByComparingTo("150.00");
+    }
+
+    @Test
+    void patchOfAMissingRowIsNotFoundRatherThanAConflict() throws Exception {
+        send(patch("/assets/" + MISSING_ID), "\"0\"", "{\"value\":\"150\"}").andExpect(status().isNotFound());
+        send(patch("/assets/" + MISSING_ID), "*", "{\"value\":\"150\"}").andExpect(status().isNotFound());
+        send(patch("/transactions/" + MISSING_ID), "\"0\"", "{\"amount\":\"150\"}").andExpect(status().isNotFound());
+        send(patch("/transactions/" + MISSING_ID), "*", "{\"amount\":\"150\"}").andExpect(status().isNotFound());
+    }
+
+    @Test
+    void malformedIfMatchIsABadRequest() throws Exception {
+        send(patch(assetPath), "\"abc\"", "{\"value\":\"150\"}").andExpect(status().isBadRequest());
+        send(put(transactionPath), "\"1\", \"2\"", "{\"amount\":\"150\"}").andExpect(status().isBadRequest());
+    }
+
+    private String eTag(String path) throws Exception {
+        return mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private ResultActions send(MockHttpServletRequestBuilder request, String ifMatch, String body) throws Exception {
+        request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+}
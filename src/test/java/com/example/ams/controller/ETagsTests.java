@@ -0,0 +1,42 @@
+package com.example.ams.controller;
+
+import com.example.ams.exceptionhandling.InvalidRequest;
+import com.example.ams.exceptionhandling.PreconditionRequired;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ETagsTests {
+
+    @Test
+    void parsesStrongWeakAndBareTags() {
+        assertThat(ETags.parseIfMatch("\"7\"")).isEqualTo(7L);
+        assertThat(ETags.parseIfMatch(" W/\"7\" ")).isEqualTo(7L);
+        assertThat(ETags.parseIfMatch("7")).isEqualTo(7L);
+        assertThat(ETags.of(7L)).isEqualTo("\"7\"");
+    }
+
+    @Test
+    void absentOrWildcardIfMatchNamesNoVersion() {
+        assertThat(ETags.parseIfMatch(null)).isNull();
+        assertThat(ETags.parseIfMatch(" ")).isNull();
+        assertThat(ETags.parseIfMatch("*")).isNull();
+    }
+
+    @Test
+    void rejectsTagsThatAreNotASingleVersion() {
+        assertThatThrownBy(() -> ETags.parseIfMatch("\"abc\"")).isInstanceOf(InvalidRequest.class);
+        assertThatThrownBy(() -> ETags.parseIfMatch("W/")).isInstanceOf(InvalidRequest.class);
+        assertThatThrownBy(() -> ETags.parseIfMatch("\"1\", \"2\"")).isInstanceOf(InvalidRequest.class);
+        assertThatThrownBy(() -> ETags.parseIfMatch("\"")).isInstanceOf(InvalidRequest.class);
+    }
+
+    @Test
+    void requireIfMatchAcceptsTheWildcardButNotAMissingHeader() {
+        assertThat(ETags.requireIfMatch("\"3\"")).isEqualTo(3L);
+        assertThat(ETags.requireIfMatch("*")).isNull();
+        assertThatThrownBy(() -> ETags.requireIfMatch(null)).isInstanceOf(PreconditionRequired.class);
+        assertThatThrownBy(() -> ETags.requireIfMatch("")).isInstanceOf(PreconditionRequired.class);
+    }
+}
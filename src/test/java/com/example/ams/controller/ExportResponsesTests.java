@@ -0,0 +1,27 @@
+package com.example.ams.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportResponsesTests {
+
+    @Test
+    void gzipsWhenGzipIsListedWithANonZeroQuality() {
+        assertThat(ExportResponses.acceptsGzip("gzip")).isTrue();
+        assertThat(ExportResponses.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(ExportResponses.acceptsGzip("x-gzip")).isTrue();
+        assertThat(ExportResponses.acceptsGzip("br;q=1.0, *;q=0.1")).isTrue();
+    }
+
+    @Test
+    void doesNotGzipWhenGzipIsRefusedOrAbsent() {
+        assertThat(ExportResponses.acceptsGzip(null)).isFalse();
+        assertThat(ExportResponses.acceptsGzip("identity")).isFalse();
+        assertThat(ExportResponses.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ExportResponses.acceptsGzip("gzip; q=0.000, deflate")).isFalse();
+        assertThat(ExportResponses.acceptsGzip("*;q=1, gzip;q=0")).isFalse();
+        assertThat(ExportResponses.acceptsGzip("*;q=0")).isFalse();
+        assertThat(ExportResponses.acceptsGzip("notgzip")).isFalse();
+    }
+}
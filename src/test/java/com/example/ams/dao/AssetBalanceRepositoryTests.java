@@ -0,0 +1,108 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.entities.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class AssetBalanceRepositoryTests {
+
+    @Autowired
+    private AssetBalanceRepository assetBalanceRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Asset asset;
+
+    @BeforeEach
+    void setUp() {
+        User owner = new User();
+        owner.setName("Balance Owner");
+        owner.setEmail("balance-owner@example.com");
+        owner.setPassword("secret");
+        owner.setRole(Role.USER);
+        entityManager.persist(owner);
+
+        Category category = new Category();
+        category.setName("Balance Category");
+        category.setDescription("Description");
+        entityManager.persist(category);
+
+        asset = new Asset();
+        asset.setName("Balance Asset");
+        asset.setType("Laptop");
+        asset.setValue(BigDecimal.valueOf(1000));
+        asset.setPurchaseDate(LocalDate.of(2024, 1, 1));
+        asset.setOwner(owner);
+        asset.setCategory(category);
+        entityManager.persist(asset);
+
+        persistTransaction(TransactionType.PURCHASE, 100.0);
+        persistTransaction(TransactionType.SALE, 30.0);
+        entityManager.flush();
+    }
+
+    @Test
+    void reportsTheDifferenceBetweenLedgerAndStoredBalance() {
+        assetBalanceRepository.applyDelta(asset.getId(), new BigDecimal("100.00"), 1);
+
+        List<Object[]> drift = assetBalanceRepository.findDrift(asset.getId(), asset.getId());
+
+        assertThat(drift).hasSize(1);
+        assertThat(((Number) drift.get(0)[0]).longValue()).isEqualTo(asset.getId());
+        assertThat(new BigDecimal(drift.get(0)[1].toString())).isEqualByComparingTo("-30.00");
+        assertThat(((Number) drift.get(0)[2]).longValue()).isEqualTo(1);
+    }
+
+    @Test
+    void applyingTheDriftLeavesNothingToCorrect() {
+        assetBalanceRepository.applyDelta(asset.getId(), new BigDecimal("5.00"), 3);
+        for (Object[] row : assetBalanceRepository.findDrift(asset.getId(), asset.getId())) {
+            assetBalanceRepository.applyDelta(((Number) row[0]).longValue(),
+                    new BigDecimal(row[1].toString()), ((Number) row[2]).longValue());
+        }
+        entityManager.clear();
+
+        assertThat(assetBalanceRepository.findDrift(asset.getId(), asset.getId())).isEmpty();
+        assertThat(assetBalanceRepository.findById(asset.getId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("70.00");
+    }
+
+    @Test
+    void roundsEachAmountBeforeSummingLikeTheIncrementalDeltas() {
+        // Older rows can hold more than two decimals; the deltas rounded each to 0.01.
+        for (int i = 0; i < 3; i++) {
+            persistTransaction(TransactionType.PURCHASE, 0.005);
+        }
+        entityManager.flush();
+        assetBalanceRepository.applyDelta(asset.getId(), new BigDecimal("70.03"), 5);
+
+        assertThat(assetBalanceRepository.findDrift(asset.getId(), asset.getId())).isEmpty();
+    }
+
+    private void persistTransaction(TransactionType type, double amount) {
+        Transaction transaction = new Transaction();
+        transaction.setAsset(asset);
+        transaction.setTransactionType(type);
+        transaction.setAmount(amount);
+        transaction.setTransactionDate(LocalDate.of(2024, 2, 1));
+        entityManager.persist(transaction);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.constants.Constants;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class AssetRepositoryTests {
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private int seeded;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void projectionPageUsesOneStatementRegardlessOfSize() {
+        seedAssets(5);
+        long small = countStatements(() -> assertThat(assetRepository.findViewPageAfter(0L, PageRequest.of(0, 1000))).hasSize(5));
+
+        seedAssets(45);
+        long large = countStatements(() -> assertThat(assetRepository.findViewPageAfter(0L, PageRequest.of(0, 1000))).hasSize(50));
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void streamFetchesOwnerAndCategoryInOneStatement() {
+        seedAssets(5);
+        long small = countStatements(this::readAllThroughStream);
+
+        seedAssets(45);
+        long large = countStatements(this::readAllThroughStream);
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void findByIdFetchesOwnerAndCategoryInOneStatement() {
+        Long id = seedAssets(1);
+
+        long statements = countStatements(() -> {
+            Asset asset = assetRepository.findById(id).orElseThrow();
+            assertThat(asset.getOwner().getName()).isNotNull();
+            assertThat(asset.getCategory().getName()).isNotNull();
+        });
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void versionedUpdateIsOneStatementAndRejectsStaleVersion() {
+        Long id = seedAssets(1);
+        long version = assetRepository.findViewById(id).orElseThrow().getVersion();
+
+        long statements = countStatements(() -> assertThat(assetRepository.updateIfVersion(Asset.class, id, version,
+                Map.of("type", "Desktop"))).isEqualTo(1));
+        assertThat(statements).isEqualTo(1);
+
+        assertThat(assetRepository.updateIfVersion(Asset.class, id, version, Map.of("type", "Tablet"))).isZero();
+
+        entityManager.clear();
+        Asset asset = assetRepository.findById(id).orElseThrow();
+        assertThat(asset.getType()).isEqualTo("Desktop");
+        assertThat(asset.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void duplicateNaturalKeyIsReportedAsThatConstraint() {
+        Long id = seedAssets(1);
+        Asset existing = assetRepository.findById(id).orElseThrow();
+
+        Asset duplicate = new Asset();
+        duplicate.setName("  ASSET   " + (seeded - 1));
+        duplicate.setType(existing.getType());
+        duplicate.setValue(existing.getValue());
+        duplicate.setPurchaseDate(LocalDate.now());
+        duplicate.setOwner(existing.getOwner());
+        duplicate.setCategory(existing.getCategory());
+
+        DataIntegrityViolationException e = catchThrowableOfType(
+                () -> assetRepository.saveAndFlush(duplicate), DataIntegrityViolationException.class);
+        assertThat(e).isNotNull();
+        assertThat(ConstraintViolations.isViolationOf(e, Constants.ASSET_NATURAL_KEY)).isTrue();
+    }
+
+    @Test
+    void foreignKeyViolationIsNotMistakenForNaturalKey() {
+        Long id = seedAssets(1);
+        Asset existing = assetRepository.findById(id).orElseThrow();
+
+        Asset orphan = new Asset();
+        orphan.setName("Orphan");
+        orphan.setType("Laptop");
+        orphan.setValue(BigDecimal.TEN);
+        orphan.setPurchaseDate(LocalDate.now());
+        orphan.setOwner(entityManager.getEntityManager().getReference(User.class, Long.MAX_VALUE));
+        orphan.setCategory(existing.getCategory());
+
+        DataIntegrityViolationException e = catchThrowableOfType(
+                () -> assetRepository.saveAndFlush(orphan), DataIntegrityViolationException.class);
+        assertThat(e).isNotNull();
+        assertThat(ConstraintViolations.isViolationOf(e, Constants.ASSET_NATURAL_KEY)).isFalse();
+    }
+
+    private void readAllThroughStream() {
+        try (Stream<Asset> assets = assetRepository.streamAllOrderById()) {
+            List<AssetResponseDTO> rows = assets
+                    .map(asset -> new AssetResponseDTO(asset.getId(), asset.getName(), asset.getType(), asset.getValue(),
+                            asset.getPurchaseDate(), asset.getOwner().getName(), asset.getCategory().getName()))
+                    .toList();
+            assertThat(rows).hasSize(seeded);
+        }
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long seedAssets(int count) {
+        Long lastId = null;
+        for (int i = 0; i < count; i++) {
+            int n = seeded + i;
+
+            User owner = new User();
+            owner.setName("Owner " + n);
+            owner.setEmail("owner" + n + "@example.com");
+            owner.setPassword("secret");
+            owner.setRole(Role.USER);
+            entityManager.persist(owner);
+
+            Category category = new Category();
+            category.setName("Category " + n);
+            category.setDescription("Description " + n);
+            entityManager.persist(category);
+
+            Asset asset = new Asset();
+            asset.setName("Asset " + n);
+            asset.setType("Laptop");
+            asset.setValue(BigDecimal.valueOf(1000 + n));
+            asset.setPurchaseDate(LocalDate.now());
+            asset.setOwner(owner);
+            asset.setCategory(category);
+            lastId = entityManager.persistAndGetId(asset, Long.class);
+        }
+        seeded += count;
+        entityManager.flush();
+        entityManager.clear();
+        return lastId;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.response.AssetResponseDTO;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each search shape through {@link AssetSearchRepository#searchViews}, captures the SQL
+ * Hibernate generated and asks H2 for its plan. Criteria values are inlined so the captured
+ * statement can be explained as-is.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.example.ams.dao.AssetSearchRepositoryTests$CapturingStatementInspector"
+})
+@ActiveProfiles("test")
+class AssetSearchRepositoryTests {
+
+    private static final String[] TYPES = {"Laptop", "Phone", "Monitor", "Desk"};
+    private static final LocalDate FIRST_PURCHASE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<User> owners = new ArrayList<>();
+    private final List<Category> categories = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 8; i++) {
+            User owner = new User();
+            owner.setName("Owner " + i);
+            owner.setEmail("search-owner" + i + "@example.com");
+            owner.setPassword("secret");
+            owner.setRole(Role.USER);
+            owners.add(entityManager.persist(owner));
+        }
+        for (int i = 0; i < 6; i++) {
+            Category category = new Category();
+            category.setName("Search Category " + i);
+            category.setDescription("Description " + i);
+            categories.add(entityManager.persist(category));
+        }
+        for (int i = 0; i < 240; i++) {
+            Asset asset = new Asset();
+            asset.setName(TYPES[i % TYPES.length] + " " + i);
+            asset.setType(TYPES[i % TYPES.length]);
+            asset.setValue(BigDecimal.valueOf(100L + i * 10L));
+            asset.setPurchaseDate(FIRST_PURCHASE.plusDays(i));
+            asset.setOwner(owners.get(i % owners.size()));
+            asset.setCategory(categories.get(i % categories.size()));
+            entityManager.persist(asset);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void categoryTypeAndValueRangeUseCategoryIndex() {
+        Long categoryId = categories.get(2).getId();
+        Specification<Asset> specification = AssetSpecifications.inCategory(categoryId)
+                .and(AssetSpecifications.hasType("Monitor"))
+                .and(AssetSpecifications.valueBetween(new BigDecimal("500"), new BigDecimal("2000")));
+
+        List<AssetResponseDTO> rows = assetRepository.searchViews(specification, 50);
+        String plan = explainLastSearch();
+
+        assertThat(rows).isNotEmpty().allSatisfy(row -> {
+            assertThat(row.getType()).isEqualTo("Monitor");
+            assertThat(row.getCategoryName()).isEqualTo("Search Category 2");
+            assertThat(new BigDecimal(row.getValue())).isBetween(new BigDecimal("500"), new BigDecimal("2000"));
+        });
+        assertThat(plan).containsIgnoringCase("idx_assets_category_type_value");
+    }
+
+    @Test
+    void ownerAndPurchaseDateRangeUseOwnerIndex() {
+        Long ownerId = owners.get(3).getId();
+        LocalDate from = FIRST_PURCHASE.plusDays(30);
+        LocalDate to = FIRST_PURCHASE.plusDays(150);
+        Specification<Asset> specification = AssetSpecifications.ownedBy(ownerId)
+                .and(AssetSpecifications.purchasedBetween(from, to));
+
+        List<AssetResponseDTO> rows = assetRepository.searchViews(specification, 50);
+        String plan = explainLastSearch();
+
+        assertThat(rows).isNotEmpty().allSatisfy(row -> {
+            assertThat(row.getOwnerName()).isEqualTo("Owner 3");
+            assertThat(LocalDate.parse(row.getPurchaseDate())).isBetween(from, to);
+        });
+        assertThat(plan).containsIgnoringCase("idx_assets_owner_purchase_date");
+    }
+
+    @Test
+    void typeAndPurchaseDateRangeUseTypeIndex() {
+        LocalDate from = FIRST_PURCHASE.plusDays(60);
+        Specification<Asset> specification = AssetSpecifications.hasType("Laptop")
+                .and(AssetSpecifications.purchasedBetween(from, null));
+
+        List<AssetResponseDTO> rows = assetRepository.searchViews(specification, 50);
+        String plan = explainLastSearch();
+
+        assertThat(rows).isNotEmpty().allSatisfy(row -> {
+            assertThat(row.getType()).isEqualTo("Laptop");
+            assertThat(LocalDate.parse(row.getPurchaseDate())).isAfterOrEqualTo(from);
+        });
+        assertThat(plan).containsIgnoringCase("idx_assets_type_purchase_date");
+    }
+
+    @Test
+    void namePrefixUsesNaturalKeyIndex() {
+        List<AssetResponseDTO> rows = assetRepository.searchViews(AssetSpecifications.nameStartsWith("  PHONE 1"), 50);
+        String plan = explainLastSearch();
+
+        assertThat(rows).isNotEmpty().allSatisfy(row -> assertThat(row.getName()).startsWith("Phone 1"));
+        assertThat(plan).containsIgnoringCase("uk_assets_natural_key");
+    }
+
+    @Test
+    void namePrefixTreatsWildcardsLiterally() {
+        assertThat(assetRepository.searchViews(AssetSpecifications.nameStartsWith("%"), 50)).isEmpty();
+        assertThat(assetRepository.searchViews(AssetSpecifications.nameStartsWith("Desk_"), 50)).isEmpty();
+    }
+
+    @Test
+    void nameOrTypeContainsMatchesEitherColumnIgnoringCase() {
+        List<AssetResponseDTO> byName = assetRepository.searchViews(AssetSpecifications.nameOrTypeContains("ONE 1"), 50);
+        List<AssetResponseDTO> byType = assetRepository.searchViews(AssetSpecifications.nameOrTypeContains("onit"), 50);
+
+        assertThat(byName).isNotEmpty().allSatisfy(row -> assertThat(row.getName()).startsWith("Phone 1"));
+        assertThat(byType).isNotEmpty().allSatisfy(row -> assertThat(row.getType()).isEqualTo("Monitor"));
+    }
+
+    private String explainLastSearch() {
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).contains("from assets"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        // Only the row limit is still bound; criteria values were inlined.
+        Object plan = entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN " + sql.replace("?", "50"))
+                .getSingleResult();
+        return plan.toString();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.ams.dao;
+
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.response.TransactionResponseDTO;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the transaction listing filters through {@link TransactionSearchRepository#searchViews}
+ * and asks H2 for the plan of the captured SQL, the same way {@link AssetSearchRepositoryTests}
+ * does for assets.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.example.ams.dao.TransactionSearchRepositoryTests$CapturingStatementInspector"
+})
+@ActiveProfiles("test")
+class TransactionSearchRepositoryTests {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Asset> assets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User owner = new User();
+        owner.setName("Ledger Owner");
+        owner.setEmail("ledger-owner@example.com");
+        owner.setPassword("secret");
+        owner.setRole(Role.USER);
+        entityManager.persist(owner);
+
+        Category category = new Category();
+        category.setName("Ledger Category");
+        category.setDescription("Description");
+        entityManager.persist(category);
+
+        for (int i = 0; i < 20; i++) {
+            Asset asset = new Asset();
+            asset.setName("Ledger Asset " + i);
+            asset.setType("Laptop");
+            asset.setValue(BigDecimal.valueOf(1000 + i));
+            asset.setPurchaseDate(FIRST_DATE);
+            asset.setOwner(owner);
+            asset.setCategory(category);
+            assets.add(entityManager.persist(asset));
+        }
+        for (int i = 0; i < 400; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setAsset(assets.get(i % assets.size()));
+            transaction.setTransactionType(i % 3 == 0 ? TransactionType.SALE : TransactionType.PURCHASE);
+            transaction.setAmount(10.0 + i);
+            transaction.setTransactionDate(FIRST_DATE.plusDays(i));
+            entityManager.persist(transaction);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void assetAndDateRangeUseAssetDateIndex() {
+        Long assetId = assets.get(4).getId();
+        LocalDate from = FIRST_DATE.plusDays(50);
+        LocalDate to = FIRST_DATE.plusDays(250);
+
+        List<TransactionResponseDTO> rows = transactionRepository.searchViews(TransactionResponseDTO.class,
+                TransactionSpecifications.matching(assetId, null, from, to), Sort.by("transactionDate", "id"), 0, 50);
+        String sql = lastSearch();
+
+        assertThat(rows).isNotEmpty().allSatisfy(row -> {
+            assertThat(row.getAssetName()).isEqualTo("Ledger Asset 4");
+            assertThat(LocalDate.parse(row.getTransactionDate())).isBetween(from, to);
+        });
+        assertThat(sql).doesNotContainIgnoringCase(" is null");
+        assertThat(explain(sql)).containsIgnoringCase("idx_transactions_asset_date");
+    }
+
+    @Test
+    void assetAndTypeSeekOnAssetId() {
+        Long assetId = assets.get(7).getId();
+
+        List<TransactionResponseDTO> rows = transactionRepository.searchViews(TransactionResponseDTO.class,
+                TransactionSpecifications.matching(assetId, TransactionType.SALE, null, null), Sort.by("id"), 0, 50);
+        String sql = lastSearch();
+
+        assertThat(rows).isNotEmpty().allSatisfy(row -> {
+            assertThat(row.getAssetName()).isEqualTo("Ledger Asset 7");
+            assertThat(row.getTransactionType()).isEqualTo(TransactionType.SALE.toString());
+        });
+        // H2 may pick its own foreign-key index here; either way asset_id must be an index lookup.
+        assertThat(explain(sql)).doesNotContainIgnoringCase("tableScan").containsIgnoringCase("asset_id = ");
+    }
+
+    @Test
+    void missingCriteriaAddNoPredicates() {
+        List<TransactionResponseDTO> rows = transactionRepository.searchViews(TransactionResponseDTO.class,
+                TransactionSpecifications.matching(null, null, null, null), Sort.by("id"), 380, 50);
+
+        assertThat(rows).hasSize(20);
+        assertThat(lastSearch()).doesNotContainIgnoringCase(" where ");
+    }
+
+    private String lastSearch() {
+        return CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).contains("from transactions"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+
+    private String explain(String sql) {
+        // Only the offset and row limit are still bound; criteria values were inlined.
+        Object plan = entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN " + sql.replace("?", "50"))
+                .getSingleResult();
+        return plan.toString();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
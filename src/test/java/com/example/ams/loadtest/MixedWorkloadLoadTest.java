@@ -0,0 +1,441 @@
+package com.example.ams.loadtest;
+
+import com.example.ams.AmsApplication;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.datamodels.form.request.CategoryRequestDTO;
+import com.example.ams.datamodels.form.request.TransactionRequestDTO;
+import com.example.ams.datamodels.form.request.UserRequestDTO;
+import com.example.ams.service.AssetImportService;
+import com.example.ams.service.TransactionIngestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mixed read/write workload across the asset, transaction, category and user endpoints, repeated
+ * for each data size in {@code ams.loadtest.scales} (number of seeded assets; users, categories and
+ * two transactions per asset scale with it). Logs throughput, p50/p99/p999 and error rate per
+ * operation and writes the same rows to {@code target/loadtest/mixed-workload.csv} so runs can be
+ * plotted as scaling curves. Run with {@code mvn -Ploadtest test -Dtest=MixedWorkloadLoadTest}.
+ */
+@Tag("loadtest")
+@EnabledIfSystemProperty(named = "ams.loadtest", matches = "true")
+class MixedWorkloadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MixedWorkloadLoadTest.class);
+    private static final int[] SCALES = Arrays.stream(System.getProperty("ams.loadtest.scales", "1000,10000,50000").split(","))
+            .map(String::trim)
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final int CONCURRENCY = Integer.getInteger("ams.loadtest.concurrency", 200);
+    private static final int REQUESTS = Integer.getInteger("ams.loadtest.requests", 20_000);
+    private static final int WARMUP_REQUESTS = REQUESTS / 10;
+    private static final int SEED_CHUNK = 1_000;
+    /** Twice the share DELETE /assets/{id} draws (2 of 100), so the run never runs out of rows to delete. */
+    private static final int DISPOSABLE_ASSETS = (WARMUP_REQUESTS + REQUESTS) / 25 + 100;
+    private static final Path REPORT = Path.of("target", "loadtest", "mixed-workload.csv");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong createdAssets = new AtomicLong();
+    private final AtomicLong createdCategories = new AtomicLong();
+    private final AtomicLong createdUsers = new AtomicLong();
+
+    @Test
+    void mixedWorkloadAcrossDataSizes() throws Exception {
+        List<String> csv = new ArrayList<>();
+        csv.add("assets,operation,requests,errors,error_rate,throughput,p50_ms,p99_ms,p999_ms");
+        StringBuilder table = new StringBuilder(String.format("%n%-8s %-22s %9s %8s %12s %9s %9s %9s",
+                "assets", "operation", "requests", "errors", "requests/s", "p50 ms", "p99 ms", "p999 ms"));
+
+        for (int scale : SCALES) {
+            List<OperationResult> results = run(scale);
+            for (OperationResult result : results) {
+                table.append(String.format("%n%-8d %s", scale, result));
+                csv.add(scale + "," + result.toCsv());
+            }
+            OperationResult total = results.get(results.size() - 1);
+            assertThat(total.errorRate()).isLessThan(0.01);
+        }
+
+        logger.warn(table.toString());
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, csv);
+    }
+
+    private List<OperationResult> run(int scale) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AmsApplication.class)
+                .profiles("loadtest")
+                .run("--server.port=0",
+                        "--ams.logging.request-summary.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:ams-mixed-" + scale + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1")) {
+            Dataset dataset = seed(context, scale);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder().executor(clientThreads).build();
+                String baseUrl = "http://localhost:" + port;
+                String token = login(client, baseUrl);
+                List<Operation> operations = operations(baseUrl, dataset);
+
+                drive(client, token, operations, WARMUP_REQUESTS);
+                long startedAt = System.nanoTime();
+                Samples samples = drive(client, token, operations, REQUESTS);
+                long elapsedNanos = System.nanoTime() - startedAt;
+
+                return summarize(operations, samples, elapsedNanos);
+            }
+        }
+    }
+
+    /**
+     * Weighted mix of reads and writes over all four controllers. Ids are drawn from the seeded
+     * ranges so reads hit existing rows; deletes consume assets seeded only for that purpose, and
+     * updates keep names and emails unchanged so they never collide with each other.
+     */
+    private List<Operation> operations(String baseUrl, Dataset dataset) {
+        return List.of(
+                new Operation("GET /assets", 22, random -> get(baseUrl + "/assets?limit=50&after=" + dataset.randomAssetId(random))),
+                new Operation("GET /assets/{id}", 18, random -> get(baseUrl + "/assets/" + dataset.randomAssetId(random))),
+                new Operation("POST /assets", 4, random -> post(baseUrl + "/assets", asset(
+                        "Load asset " + createdAssets.incrementAndGet(), dataset.randomUserId(random), dataset.randomCategoryId(random)))),
+                new Operation("PUT /assets/{id}", 4, random -> put(baseUrl + "/assets/" + dataset.randomAssetId(random),
+                        assetValue(1_000 + random.nextInt(10_000)))),
+                new Operation("DELETE /assets/{id}", 2, random -> delete(baseUrl + "/assets/" + dataset.nextDisposableAssetId())),
+                new Operation("GET /transactions", 10, random -> get(baseUrl + "/transactions?size=50&assetId=" + dataset.randomAssetId(random))),
+                new Operation("GET /transactions/{id}", 10, random -> get(baseUrl + "/transactions/" + dataset.randomTransactionId(random))),
+                new Operation("POST /transactions", 10, random -> post(baseUrl + "/transactions",
+                        transaction(dataset.randomAssetId(random), "PURCHASE", "125.00"))),
+                new Operation("GET /categories", 4, random -> get(baseUrl + "/categories")),
+                new Operation("GET /categories/{id}", 4, random -> get(baseUrl + "/categories/" + dataset.randomCategoryId(random))),
+                new Operation("POST /categories", 1, random -> post(baseUrl + "/categories",
+                        category("Load new category " + createdCategories.incrementAndGet()))),
+                new Operation("PUT /categories/{id}", 1, random -> {
+                    int index = random.nextInt(dataset.categoryIds().length);
+                    return put(baseUrl + "/categories/" + dataset.categoryIds()[index], category(categoryName(index)));
+                }),
+                new Operation("GET /users/{id}", 8, random -> get(baseUrl + "/users/" + dataset.randomUserId(random))),
+                new Operation("POST /users", 1, random -> post(baseUrl + "/users",
+                        user("Load new user", "load-new-user-" + createdUsers.incrementAndGet() + "@example.com"))),
+                new Operation("PUT /users/{id}", 1, random -> {
+                    int index = random.nextInt(dataset.userIds().length);
+                    return put(baseUrl + "/users/" + dataset.userIds()[index], user("Renamed user " + index, userEmail(index)));
+                })
+        );
+    }
+
+    private Dataset seed(ConfigurableApplicationContext context, int scale) {
+        int users = Math.max(10, scale / 100);
+        int categories = Math.max(5, Math.min(200, scale / 500));
+
+        String password = context.getBean(PasswordEncoder.class).encode("loadtest");
+        List<User> seededUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setName("Load user " + i);
+            user.setEmail(userEmail(i));
+            user.setPassword(password);
+            user.setRole(Role.USER);
+            seededUsers.add(user);
+        }
+        List<User> savedUsers = context.getBean(UserRepository.class).saveAll(seededUsers);
+
+        List<Category> seededCategories = new ArrayList<>(categories);
+        for (int i = 0; i < categories; i++) {
+            Category category = new Category();
+            category.setName(categoryName(i));
+            category.setDescription("Seeded by the mixed workload load test");
+            seededCategories.add(category);
+        }
+        List<Category> savedCategories = context.getBean(CategoryRepository.class).saveAll(seededCategories);
+
+        AssetImportService assetImportService = context.getBean(AssetImportService.class);
+        for (int from = 0; from < scale; from += SEED_CHUNK) {
+            List<AssetRequestDTO> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = from; i < Math.min(from + SEED_CHUNK, scale); i++) {
+                chunk.add(asset("Asset " + i,
+                        savedUsers.get(i % users).getId(), savedCategories.get(i % categories).getId()));
+            }
+            assetImportService.importAssets(chunk.iterator());
+        }
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        long[] assetIds = ids(jdbcTemplate, "select id from assets order by id");
+
+        List<AssetRequestDTO> disposable = new ArrayList<>(DISPOSABLE_ASSETS);
+        for (int i = 0; i < DISPOSABLE_ASSETS; i++) {
+            disposable.add(asset("Disposable asset " + i, savedUsers.get(i % users).getId(), savedCategories.get(i % categories).getId()));
+        }
+        assetImportService.importAssets(disposable.iterator());
+
+        TransactionIngestionService ingestionService = context.getBean(TransactionIngestionService.class);
+        List<TransactionRequestDTO> chunk = new ArrayList<>(SEED_CHUNK);
+        for (long assetId : assetIds) {
+            chunk.add(transaction(assetId, "PURCHASE", "1000.00"));
+            chunk.add(transaction(assetId, "SALE", "250.00"));
+            if (chunk.size() >= SEED_CHUNK) {
+                ingestionService.saveTransactions(chunk);
+                chunk = new ArrayList<>(SEED_CHUNK);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            ingestionService.saveTransactions(chunk);
+        }
+
+        return new Dataset(
+                savedUsers.stream().mapToLong(User::getId).toArray(),
+                savedCategories.stream().mapToLong(Category::getId).toArray(),
+                assetIds,
+                ids(jdbcTemplate, "select id from transactions order by id"),
+                ids(jdbcTemplate, "select id from assets where name like 'Disposable asset %' order by id"),
+                new AtomicInteger());
+    }
+
+    private static long[] ids(JdbcTemplate jdbcTemplate, String query) {
+        return jdbcTemplate.queryForList(query, Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private String login(HttpClient client, String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"loadtest@example.com\",\"password\":\"loadtest\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).path("data").path("token").asText();
+    }
+
+    private Samples drive(HttpClient client, String token, List<Operation> operations, int requests) throws InterruptedException {
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        Samples samples = new Samples(requests);
+        AtomicInteger next = new AtomicInteger();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                users.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int n = next.getAndIncrement(); n < requests; n = next.getAndIncrement()) {
+                        int operation = pick(operations, random.nextInt(totalWeight));
+                        HttpRequest request = operations.get(operation).request().apply(random)
+                                .header("Authorization", "Bearer " + token)
+                                .build();
+                        samples.operations[n] = operation;
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            samples.latencies[n] = response.statusCode() < 300 ? System.nanoTime() - startedAt : -1;
+                        } catch (IOException e) {
+                            samples.latencies[n] = -1;
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return samples;
+    }
+
+    private static int pick(List<Operation> operations, int ticket) {
+        for (int i = 0; i < operations.size(); i++) {
+            ticket -= operations.get(i).weight();
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return operations.size() - 1;
+    }
+
+    private List<OperationResult> summarize(List<Operation> operations, Samples samples, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        List<OperationResult> results = new ArrayList<>(operations.size() + 1);
+        for (int operation = 0; operation < operations.size(); operation++) {
+            int index = operation;
+            long[] latencies = IntStream.range(0, samples.latencies.length)
+                    .filter(n -> samples.operations[n] == index)
+                    .mapToLong(n -> samples.latencies[n])
+                    .toArray();
+            results.add(OperationResult.of(operations.get(operation).name(), latencies, seconds));
+        }
+        results.add(OperationResult.of("total", samples.latencies, seconds));
+        return results;
+    }
+
+    private HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url));
+    }
+
+    private HttpRequest.Builder post(String url, Object body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(json(body));
+    }
+
+    private HttpRequest.Builder put(String url, Object body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .PUT(json(body));
+    }
+
+    private HttpRequest.Builder delete(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).DELETE();
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AssetRequestDTO asset(String name, long ownerId, long categoryId) {
+        AssetRequestDTO asset = new AssetRequestDTO();
+        asset.setName(name);
+        asset.setType("EQUIPMENT");
+        asset.setValue(String.valueOf(1_000 + Math.abs(name.hashCode() % 10_000)));
+        asset.setOwnerId(String.valueOf(ownerId));
+        asset.setCategoryId(String.valueOf(categoryId));
+        return asset;
+    }
+
+    private static AssetRequestDTO assetValue(int value) {
+        AssetRequestDTO asset = new AssetRequestDTO();
+        asset.setValue(String.valueOf(value));
+        return asset;
+    }
+
+    private static CategoryRequestDTO category(String name) {
+        CategoryRequestDTO category = new CategoryRequestDTO();
+        category.setName(name);
+        category.setDescription("Written by the mixed workload load test");
+        return category;
+    }
+
+    private static String categoryName(int index) {
+        return "Load category " + index;
+    }
+
+    private static UserRequestDTO user(String name, String email) {
+        UserRequestDTO user = new UserRequestDTO();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword("loadtest");
+        user.setRole("USER");
+        return user;
+    }
+
+    private static String userEmail(int index) {
+        return "load-user-" + index + "@example.com";
+    }
+
+    private static TransactionRequestDTO transaction(long assetId, String type, String amount) {
+        TransactionRequestDTO transaction = new TransactionRequestDTO();
+        transaction.setAssetId(String.valueOf(assetId));
+        transaction.setTransactionType(type);
+        transaction.setAmount(amount);
+        return transaction;
+    }
+
+    private record Operation(String name, int weight, Function<ThreadLocalRandom, HttpRequest.Builder> request) {
+    }
+
+    private record Dataset(long[] userIds, long[] categoryIds, long[] assetIds, long[] transactionIds,
+                           long[] disposableAssetIds, AtomicInteger deleted) {
+
+        long randomUserId(ThreadLocalRandom random) {
+            return userIds[random.nextInt(userIds.length)];
+        }
+
+        long randomCategoryId(ThreadLocalRandom random) {
+            return categoryIds[random.nextInt(categoryIds.length)];
+        }
+
+        long randomAssetId(ThreadLocalRandom random) {
+            return assetIds[random.nextInt(assetIds.length)];
+        }
+
+        long randomTransactionId(ThreadLocalRandom random) {
+            return transactionIds[random.nextInt(transactionIds.length)];
+        }
+
+        long nextDisposableAssetId() {
+            return disposableAssetIds[deleted.getAndIncrement() % disposableAssetIds.length];
+        }
+    }
+
+    private static final class Samples {
+        private final int[] operations;
+        private final long[] latencies;
+
+        private Samples(int requests) {
+            this.operations = new int[requests];
+            this.latencies = new long[requests];
+        }
+    }
+
+    private record OperationResult(String name, int requests, int errors, double throughput,
+                                   double p50, double p99, double p999) {
+
+        static OperationResult of(String name, long[] latencies, double seconds) {
+            long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            return new OperationResult(name, latencies.length, latencies.length - succeeded.length,
+                    latencies.length / seconds,
+                    percentile(succeeded, 0.50), percentile(succeeded, 0.99), percentile(succeeded, 0.999));
+        }
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1e6;
+        }
+
+        String toCsv() {
+            return String.format("%s,%d,%d,%.4f,%.1f,%.3f,%.3f,%.3f",
+                    name, requests, errors, errorRate(), throughput, p50, p99, p999);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-22s %9d %8d %12.0f %9.2f %9.2f %9.2f", name, requests, errors, throughput, p50, p99, p999);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.ams.loadtest;
+
+import com.example.ams.AmsApplication;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.service.AssetImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Opens thousands of clients that read their response a kilobyte at a time and compares the
+ * blocking cursor stream ({@code /assets/stream}) with the paged Flux bridge
+ * ({@code /reactive/assets}): peak platform threads, peak busy and waiting pool connections,
+ * and how many clients were served at all. Run with {@code mvn -Ploadtest test}.
+ */
+@Tag("loadtest")
+@EnabledIfSystemProperty(named = "ams.loadtest", matches = "true")
+class ReactiveSlowClientLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveSlowClientLoadTest.class);
+    private static final int ASSETS = Integer.getInteger("ams.loadtest.assets", 20_000);
+    private static final int CLIENTS = Integer.getInteger("ams.loadtest.slow-clients", 2_000);
+    private static final long DURATION_MILLIS = Long.getLong("ams.loadtest.slow-client-millis", 15_000);
+    private static final int READ_CHUNK = 1024;
+    private static final long READ_PAUSE_MILLIS = 20;
+
+    @Test
+    void compareBlockingStreamWithFluxBridge() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AmsApplication.class)
+                .profiles("loadtest")
+                .run("--server.port=0",
+                        // Blocking streams queued behind the pool give up after 2s instead of 30s,
+                        // so the backlog left by the blocking run drains before the Flux run.
+                        "--spring.datasource.hikari.connection-timeout=2000",
+                        "--spring.datasource.url=jdbc:h2:mem:ams-slow-clients;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1")) {
+            seed(context);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String token = login(port);
+            HikariPoolMXBean pool = context.getBean(HikariDataSource.class).getHikariPoolMXBean();
+
+            SlowClientResult blocking = run("blocking", port, "/assets/stream", "application/json", token, pool);
+            awaitIdle(pool);
+            SlowClientResult reactive = run("flux", port, "/reactive/assets?pageSize=100", "application/x-ndjson", token, pool);
+
+            logger.warn(String.format("%n%-10s %8s %8s %14s %12s %12s %12s%n%s%n%s",
+                    "endpoint", "clients", "served", "platform thr", "busy conns", "waiting", "MB read",
+                    blocking, reactive));
+
+            assertThat(reactive.served()).isGreaterThan(0);
+        }
+    }
+
+    private SlowClientResult run(String name, int port, String path, String accept, String token, HikariPoolMXBean pool)
+            throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        AtomicInteger peakThreads = new AtomicInteger();
+        AtomicInteger peakBusy = new AtomicInteger();
+        AtomicInteger peakWaiting = new AtomicInteger();
+        AtomicInteger served = new AtomicInteger();
+        AtomicLong bytesRead = new AtomicLong();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakThreads.accumulateAndGet(threads.getThreadCount(), Math::max);
+            peakBusy.accumulateAndGet(pool.getActiveConnections(), Math::max);
+            peakWaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+        }, 0, 100, TimeUnit.MILLISECONDS);
+
+        long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+        String request = "GET " + path + " HTTP/1.1\r\n" +
+                "Host: localhost:" + port + "\r\n" +
+                "Authorization: Bearer " + token + "\r\n" +
+                "Accept: " + accept + "\r\n" +
+                "Connection: close\r\n\r\n";
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    readSlowly(port, request, deadline, served, bytesRead);
+                    return null;
+                });
+            }
+        } finally {
+            sampler.shutdownNow();
+        }
+
+        return new SlowClientResult(name, CLIENTS, served.get(), peakThreads.get(), peakBusy.get(), peakWaiting.get(),
+                bytesRead.get() / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Blocking streams abandoned at the deadline keep their connection, or keep waiting for one,
+     * until the server notices the closed socket; start the next run only once the pool is quiet.
+     */
+    private void awaitIdle(HikariPoolMXBean pool) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5);
+        while ((pool.getActiveConnections() > 0 || pool.getThreadsAwaitingConnection() > 0)
+                && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(200);
+        }
+        TimeUnit.SECONDS.sleep(1);
+    }
+
+    private void readSlowly(int port, String request, long deadline, AtomicInteger served, AtomicLong bytesRead) {
+        try (Socket socket = new Socket()) {
+            socket.setReceiveBufferSize(4096);
+            socket.setSoTimeout(1000);
+            socket.connect(new InetSocketAddress("localhost", port));
+            OutputStream out = socket.getOutputStream();
+            out.write(request.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            InputStream in = socket.getInputStream();
+            byte[] buffer = new byte[READ_CHUNK];
+            boolean firstByte = true;
+            while (System.currentTimeMillis() < deadline) {
+                int read;
+                try {
+                    read = in.read(buffer);
+                } catch (SocketTimeoutException e) {
+                    continue;
+                }
+                if (read < 0) {
+                    break;
+                }
+                if (firstByte) {
+                    served.incrementAndGet();
+                    firstByte = false;
+                }
+                bytesRead.addAndGet(read);
+                Thread.sleep(READ_PAUSE_MILLIS);
+            }
+        } catch (Exception e) {
+            logger.debug("Slow client failed: {}", e.getMessage());
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        Category category = new Category();
+        category.setName("Slow clients");
+        category.setDescription("Seeded by the slow client harness");
+        category = context.getBean(CategoryRepository.class).save(category);
+        Long ownerId = context.getBean(UserRepository.class).findAll().get(0).getId();
+
+        List<AssetRequestDTO> assets = new ArrayList<>(ASSETS);
+        for (int i = 0; i < ASSETS; i++) {
+            AssetRequestDTO asset = new AssetRequestDTO();
+            asset.setName("Asset " + i);
+            asset.setType("EQUIPMENT");
+            asset.setValue(String.valueOf(1_000 + i));
+            asset.setOwnerId(ownerId.toString());
+            asset.setCategoryId(category.getId().toString());
+            assets.add(asset);
+        }
+        context.getBean(AssetImportService.class).importAssets(assets.iterator());
+    }
+
+    private String login(int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"loadtest@example.com\",\"password\":\"loadtest\"}"))
+                .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return new ObjectMapper().readTree(response.body()).path("data").path("token").asText();
+    }
+
+    private record SlowClientResult(String endpoint, int clients, int served, int peakPlatformThreads,
+                                    int peakBusyConnections, int peakWaitingForConnection, double megabytesRead) {
+        @Override
+        public String toString() {
+            return String.format("%-10s %8d %8d %14d %12d %12d %12.1f", endpoint, clients, served,
+                    peakPlatformThreads, peakBusyConnections, peakWaitingForConnection, megabytesRead);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.ams.loadtest;
+
+import com.example.ams.AmsApplication;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.form.request.AssetRequestDTO;
+import com.example.ams.service.AssetImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application twice on an in-memory database, once on platform Tomcat threads and
+ * once with the {@code virtual} profile, drives the same read load against both and logs
+ * throughput and latency percentiles. Run with {@code mvn -Ploadtest test}.
+ */
+@Tag("loadtest")
+@EnabledIfSystemProperty(named = "ams.loadtest", matches = "true")
+class VirtualThreadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+    private static final int ASSETS = Integer.getInteger("ams.loadtest.assets", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("ams.loadtest.concurrency", 1_000);
+    private static final int REQUESTS = Integer.getInteger("ams.loadtest.requests", 50_000);
+    private static final int WARMUP_REQUESTS = REQUESTS / 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        LoadResult platform = run("platform", "loadtest");
+        LoadResult virtual = run("virtual", "loadtest", "virtual");
+
+        logger.warn(String.format("%n%-10s %12s %10s %10s %10s %8s%n%s%n%s",
+                "mode", "requests/s", "p50 ms", "p99 ms", "max ms", "errors", platform, virtual));
+
+        assertThat(platform.errors()).isLessThan(REQUESTS / 100);
+        assertThat(virtual.errors()).isLessThan(REQUESTS / 100);
+    }
+
+    private LoadResult run(String mode, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AmsApplication.class)
+                .profiles(profiles)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:ams-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1")) {
+            seed(context);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder().executor(clientThreads).build();
+                String token = login(client, port);
+
+                drive(client, port, token, WARMUP_REQUESTS);
+                long startedAt = System.nanoTime();
+                long[] latencies = drive(client, port, token, REQUESTS);
+                long elapsedNanos = System.nanoTime() - startedAt;
+
+                return LoadResult.of(mode, latencies, elapsedNanos);
+            }
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        Category category = new Category();
+        category.setName("Load test");
+        category.setDescription("Seeded by the load test harness");
+        category = context.getBean(CategoryRepository.class).save(category);
+        Long ownerId = context.getBean(UserRepository.class).findAll().get(0).getId();
+
+        List<AssetRequestDTO> assets = new ArrayList<>(ASSETS);
+        for (int i = 0; i < ASSETS; i++) {
+            AssetRequestDTO asset = new AssetRequestDTO();
+            asset.setName("Asset " + i);
+            asset.setType("EQUIPMENT");
+            asset.setValue(String.valueOf(1_000 + i));
+            asset.setOwnerId(ownerId.toString());
+            asset.setCategoryId(category.getId().toString());
+            assets.add(asset);
+        }
+        context.getBean(AssetImportService.class).importAssets(assets.iterator());
+    }
+
+    private String login(HttpClient client, int port) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"loadtest@example.com\",\"password\":\"loadtest\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body()).path("data").path("token").asText();
+    }
+
+    private long[] drive(HttpClient client, int port, String token, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                users.submit(() -> {
+                    for (int n = next.getAndIncrement(); n < requests; n = next.getAndIncrement()) {
+                        long after = ThreadLocalRandom.current().nextLong(ASSETS);
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create("http://localhost:" + port + "/assets?limit=50&after=" + after))
+                                .header("Authorization", "Bearer " + token)
+                                .build();
+                        long startedAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies[n] = response.statusCode() == 200 ? System.nanoTime() - startedAt : -1;
+                        } catch (Exception e) {
+                            latencies[n] = -1;
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return latencies;
+    }
+
+    private record LoadResult(String mode, int errors, double throughput, double p50, double p99, double max) {
+
+        static LoadResult of(String mode, long[] latencies, long elapsedNanos) {
+            long[] succeeded = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            int errors = latencies.length - succeeded.length;
+            return new LoadResult(mode, errors,
+                    latencies.length / (elapsedNanos / 1e9),
+                    percentile(succeeded, 0.50), percentile(succeeded, 0.99),
+                    succeeded.length == 0 ? 0 : succeeded[succeeded.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %12.0f %10.2f %10.2f %10.2f %8d", mode, throughput, p50, p99, max, errors);
+        }
+    }
+}
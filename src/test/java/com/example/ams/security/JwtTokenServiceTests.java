@@ -0,0 +1,45 @@
+package com.example.ams.security;
+
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenServiceTests {
+
+    private final JwtTokenService tokenService = new JwtTokenService(new ObjectMapper(), "", Duration.ofMinutes(15), 1000);
+
+    @Test
+    void revocationRejectsTokensIssuedInTheSameSecond() {
+        User user = user();
+        String token = tokenService.issue(user);
+        assertThat(tokenService.authenticate(token)).isNotNull();
+
+        tokenService.revokeUser(user.getId());
+
+        assertThat(tokenService.authenticate(token)).isNull();
+    }
+
+    @Test
+    void tokenIssuedAfterRevocationIsAccepted() {
+        User user = user();
+        tokenService.revokeUser(user.getId());
+
+        String token = tokenService.issue(user);
+
+        assertThat(tokenService.authenticate(token)).isNotNull();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(42L);
+        user.setName("Token User");
+        user.setEmail("token-user@example.com");
+        user.setRole(Role.USER);
+        return user;
+    }
+}
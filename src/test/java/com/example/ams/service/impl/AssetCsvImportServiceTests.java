@@ -0,0 +1,232 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetImportErrorRepository;
+import com.example.ams.dao.AssetImportJobRepository;
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.AssetImportJob;
+import com.example.ams.datamodels.entities.AssetImportStatus;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.datamodels.form.response.AssetImportJobDTO;
+import com.example.ams.datamodels.form.response.BulkRowErrorDTO;
+import com.example.ams.service.AssetCsvImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest(properties = "ams.import.csv.chunk-bytes=64")
+@ActiveProfiles("test")
+class AssetCsvImportServiceTests {
+
+    private static final Path IMPORT_DIR;
+
+    static {
+        try {
+            IMPORT_DIR = Files.createTempDirectory("asset-import-tests");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void importDir(DynamicPropertyRegistry registry) {
+        registry.add("ams.import.csv.allowed-dir", IMPORT_DIR::toString);
+    }
+
+    @Autowired
+    private AssetCsvImportService importService;
+
+    @Autowired
+    private AssetImportJobRepository jobRepository;
+
+    @Autowired
+    private AssetImportErrorRepository errorRepository;
+
+    @SpyBean
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private String prefix;
+    private long ownerId;
+    private long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        prefix = UUID.randomUUID().toString().substring(0, 8);
+        User owner = new User();
+        owner.setName("Import Owner");
+        owner.setEmail(prefix + "@example.com");
+        owner.setPassword("secret");
+        owner.setRole(Role.USER);
+        ownerId = userRepository.save(owner).getId();
+
+        Category category = new Category();
+        category.setName("Import " + prefix);
+        category.setDescription("Description");
+        categoryId = categoryRepository.save(category).getId();
+    }
+
+    @AfterEach
+    void resetSpy() {
+        reset(assetRepository);
+    }
+
+    @Test
+    void resumingFromTheCommittedOffsetSkipsNothingAndRepeatsNothing() throws IOException {
+        String committed = "name,type,value,ownerId,categoryId\n"
+                + row("a1", "1") + row("\"a2\nsecond line\"", "2") + "a3,Laptop,bad," + ownerId + "," + categoryId + "\n";
+        String remaining = row("b1", "4") + "\n" + row("\"b2, quoted\"", "5") + "b3,Laptop,bad," + ownerId + "," + categoryId + "\n"
+                + row("b4", "7");
+        Path file = write(committed + remaining);
+
+        AssetImportJob job = new AssetImportJob();
+        job.setFilePath(file.toString());
+        job.setFileSize(Files.size(file));
+        job.setStatus(AssetImportStatus.INTERRUPTED);
+        job.setCommittedOffset(committed.getBytes(StandardCharsets.UTF_8).length);
+        job.setLinesProcessed(4);
+        job.setInserted(2);
+        job.setFailed(1);
+        job.setStartedAt(LocalDateTime.now());
+        job.setUpdatedAt(LocalDateTime.now());
+        Long jobId = jobRepository.save(job).getId();
+
+        AssetImportJobDTO done = await(importService.resume(jobId));
+
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getBytesCommitted()).isEqualTo(done.getBytesTotal());
+        assertThat(done.getLinesProcessed()).isEqualTo(4 + 5);
+        assertThat(done.getInserted()).isEqualTo(2 + 3);
+        assertThat(done.getFailed()).isEqualTo(1 + 1);
+        assertThat(done.getErrors()).extracting(BulkRowErrorDTO::getRow).containsExactly(9L);
+        assertThat(importedNames()).containsExactlyInAnyOrder(prefix + "-b1", prefix + "-b2, quoted", prefix + "-b4");
+    }
+
+    @Test
+    void reportsAtMostMaxReportedErrorsButCountsEveryFailure() throws IOException {
+        int failures = AssetCsvChunkWriter.MAX_REPORTED_ERRORS + 5;
+        StringBuilder csv = new StringBuilder("name,type,value,ownerId,categoryId\n");
+        for (int i = 0; i < failures; i++) {
+            csv.append(prefix).append("-x").append(i).append(",Laptop,bad,").append(ownerId).append(',').append(categoryId).append('\n');
+        }
+        csv.append(row("ok", "1"));
+
+        AssetImportJobDTO done = await(importService.importFile(write(csv.toString()).getFileName().toString(), 0));
+
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getInserted()).isEqualTo(1);
+        assertThat(done.getFailed()).isEqualTo(failures);
+        assertThat(errorRepository.countByJobId(Long.valueOf(done.getJobId()))).isEqualTo(AssetCsvChunkWriter.MAX_REPORTED_ERRORS);
+        assertThat(done.getErrors()).hasSize(AssetCsvChunkWriter.MAX_REPORTED_ERRORS);
+        assertThat(done.getErrors().get(0).getRow()).isEqualTo(2);
+    }
+
+    @Test
+    void aConcurrentInsertOfTheSameNaturalKeyIsReportedAsADuplicate() throws IOException {
+        Asset existing = insertExisting("race");
+        List<Object[]> committedKey = List.<Object[]>of(new Object[]{existing.getNormalizedName(), existing.getType(), existing.getValue()});
+        doReturn(List.of()).doReturn(committedKey).when(assetRepository).findNaturalKeysByNormalizedNameIn(any());
+
+        AssetImportJobDTO done = await(importService.importFile(
+                write("name,type,value,ownerId,categoryId\n" + row("race", "1")).getFileName().toString(), 0));
+
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getInserted()).isZero();
+        assertThat(done.getFailed()).isEqualTo(1);
+        assertThat(done.getErrors()).singleElement()
+                .extracting(BulkRowErrorDTO::getMessage)
+                .isEqualTo("Asset with same name, type, and value already exists.");
+    }
+
+    @Test
+    void aChunkThatKeepsLosingTheRaceIsRejectedWithoutFailingTheJob() throws IOException {
+        insertExisting("race");
+        doReturn(List.of()).when(assetRepository).findNaturalKeysByNormalizedNameIn(any());
+
+        AssetImportJobDTO done = await(importService.importFile(
+                write("name,type,value,ownerId,categoryId\n" + row("race", "1")).getFileName().toString(), 0));
+
+        assertThat(done.getStatus()).isEqualTo("COMPLETED");
+        assertThat(done.getInserted()).isZero();
+        assertThat(done.getFailed()).isEqualTo(1);
+        assertThat(done.getErrors()).singleElement()
+                .extracting(BulkRowErrorDTO::getMessage)
+                .asString()
+                .contains("concurrent");
+    }
+
+    private String row(String name, String value) {
+        String qualified = name.startsWith("\"") ? "\"" + prefix + "-" + name.substring(1) : prefix + "-" + name;
+        return qualified + ",Laptop," + value + "," + ownerId + "," + categoryId + "\n";
+    }
+
+    private Asset insertExisting(String name) {
+        Asset asset = new Asset();
+        asset.setName(prefix + "-" + name);
+        asset.setType("Laptop");
+        asset.setValue(Asset.normalizeValue(BigDecimal.ONE));
+        asset.setPurchaseDate(LocalDate.now());
+        asset.setOwner(userRepository.getReferenceById(ownerId));
+        asset.setCategory(categoryRepository.getReferenceById(categoryId));
+        return assetRepository.saveAndFlush(asset);
+    }
+
+    private List<String> importedNames() {
+        return assetRepository.findAll().stream()
+                .map(Asset::getName)
+                .filter(name -> name.startsWith(prefix))
+                .toList();
+    }
+
+    private Path write(String csv) throws IOException {
+        Path file = Files.createTempFile(IMPORT_DIR, prefix, ".csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private AssetImportJobDTO await(AssetImportJobDTO started) {
+        long deadline = System.currentTimeMillis() + 30_000;
+        AssetImportJobDTO status = started;
+        while (status.getStatus().equals("RUNNING") && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            status = importService.getStatus(Long.valueOf(started.getJobId()));
+        }
+        return status;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.ams.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetCsvParserTests {
+
+    private static final String HEADER = "name,type,value,ownerId,categoryId\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void quotedLineBreaksAndCommasSurviveEveryChunkBoundary() throws IOException {
+        String csv = HEADER
+                + "Plain,Laptop,10.00,1,1\n"
+                + "\"Desk, oak\",Furniture,20.00,1,1\n"
+                + "\"Two\nline \"\"label\"\"\",Sign,30.00,1,1\n"
+                + "\"Trailing\n\",Sign,40.00,1,1\n"
+                + "Bad,Laptop,x,1,1\n"
+                + "Last,Laptop,50.00,1,1\n";
+        Path file = write(csv);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            AssetCsvParser.Header header = AssetCsvParser.readHeader(channel);
+            for (long chunkBytes = 1; chunkBytes <= channel.size(); chunkBytes++) {
+                List<String> rows = new ArrayList<>();
+                List<Long> errorLines = new ArrayList<>();
+                long line = 2;
+                for (AssetCsvParser.Chunk chunk : AssetCsvParser.split(channel, header.dataStart(), chunkBytes)) {
+                    AssetCsvParser.ParsedChunk parsed = AssetCsvParser.parse(channel, chunk, header);
+                    for (AssetCsvParser.Row row : parsed.rows()) {
+                        rows.add((line + row.line() - 1) + ":" + row.name());
+                    }
+                    for (AssetCsvParser.LineError error : parsed.errors()) {
+                        errorLines.add(line + error.line() - 1);
+                    }
+                    line += parsed.lines();
+                }
+
+                assertThat(rows).as("chunkBytes=%d", chunkBytes).containsExactly(
+                        "2:Plain", "3:Desk, oak", "4:Two\nline \"label\"", "6:Trailing", "9:Last");
+                assertThat(errorLines).as("chunkBytes=%d", chunkBytes).containsExactly(8L);
+                assertThat(line).isEqualTo(10);
+            }
+        }
+    }
+
+    @Test
+    void readsCrlfFilesWithAByteOrderMark() throws IOException {
+        Path file = write("\uFEFFName,Type,Value,OwnerId,CategoryId,PurchaseDate\r\n"
+                + "Laptop,Equipment,999.99,1,2,2024-03-01\r\n"
+                + "\r\n"
+                + "\"Quoted\r\nname\",Equipment,5,1,2,\r\n"
+                + "Broken,Equipment,5,1,2,2024-13-01\r\n");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            AssetCsvParser.Header header = AssetCsvParser.readHeader(channel);
+            AssetCsvParser.ParsedChunk parsed = AssetCsvParser.parse(channel,
+                    new AssetCsvParser.Chunk(header.dataStart(), channel.size()), header);
+
+            assertThat(header.name()).isZero();
+            assertThat(parsed.lines()).isEqualTo(5);
+            assertThat(parsed.rows()).extracting(AssetCsvParser.Row::line).containsExactly(1L, 3L);
+            AssetCsvParser.Row first = parsed.rows().get(0);
+            assertThat(first.type()).isEqualTo("Equipment");
+            assertThat(first.value()).isEqualByComparingTo("999.99");
+            assertThat(first.categoryId()).isEqualTo(2);
+            assertThat(first.purchaseDate()).hasToString("2024-03-01");
+            assertThat(parsed.rows().get(1).name()).isEqualTo("Quoted\r\nname");
+            assertThat(parsed.rows().get(1).purchaseDate()).isNull();
+            assertThat(parsed.errors()).extracting(AssetCsvParser.LineError::line).containsExactly(5L);
+        }
+    }
+
+    @Test
+    void offsetsInsideAQuotedFieldAreNotRecordStarts() throws IOException {
+        String first = "\"Multi\nline\",Sign,1,1,1\n";
+        Path file = write(HEADER + first + "Next,Sign,2,1,1\n");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            AssetCsvParser.Header header = AssetCsvParser.readHeader(channel);
+            long quotedBreak = header.dataStart() + first.indexOf('\n') + 1;
+            long next = header.dataStart() + first.length();
+
+            assertThat(AssetCsvParser.isRecordStart(channel, header, header.dataStart())).isTrue();
+            assertThat(AssetCsvParser.isRecordStart(channel, header, quotedBreak)).isFalse();
+            assertThat(AssetCsvParser.isRecordStart(channel, header, next - 1)).isFalse();
+            assertThat(AssetCsvParser.isRecordStart(channel, header, next)).isTrue();
+        }
+    }
+
+    private Path write(String csv) throws IOException {
+        Path file = dir.resolve("assets.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+}
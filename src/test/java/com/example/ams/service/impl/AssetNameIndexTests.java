@@ -0,0 +1,38 @@
+package com.example.ams.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetNameIndexTests {
+
+    @Test
+    void recentWritesAreFoundPastABroadBasePrefix() {
+        AssetNameIndex index = new AssetNameIndex(Integer.MAX_VALUE);
+        List<AssetNameIndex.Entry> loaded = new ArrayList<>();
+        for (long id = 1; id <= 2 * (AssetNameIndex.MAX_SCANNED + 10); id += 2) {
+            loaded.add(new AssetNameIndex.Entry(id, "Laptop " + id, "Equipment"));
+            loaded.add(new AssetNameIndex.Entry(id + 1, "Desk " + id, "Furniture"));
+        }
+        index.beginRebuild();
+        index.finishRebuild(loaded);
+        index.put(1_000_000L, "Laptop stand", "Furniture");
+
+        assertThat(index.suggest("laptop furn", 5))
+                .extracting(AssetNameIndex.Entry::id)
+                .containsExactly(1_000_000L);
+    }
+
+    @Test
+    void everyTermMustStartATokenOfTheNameOrType() {
+        List<String> terms = AssetNameIndex.tokenize("dell xp");
+
+        assertThat(AssetNameIndex.matchesAll("Dell-XPS 13", "Laptop", terms)).isTrue();
+        assertThat(AssetNameIndex.matchesAll("Dell Latitude", "XPort", terms)).isTrue();
+        assertThat(AssetNameIndex.matchesAll("Dell Latitude", "Laptop", terms)).isFalse();
+        assertThat(AssetNameIndex.matchesAll("Modell XPS", "Laptop", terms)).isFalse();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.datamodels.entities.DepreciationMethod;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DepreciationPartitionProcessorTests {
+
+    private static final LocalDate PURCHASED = LocalDate.of(2020, 1, 1);
+
+    @Test
+    void decliningBalanceCompoundsPerFullYear() {
+        assertThat(decliningBalance("1000.00", "0.20", 12)).isEqualTo("200.00");
+        assertThat(decliningBalance("1000.00", "0.20", 24)).isEqualTo("360.00");
+    }
+
+    @Test
+    void decliningBalanceProratesTheCurrentYearByMonth() {
+        assertThat(decliningBalance("1000.00", "0.20", 30)).isEqualTo("424.00");
+        assertThat(decliningBalance("999.99", "0.15", 7)).isEqualTo("87.50");
+    }
+
+    @Test
+    void decliningBalanceNeverExceedsCost() {
+        assertThat(decliningBalance("1000.00", "1.00", 40)).isEqualTo("1000.00");
+    }
+
+    private static String decliningBalance(String cost, String rate, int months) {
+        return DepreciationPartitionProcessor.accumulatedDepreciation(DepreciationMethod.DECLINING_BALANCE,
+                new BigDecimal(cost), PURCHASED, PURCHASED.plusMonths(months), null, new BigDecimal(rate)).toPlainString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.ams.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportServiceImplTests {
+
+    @Test
+    void quotesCellsWithSeparatorsQuotesOrLineBreaks() throws IOException {
+        assertThat(cell("plain")).isEqualTo("plain");
+        assertThat(cell("a,b")).isEqualTo("\"a,b\"");
+        assertThat(cell("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(cell("two\nlines")).isEqualTo("\"two\nlines\"");
+        assertThat(cell(null)).isEmpty();
+    }
+
+    @Test
+    void neutralisesCellsThatWouldRunAsFormulas() throws IOException {
+        assertThat(cell("=SUM(A1:A2)")).isEqualTo("'=SUM(A1:A2)");
+        assertThat(cell("+1")).isEqualTo("'+1");
+        assertThat(cell("-2")).isEqualTo("'-2");
+        assertThat(cell("@cmd")).isEqualTo("'@cmd");
+        assertThat(cell("=HYPERLINK(\"x\",1)")).isEqualTo("\"'=HYPERLINK(\"\"x\"\",1)\"");
+        assertThat(cell("a=b")).isEqualTo("a=b");
+    }
+
+    private static String cell(String value) throws IOException {
+        StringWriter writer = new StringWriter();
+        ExportServiceImpl.writeCsvCell(writer, value);
+        return writer.toString();
+    }
+}
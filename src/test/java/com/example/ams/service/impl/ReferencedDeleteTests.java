@@ -0,0 +1,115 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.dao.AssetRepository;
+import com.example.ams.dao.CategoryRepository;
+import com.example.ams.dao.TransactionRepository;
+import com.example.ams.dao.UserRepository;
+import com.example.ams.datamodels.entities.Asset;
+import com.example.ams.datamodels.entities.Category;
+import com.example.ams.datamodels.entities.Role;
+import com.example.ams.datamodels.entities.Transaction;
+import com.example.ams.datamodels.entities.TransactionType;
+import com.example.ams.datamodels.entities.User;
+import com.example.ams.exceptionhandling.ResourceConflict;
+import com.example.ams.service.AssetService;
+import com.example.ams.service.CategoryService;
+import com.example.ams.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferencedDeleteTests {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private User owner;
+    private Category category;
+    private Asset asset;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        owner = new User();
+        owner.setName("Delete Owner");
+        owner.setEmail(prefix + "@example.com");
+        owner.setPassword("secret");
+        owner.setRole(Role.USER);
+        owner = userRepository.save(owner);
+
+        category = new Category();
+        category.setName("Delete " + prefix);
+        category.setDescription("Description");
+        category = categoryRepository.save(category);
+
+        asset = new Asset();
+        asset.setName("Delete " + prefix);
+        asset.setType("Laptop");
+        asset.setValue(new BigDecimal("100.00"));
+        asset.setPurchaseDate(LocalDate.of(2024, 1, 1));
+        asset.setOwner(owner);
+        asset.setCategory(category);
+        asset = assetRepository.save(asset);
+    }
+
+    @Test
+    void rowsThatAreStillReferencedAreConflictsAndStay() {
+        Transaction transaction = new Transaction();
+        transaction.setAsset(asset);
+        transaction.setTransactionType(TransactionType.PURCHASE);
+        transaction.setAmount(100.0);
+        transaction.setTransactionDate(LocalDate.of(2024, 1, 1));
+        transactionRepository.save(transaction);
+
+        assertThatThrownBy(() -> assetService.deleteAsset(asset.getId().toString()))
+                .isInstanceOf(ResourceConflict.class);
+        assertThatThrownBy(() -> categoryService.deleteCategory(category.getId().toString()))
+                .isInstanceOf(ResourceConflict.class);
+        assertThatThrownBy(() -> userService.deleteUser(owner.getId().toString()))
+                .isInstanceOf(ResourceConflict.class);
+
+        assertThat(assetRepository.existsById(asset.getId())).isTrue();
+        assertThat(categoryRepository.existsById(category.getId())).isTrue();
+        assertThat(userRepository.existsById(owner.getId())).isTrue();
+    }
+
+    @Test
+    void unreferencedRowsAreDeleted() {
+        assetService.deleteAsset(asset.getId().toString());
+        categoryService.deleteCategory(category.getId().toString());
+        userService.deleteUser(owner.getId().toString());
+
+        assertThat(assetRepository.existsById(asset.getId())).isFalse();
+        assertThat(categoryRepository.existsById(category.getId())).isFalse();
+        assertThat(userRepository.existsById(owner.getId())).isFalse();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.ams.service.impl;
+
+import com.example.ams.exceptionhandling.InvalidRequest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionServiceImplTests {
+
+    @Test
+    void acceptsAmountsWithAtMostTwoDecimals() {
+        assertThat(TransactionServiceImpl.parseAmount(" 12.5 ")).isEqualTo(12.5);
+        assertThat(TransactionServiceImpl.parseAmount("0.10")).isEqualTo(0.1);
+        assertThat(TransactionServiceImpl.parseAmount("1.2300")).isEqualTo(1.23);
+        assertThat(TransactionServiceImpl.parseAmount("9999999999999.99")).isEqualTo(9999999999999.99);
+        assertThat(TransactionServiceImpl.checkAmount(new BigDecimal("1E+3"))).isEqualTo(1000.0);
+    }
+
+    @Test
+    void rejectsAmountsThatAreNotFiniteMoney() {
+        assertThatThrownBy(() -> TransactionServiceImpl.parseAmount("NaN")).isInstanceOf(InvalidRequest.class);
+        assertThatThrownBy(() -> TransactionServiceImpl.parseAmount("Infinity")).isInstanceOf(InvalidRequest.class);
+        assertThatThrownBy(() -> TransactionServiceImpl.parseAmount("1e400")).isInstanceOf(InvalidRequest.class);
+        assertThatThrownBy(() -> TransactionServiceImpl.parseAmount("10000000000000")).isInstanceOf(InvalidRequest.class);
+        assertThatThrownBy(() -> TransactionServiceImpl.parseAmount("0.005")).isInstanceOf(InvalidRequest.class);
+        assertThatThrownBy(() -> TransactionServiceImpl.checkAmount(new BigDecimal("1.001"))).isInstanceOf(InvalidRequest.class);
+    }
+}